@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.dexecutor.core.graph.CyclicValidator;
+import com.github.dexecutor.core.graph.Dag;
+import com.github.dexecutor.core.graph.DefaultDag;
+import com.github.dexecutor.core.graph.LevelOrderTraversar;
+import com.github.dexecutor.core.graph.Node;
+import com.github.dexecutor.core.graph.TraversarAction;
+
+/**
+ * Measures validating and traversing a {@code DefaultDag} of the given shape and size. Validators and traversars keep state, so a new
+ * one is created for every operation.
+ */
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx8g", "-Xss512m"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GraphAnalysisBenchmark {
+
+	@Param({"CHAIN", "FAN_OUT", "DIAMOND_LATTICE", "RANDOM_LAYERED"})
+	private GraphShape shape;
+
+	@Param({"1000", "100000", "1000000"})
+	private int size;
+
+	private Dag<Integer, Integer> graph;
+
+	@Setup(Level.Trial)
+	public void buildGraph() {
+		this.graph = new DefaultDag<Integer, Integer>();
+		this.shape.build(this.graph, this.size);
+	}
+
+	@Benchmark
+	public void validate() {
+		new CyclicValidator<Integer, Integer>().validate(this.graph);
+	}
+
+	@Benchmark
+	public void levelOrderTraverse(final Blackhole blackhole) {
+		new LevelOrderTraversar<Integer, Integer>().traverse(this.graph, new TraversarAction<Integer, Integer>() {
+
+			@Override
+			public void onNewPath(final int pathNumber) {
+				blackhole.consume(pathNumber);
+			}
+
+			@Override
+			public void onNewLevel(final int levelNumber) {
+				blackhole.consume(levelNumber);
+			}
+
+			@Override
+			public void onNode(final Node<Integer, Integer> node) {
+				blackhole.consume(node);
+			}
+		});
+	}
+}
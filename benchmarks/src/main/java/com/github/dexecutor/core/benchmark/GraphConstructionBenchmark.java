@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.dexecutor.core.graph.Dag;
+import com.github.dexecutor.core.graph.DefaultDag;
+
+/**
+ * Measures building a {@code DefaultDag} of the given shape and size through {@code addDependency}, and adding one node after all the
+ * leaf nodes of such a graph through {@code addAsDependentOnAllLeafNodes}.
+ */
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class GraphConstructionBenchmark {
+
+	@Param({"CHAIN", "FAN_OUT", "DIAMOND_LATTICE", "RANDOM_LAYERED"})
+	private GraphShape shape;
+
+	@Param({"1000", "100000", "1000000"})
+	private int size;
+
+	private Dag<Integer, Integer> graph;
+
+	@Setup(Level.Iteration)
+	public void buildGraph() {
+		this.graph = new DefaultDag<Integer, Integer>();
+		this.shape.build(this.graph, this.size);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	public Dag<Integer, Integer> addDependency() {
+		Dag<Integer, Integer> dag = new DefaultDag<Integer, Integer>();
+		this.shape.build(dag, this.size);
+		return dag;
+	}
+
+	/**
+	 * Every iteration works on a freshly built graph, as the call leaves only one leaf node behind.
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 5)
+	@Measurement(iterations = 10)
+	public Dag<Integer, Integer> addAsDependentOnAllLeafNodes() {
+		this.graph.addAsDependentOnAllLeafNodes(this.size);
+		return this.graph;
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.benchmark;
+
+import java.util.Random;
+
+import com.github.dexecutor.core.graph.DependencyAware;
+
+/**
+ * Generated graph shapes used by the benchmarks, node ids run from {@code 0} to {@code size - 1}
+ */
+public enum GraphShape {
+	/**
+	 * Every node depends on the previous one
+	 */
+	CHAIN {
+		@Override
+		public void build(final DependencyAware<Integer> graph, final int size) {
+			graph.addIndependent(0);
+			for (int i = 1; i < size; i++) {
+				graph.addDependency(i - 1, i);
+			}
+		}
+	},
+	/**
+	 * Every node depends on the first one
+	 */
+	FAN_OUT {
+		@Override
+		public void build(final DependencyAware<Integer> graph, final int size) {
+			graph.addIndependent(0);
+			for (int i = 1; i < size; i++) {
+				graph.addDependency(0, i);
+			}
+		}
+	},
+	/**
+	 * Square grid in which every node depends on the node above it and the one above and to the left of it
+	 */
+	DIAMOND_LATTICE {
+		@Override
+		public void build(final DependencyAware<Integer> graph, final int size) {
+			int width = width(size);
+			for (int i = 0; i < size; i++) {
+				int row = i / width;
+				int column = i % width;
+				if (row == 0) {
+					graph.addIndependent(i);
+				} else {
+					graph.addDependency(i - width, i);
+					if (column > 0) {
+						graph.addDependency(i - width - 1, i);
+					}
+				}
+			}
+		}
+	},
+	/**
+	 * Layers of equal width, every node depends on one to three random nodes of the previous layer, always the same for a given size
+	 */
+	RANDOM_LAYERED {
+		@Override
+		public void build(final DependencyAware<Integer> graph, final int size) {
+			Random random = new Random(size);
+			int width = width(size);
+			for (int i = 0; i < size; i++) {
+				int layerStart = i - i % width;
+				if (layerStart == 0) {
+					graph.addIndependent(i);
+				} else {
+					int parents = 1 + random.nextInt(3);
+					for (int p = 0; p < parents; p++) {
+						graph.addDependency(layerStart - width + random.nextInt(width), i);
+					}
+				}
+			}
+		}
+	};
+
+	/**
+	 * Adds the nodes and edges of this shape to the given graph
+	 * 
+	 * @param graph the graph to build
+	 * @param size number of nodes
+	 */
+	public abstract void build(final DependencyAware<Integer> graph, final int size);
+
+	private static int width(final int size) {
+		return Math.max(1, (int) Math.sqrt(size));
+	}
+}
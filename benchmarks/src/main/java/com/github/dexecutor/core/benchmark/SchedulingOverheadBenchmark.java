@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.benchmark;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import com.github.dexecutor.core.DefaultDexecutor;
+import com.github.dexecutor.core.DexecutorConfig;
+import com.github.dexecutor.core.Duration;
+import com.github.dexecutor.core.ExecutionConfig;
+import com.github.dexecutor.core.graph.Node;
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskProvider;
+
+/**
+ * Measures what {@code DefaultDexecutor} and {@code DefaultExecutionEngine} cost per task, apart from the work of the task itself.
+ * Graphs of no-op or micro-sleep tasks are executed for every execution behaviour and pool size from one thread up to the maximum,
+ * doubling each time. For every combination it records tasks per second and percentiles of the coordination latency, which is the time
+ * from the end of the last parent of a task (or from the start of the execution for root tasks) to the start of the task. Results are
+ * appended as CSV rows, so that runs of different releases can be compared.
+ * <p>
+ * Arguments are {@code key=value} pairs, all optional:
+ * <ul>
+ * <li><code>nodes</code> number of tasks in the graph, defaults to 10000</li>
+ * <li><code>shape</code> one of {@code GraphShape}, defaults to RANDOM_LAYERED</li>
+ * <li><code>maxThreads</code> largest pool size, defaults to the number of processors</li>
+ * <li><code>warmups</code> runs discarded for each combination, defaults to 3</li>
+ * <li><code>runs</code> runs measured for each combination, defaults to 5</li>
+ * <li><code>sleepMicros</code> duration of a micro-sleep task, defaults to 50</li>
+ * <li><code>failEvery</code> with retrying behaviours, the first attempt of every n-th task fails, defaults to 100</li>
+ * <li><code>label</code> first column of every row, such as the version under test, defaults to dev</li>
+ * <li><code>out</code> CSV file to append to, defaults to scheduling-overhead.csv</li>
+ * </ul>
+ */
+public final class SchedulingOverheadBenchmark {
+
+	private static final String HEADER = "label,shape,nodes,behavior,task,threads,runs,tasksPerSecond,p50Micros,p90Micros,p99Micros,p999Micros,maxMicros";
+
+	private final int nodes;
+	private final GraphShape shape;
+	private final int maxThreads;
+	private final int warmups;
+	private final int runs;
+	private final long sleepNanos;
+	private final int failEvery;
+	private final String label;
+
+	private SchedulingOverheadBenchmark(final Map<String, String> args) {
+		this.nodes = Integer.parseInt(arg(args, "nodes", "10000"));
+		this.shape = GraphShape.valueOf(arg(args, "shape", GraphShape.RANDOM_LAYERED.name()));
+		this.maxThreads = Integer.parseInt(arg(args, "maxThreads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+		this.warmups = Integer.parseInt(arg(args, "warmups", "3"));
+		this.runs = Integer.parseInt(arg(args, "runs", "5"));
+		this.sleepNanos = TimeUnit.MICROSECONDS.toNanos(Long.parseLong(arg(args, "sleepMicros", "50")));
+		this.failEvery = Integer.parseInt(arg(args, "failEvery", "100"));
+		this.label = arg(args, "label", "dev");
+	}
+
+	public static void main(final String[] args) throws IOException {
+		Map<String, String> arguments = parse(args);
+		SchedulingOverheadBenchmark benchmark = new SchedulingOverheadBenchmark(arguments);
+		File out = new File(arg(arguments, "out", "scheduling-overhead.csv"));
+		boolean newFile = !out.exists() || out.length() == 0;
+		PrintWriter writer = new PrintWriter(new FileWriter(out, true));
+		try {
+			if (newFile) {
+				writer.println(HEADER);
+			}
+			System.out.println(HEADER);
+			benchmark.run(writer);
+		} finally {
+			writer.close();
+		}
+	}
+
+	private void run(final PrintWriter writer) {
+		for (Behavior behavior : Behavior.values()) {
+			for (TaskKind kind : TaskKind.values()) {
+				for (int threads : threadCounts()) {
+					String row = measure(behavior, kind, threads);
+					writer.println(row);
+					writer.flush();
+					System.out.println(row);
+				}
+			}
+		}
+	}
+
+	private List<Integer> threadCounts() {
+		List<Integer> counts = new ArrayList<Integer>();
+		for (int threads = 1; threads < this.maxThreads; threads *= 2) {
+			counts.add(threads);
+		}
+		counts.add(this.maxThreads);
+		return counts;
+	}
+
+	private String measure(final Behavior behavior, final TaskKind kind, final int threads) {
+		for (int i = 0; i < this.warmups; i++) {
+			execute(behavior, kind, threads);
+		}
+		long totalNanos = 0;
+		long[] latencies = new long[this.nodes * this.runs];
+		for (int i = 0; i < this.runs; i++) {
+			Run run = execute(behavior, kind, threads);
+			totalNanos += run.elapsedNanos;
+			System.arraycopy(run.latencies, 0, latencies, i * this.nodes, this.nodes);
+		}
+		Arrays.sort(latencies);
+		double tasksPerSecond = (double) this.nodes * this.runs * TimeUnit.SECONDS.toNanos(1) / totalNanos;
+		return String.format(Locale.ROOT, "%s,%s,%d,%s,%s,%d,%d,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f", this.label, this.shape, this.nodes, behavior,
+				kind, threads, this.runs, tasksPerSecond, micros(latencies, 0.5), micros(latencies, 0.9), micros(latencies, 0.99),
+				micros(latencies, 0.999), micros(latencies, 1.0));
+	}
+
+	private static double micros(final long[] sorted, final double percentile) {
+		int index = (int) Math.ceil(percentile * sorted.length) - 1;
+		return sorted[Math.max(0, index)] / 1000.0;
+	}
+
+	private Run execute(final Behavior behavior, final TaskKind kind, final int threads) {
+		ExecutorService executorService = Executors.newFixedThreadPool(threads);
+		try {
+			TimingTaskProvider taskProvider = new TimingTaskProvider(kind, behavior.retrying ? this.failEvery : 0);
+			DexecutorConfig<Integer, Integer> config = new DexecutorConfig<Integer, Integer>(executorService, taskProvider);
+			DefaultDexecutor<Integer, Integer> executor = new DefaultDexecutor<Integer, Integer>(config);
+			this.shape.build(executor, this.nodes);
+
+			long start = System.nanoTime();
+			executor.execute(behavior.config);
+			long elapsed = System.nanoTime() - start;
+
+			return new Run(elapsed, taskProvider.latencies(config, start));
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private static Map<String, String> parse(final String[] args) {
+		Map<String, String> result = new HashMap<String, String>();
+		for (String arg : args) {
+			int separator = arg.indexOf('=');
+			if (separator <= 0) {
+				throw new IllegalArgumentException("Arguments should be key=value pairs, found " + arg);
+			}
+			result.put(arg.substring(0, separator), arg.substring(separator + 1));
+		}
+		return result;
+	}
+
+	private static String arg(final Map<String, String> args, final String key, final String defaultValue) {
+		String value = args.get(key);
+		return value != null ? value : defaultValue;
+	}
+
+	private enum Behavior {
+		TERMINATING(ExecutionConfig.TERMINATING, false),
+		NON_TERMINATING(ExecutionConfig.NON_TERMINATING, false),
+		IMMEDIATE_RETRYING(new ExecutionConfig().immediateRetrying(2), true),
+		SCHEDULED_RETRYING(new ExecutionConfig().scheduledRetrying(2, new Duration(1, TimeUnit.MILLISECONDS)), true);
+
+		private final ExecutionConfig config;
+		private final boolean retrying;
+
+		private Behavior(final ExecutionConfig config, final boolean retrying) {
+			this.config = config;
+			this.retrying = retrying;
+		}
+	}
+
+	private enum TaskKind {
+		NO_OP, MICRO_SLEEP;
+	}
+
+	private static final class Run {
+
+		private final long elapsedNanos;
+		private final long[] latencies;
+
+		Run(final long elapsedNanos, final long[] latencies) {
+			this.elapsedNanos = elapsedNanos;
+			this.latencies = latencies;
+		}
+	}
+
+	private final class TimingTaskProvider implements TaskProvider<Integer, Integer> {
+
+		private final TaskKind kind;
+		private final int failEvery;
+		private final long[] starts = new long[nodes];
+		private final long[] ends = new long[nodes];
+		private final boolean[] failed = new boolean[nodes];
+
+		TimingTaskProvider(final TaskKind kind, final int failEvery) {
+			this.kind = kind;
+			this.failEvery = failEvery;
+		}
+
+		@Override
+		public Task<Integer, Integer> provideTask(final Integer id) {
+			return new Task<Integer, Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				public Integer execute() {
+					starts[id] = System.nanoTime();
+					if (failEvery > 0 && id % failEvery == 0 && !failed[id]) {
+						failed[id] = true;
+						throw new IllegalStateException("First attempt of task " + id + " fails");
+					}
+					if (kind == TaskKind.MICRO_SLEEP) {
+						LockSupport.parkNanos(sleepNanos);
+					}
+					ends[id] = System.nanoTime();
+					return id;
+				}
+			};
+		}
+
+		/**
+		 * Executor threads hand results over to the coordinator through the completion queue, so the timestamps are visible once the
+		 * execution is over.
+		 */
+		long[] latencies(final DexecutorConfig<Integer, Integer> config, final long executionStart) {
+			long[] latencies = new long[nodes];
+			for (int id = 0; id < nodes; id++) {
+				long ready = executionStart;
+				for (Node<Integer, Integer> parent : config.getDexecutorState().getGraphNode(id).getInComingNodes()) {
+					ready = Math.max(ready, this.ends[parent.getValue()]);
+				}
+				latencies[id] = Math.max(0, this.starts[id] - ready);
+			}
+			return latencies;
+		}
+	}
+}
@@ -17,28 +17,57 @@
 
 package com.github.dexecutor.core;
 
+import static com.github.dexecutor.core.support.Preconditions.checkArgument;
+import static com.github.dexecutor.core.support.Preconditions.checkNotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.github.dexecutor.core.cache.FingerprintUtil;
+import com.github.dexecutor.core.cache.ResultCache;
+import com.github.dexecutor.core.event.ExecutionEventType;
+import com.github.dexecutor.core.event.ExecutionEvents;
+import com.github.dexecutor.core.event.ExecutionListener;
+import com.github.dexecutor.core.graph.CriticalPath;
+import com.github.dexecutor.core.graph.DagUtil;
 import com.github.dexecutor.core.graph.Node;
 import com.github.dexecutor.core.graph.Traversar;
 import com.github.dexecutor.core.graph.TraversarAction;
 import com.github.dexecutor.core.graph.Validator;
+import com.github.dexecutor.core.metrics.ExecutionMetrics;
+import com.github.dexecutor.core.store.ResultStore;
+import com.github.dexecutor.core.task.Channel;
+import com.github.dexecutor.core.task.DataFlowTask;
 import com.github.dexecutor.core.task.ExecutionResult;
 import com.github.dexecutor.core.task.ExecutionResults;
 import com.github.dexecutor.core.task.ExecutionStatus;
+import com.github.dexecutor.core.task.StreamingTask;
 import com.github.dexecutor.core.task.Task;
 import com.github.dexecutor.core.task.TaskFactory;
 import com.github.dexecutor.core.task.TaskProvider;
+import com.github.dexecutor.core.trace.ExecutionTrace;
 
 /**
  * Default implementation of @Dexecutor
@@ -57,8 +86,84 @@ public class DefaultDexecutor <T extends Comparable<T>, R> implements Dexecutor<
 	private final Validator<T, R> validator;
 	private final TaskProvider<T, R> taskProvider;
 	private final ExecutionEngine<T, R> executionEngine;
-	private final ExecutorService immediatelyRetryExecutor;
-	private final ScheduledExecutorService scheduledRetryExecutor;
+	private final int immediateRetryPoolThreadsCount;
+	private final int scheduledRetryPoolThreadsCount;
+	private ExecutorService immediatelyRetryExecutor;
+	private ScheduledExecutorService scheduledRetryExecutor;
+	private final ResultCache<T, R> resultCache;
+	private final Map<T, String> fingerprints = new ConcurrentHashMap<T, String>();
+	/**
+	 * Nodes which should be processed in the current run, {@code null} if all the nodes should be processed
+	 */
+	private volatile Set<Node<T, R>> scope;
+	private final boolean chainFusionEnabled;
+	/**
+	 * Chains in flight, keyed by the head node, and the nodes fused into them, both accessed only by the coordinator
+	 */
+	private final Map<T, FusedChainTask> fusedChains = new HashMap<T, FusedChainTask>();
+	private final Set<Node<T, R>> fusedNodes = new HashSet<Node<T, R>>();
+	/**
+	 * Drops intermediate results once they are not needed, {@code null} if results should be kept
+	 */
+	private final ResultReleaser<T, R> resultReleaser;
+	/**
+	 * Where results are kept, {@code null} if results are kept on the heap
+	 */
+	private final ResultStore<T, R> resultStore;
+	/**
+	 * Graph expansions recorded by running tasks, keyed by the node of the task, applied once the task is done
+	 */
+	private final Map<T, GraphExpansion<T, R>> expansions = new ConcurrentHashMap<T, GraphExpansion<T, R>>();
+	/**
+	 * Capacity of the channel of each streaming edge, keyed by producer and then by consumer
+	 */
+	private final Map<T, Map<T, Integer>> streamingEdges = new HashMap<T, Map<T, Integer>>();
+	/**
+	 * Consumers started along with their producers and not yet done, accessed only by the coordinator
+	 */
+	private final Set<Node<T, R>> streamingNodes = new HashSet<Node<T, R>>();
+	/**
+	 * Results found in the result cache, processed by the coordinator loop along with the results of executed tasks, so that a long
+	 * chain of cached nodes does not recurse once per node
+	 */
+	private final Queue<ExecutionResult<T, R>> cachedResults = new ArrayDeque<ExecutionResult<T, R>>();
+	/**
+	 * Parents whose edges were removed by transitive reduction, kept so that children still see their results
+	 */
+	private final Map<Node<T, R>, Set<Node<T, R>>> reducedParents = new HashMap<Node<T, R>, Set<Node<T, R>>>();
+	/**
+	 * Publishes execution events to listeners, {@code null} if there are no listeners
+	 */
+	private final ExecutionEvents<T> events;
+	/**
+	 * Metrics to which latencies are recorded, {@code null} if there are no metrics
+	 */
+	private final ExecutionMetrics<T> metrics;
+	/**
+	 * Submit time and task group of nodes submitted for execution, kept only when there are metrics
+	 */
+	private final Map<T, SubmitMark> submitMarks = new HashMap<T, SubmitMark>();
+	/**
+	 * Trace to which the timeline is recorded, {@code null} if there is no trace
+	 */
+	private final ExecutionTrace<T> trace;
+	/**
+	 * Counts of nodes by state, read by any thread while the execution goes
+	 */
+	private final ProgressTracker progress = new ProgressTracker();
+	/**
+	 * Time the last run began, nodes which started earlier were kept from a previous run
+	 */
+	private volatile long runStartTime = Long.MIN_VALUE;
+	/**
+	 * MBean registered while executing, {@code null} if there is no JMX name
+	 */
+	private final DexecutorMonitor<T, R> monitor;
+	/**
+	 * Time the coordinator spent waiting for results, measured only when there is an MBean
+	 */
+	private volatile long coordinatorWaitTime;
+	private final AtomicInteger pendingScheduledRetries = new AtomicInteger();
 
 	private final DexecutorState<T, R> state;
 
@@ -69,19 +174,48 @@ public class DefaultDexecutor <T extends Comparable<T>, R> implements Dexecutor<
 	public DefaultDexecutor(final DexecutorConfig<T, R> config) {
 		config.validate();
 
-		this.immediatelyRetryExecutor = Executors.newFixedThreadPool(config.getImmediateRetryPoolThreadsCount());
-		this.scheduledRetryExecutor = Executors.newScheduledThreadPool(config.getScheduledRetryPoolThreadsCount());
+		this.immediateRetryPoolThreadsCount = config.getImmediateRetryPoolThreadsCount();
+		this.scheduledRetryPoolThreadsCount = config.getScheduledRetryPoolThreadsCount();
+		this.immediatelyRetryExecutor = Executors.newFixedThreadPool(this.immediateRetryPoolThreadsCount);
+		this.scheduledRetryExecutor = Executors.newScheduledThreadPool(this.scheduledRetryPoolThreadsCount);
 
 		this.executionEngine = config.getExecutorEngine();
 		this.validator = config.getValidator();
 		this.taskProvider = config.getTaskProvider();
 		this.state = config.getDexecutorState();
+		this.resultCache = config.getResultCache();
+		this.chainFusionEnabled = config.isChainFusionEnabled() && !this.executionEngine.isDistributed();
+		this.resultStore = this.executionEngine.isDistributed() ? null : config.getResultStore();
+		this.resultReleaser = config.isResultReleaseEnabled() ? new ResultReleaser<T, R>(this.resultStore) : null;
+		this.events = newExecutionEvents(config);
+		this.metrics = config.getExecutionMetrics();
+		this.trace = config.getExecutionTrace();
+		this.monitor = config.getJmxName() == null ? null : new DexecutorMonitor<T, R>(this, this.state, this.executionEngine, config.getJmxName());
+	}
+
+	private ExecutionEvents<T> newExecutionEvents(final DexecutorConfig<T, R> config) {
+		if (config.getExecutionListeners().isEmpty()) {
+			return null;
+		}
+		ExecutionEvents<T> executionEvents = new ExecutionEvents<T>(config.getEventBufferSize());
+		for (ExecutionListener<T> listener : config.getExecutionListeners()) {
+			executionEvents.addListener(listener);
+		}
+		return executionEvents;
 	}
 
 	public void print(final Traversar<T, R> traversar, final TraversarAction<T, R> action) {
 		this.state.print(traversar, action);
 	}
 
+	public ExecutionProgress getProgress() {
+		return this.progress.snapshot();
+	}
+
+	public CriticalPath<T> criticalPath() {
+		return DagUtil.criticalPath(this.state.allNodes(), this.runStartTime);
+	}
+
 	public void addIndependent(final T nodeValue) {
 		checkValidPhase();
 		this.state.addIndependent(nodeValue);
@@ -103,29 +237,156 @@ public class DefaultDexecutor <T extends Comparable<T>, R> implements Dexecutor<
 		this.state.addAsDependencyToAllInitialNodes(nodeValue);				
 	}
 
+	/**
+	 * Adds a streaming edge between the given nodes. If both are backed by {@code StreamingTask}s and the producer is the only parent of
+	 * the consumer, the consumer is started along with the producer and reads the items emitted by the producer through a channel of the
+	 * given capacity. In that case {@code shouldExecute} of the consumer is called with no parent results. Otherwise the edge behaves
+	 * like any other dependency and items emitted for the consumer are discarded. Retrying the producer does not replay its items, so
+	 * a consumer which errored while streaming is not retried and stays errored.
+	 * Stages of a stream run at the same time, so the executor service should have a thread for each of them.
+	 * 
+	 * @param producer the node emitting items
+	 * @param consumer the node consuming items
+	 * @param capacity maximum number of items in flight between the nodes
+	 */
+	public void addStreamingDependency(final T producer, final T consumer, final int capacity) {
+		checkValidPhase();
+		checkArgument(capacity > 0, "Capacity should be greater than ZERO");
+		this.state.addDependency(producer, consumer);
+		Map<T, Integer> consumers = this.streamingEdges.get(producer);
+		if (consumers == null) {
+			consumers = new LinkedHashMap<T, Integer>();
+			this.streamingEdges.put(producer, consumers);
+		}
+		consumers.put(consumer, capacity);
+	}
+
+	/**
+	 * Adds a barrier, so that every node in {@code evalLaterNodes} is evaluated after all the nodes in {@code evalFirstNodes}. This needs only
+	 * one edge per node, instead of one edge per pair of nodes. The barrier is never executed and is not reported among processed nodes;
+	 * parent results of the nodes after the barrier contain the nodes before it. More nodes can be wired to the barrier later through
+	 * {@code addDependency}.
+	 * 
+	 * @param barrier unique id of the barrier node
+	 * @param evalFirstNodes nodes which should be evaluated first
+	 * @param evalLaterNodes nodes which should be evaluated after all of {@code evalFirstNodes}
+	 */
+	public void addBarrier(final T barrier, final Collection<T> evalFirstNodes, final Collection<T> evalLaterNodes) {
+		checkValidPhase();
+		checkNotNull(evalFirstNodes, "Eval first nodes should not be null");
+		checkNotNull(evalLaterNodes, "Eval later nodes should not be null");
+		this.state.addBarrier(barrier);
+		for (T evalFirstNode : evalFirstNodes) {
+			this.state.addDependency(evalFirstNode, barrier);
+		}
+		for (T evalLaterNode : evalLaterNodes) {
+			this.state.addDependency(barrier, evalLaterNode);
+		}
+	}
+
+	/**
+	 * Removes every edge implied by another path, for example {@code A->C} when {@code A->B->C} exists. Execution order stays the same,
+	 * while readiness checks and parent results have fewer nodes to go through. The reduction needs a bitset of descendants for
+	 * every node which is still to be visited, so it is best done once the graph is fully built.
+	 * 
+	 * @param keepParentResults {@code true} if nodes should still get the results of the removed parents in {@code shouldExecute},
+	 * 			{@code false} if only the remaining parents should be reported
+	 * @return the number of edges removed
+	 */
+	public int reduceTransitiveEdges(final boolean keepParentResults) {
+		checkValidPhase();
+		Map<Node<T, R>, Set<Node<T, R>>> removed = DagUtil.transitiveReduction(this.state.allNodes());
+		int count = 0;
+		for (Map.Entry<Node<T, R>, Set<Node<T, R>>> entry : removed.entrySet()) {
+			count += entry.getValue().size();
+			if (keepParentResults) {
+				keepReducedParents(entry.getKey(), entry.getValue());
+			}
+		}
+		logger.debug("Transitive reduction removed {} edges", count);
+		return count;
+	}
+
+	private void keepReducedParents(final Node<T, R> node, final Set<Node<T, R>> parents) {
+		Set<Node<T, R>> kept = this.reducedParents.get(node);
+		if (kept == null) {
+			kept = new LinkedHashSet<Node<T, R>>();
+			this.reducedParents.put(node, kept);
+		}
+		kept.addAll(parents);
+		if (this.resultReleaser != null) {
+			for (Node<T, R> parent : parents) {
+				this.resultReleaser.keepForChild(parent, node);
+			}
+		}
+	}
+
+	/**
+	 * Keeps the result of the given node till the end, even if intermediate results are released
+	 * 
+	 * @param nodeValue id of the node whose result should be kept
+	 */
+	public void pinResult(final T nodeValue) {
+		throwExceptionIfRunning();
+		if (this.resultReleaser != null) {
+			this.resultReleaser.pin(nodeValue);
+		}
+	}
+
 	@Override
 	public void recoverExecution(final ExecutionConfig config) {
 		if (Phase.TERMINATED.equals(this.state.getCurrentPhase())) {
 			throw new IllegalStateException("Can't recover terminated dexecutor");		
 		} else {	
 			logger.debug("Recovering Dexecutor.");
-			doWaitForExecution(config);
-			doExecute(this.state.getNonProcessedRootNodes(), config);
-			doWaitForExecution(config);
+			beginRun();
+			try {
+				doWaitForExecution(config);
+				doExecute(this.state.getNonProcessedRootNodes(), config);
+				doWaitForExecution(config);
+			} finally {
+				endRun();
+			}
 			logger.debug("Processed Nodes Ordering {}", this.state.getProcessedNodes());
 		}
 	}
 
 	public void execute(final ExecutionConfig config) {
 		validate(config);
+		run(config, this.state.getInitialNodes(), null);
+	}
 
-		this.state.setCurrentPhase(Phase.RUNNING);
+	@Override
+	public void execute(final Collection<T> goalNodes, final ExecutionConfig config) {
+		validate(config);
+
+		Set<Node<T, R>> requiredNodes = DagUtil.ancestorsOf(graphNodes(goalNodes));
+		logger.debug("Executing {} nodes required by goal nodes {}", requiredNodes.size(), goalNodes);
+
+		Set<Node<T, R>> initialNodes = new LinkedHashSet<Node<T, R>>();
+		for (Node<T, R> node : requiredNodes) {
+			if (node.getInComingNodes().isEmpty()) {
+				initialNodes.add(node);
+			}
+		}
+		run(config, initialNodes, requiredNodes);
+	}
 
-		Set<Node<T, R>> initialNodes = this.state.getInitialNodes();
+	private void run(final ExecutionConfig config, final Set<Node<T, R>> nodes, final Set<Node<T, R>> scope) {
+		this.scope = scope;
+		this.fusedChains.clear();
+		this.fusedNodes.clear();
+		this.expansions.clear();
+		this.streamingNodes.clear();
+		this.cachedResults.clear();
+		if (this.resultReleaser != null) {
+			this.resultReleaser.reset(scope);
+		}
+		this.state.setCurrentPhase(Phase.RUNNING);
 
 		long start = new Date().getTime();
 
-		doProcessNodes(config, initialNodes);
+		doProcessNodes(config, nodes);
 		shutdownExecutors();
 
 		long end = new Date().getTime();
@@ -134,6 +395,61 @@ public class DefaultDexecutor <T extends Comparable<T>, R> implements Dexecutor<
 
 		logger.debug("Total Time taken to process {} jobs is {} ms.", this.state.graphSize(), end - start);
 		logger.debug("Processed Nodes Ordering {}", this.state.getProcessedNodes());
+		if (this.resultCache != null) {
+			logger.debug("Result cache {}", this.resultCache.getStats());
+		}
+	}
+
+	@Override
+	public void executeIncrementally(final Collection<T> dirtyNodes, final ExecutionConfig config) {
+		if (Phase.BUILDING.equals(this.state.getCurrentPhase())) {
+			execute(config);
+		} else {
+			config.validate();
+			throwExceptionIfRunning();
+			if (this.resultReleaser != null) {
+				throw new IllegalStateException("Incremental execution is not supported with result release enabled, "
+						+ "results of clean nodes were released by the previous execution");
+			}
+
+			Set<Node<T, R>> affectedNodes = DagUtil.descendantsOf(graphNodes(dirtyNodes));
+			logger.debug("Re-executing {} nodes affected by dirty nodes {}", affectedNodes.size(), dirtyNodes);
+			resetNodes(affectedNodes);
+			restartExecutorsIfShutdown();
+			run(config, affectedNodes, null);
+		}
+	}
+
+	private Collection<Node<T, R>> graphNodes(final Collection<T> ids) {
+		Collection<Node<T, R>> nodes = new ArrayList<Node<T, R>>(ids.size());
+		for (T id : ids) {
+			Node<T, R> node = this.state.getGraphNode(id);
+			checkNotNull(node, "Node " + id + " is not part of the graph");
+			nodes.add(node);
+		}
+		return nodes;
+	}
+
+	private void resetNodes(final Collection<Node<T, R>> nodes) {
+		for (Node<T, R> node : nodes) {
+			node.reset();
+			this.state.removeErrored(node.getValue());
+			this.fingerprints.remove(node.getValue());
+			if (this.resultStore != null) {
+				this.resultStore.release(node.getValue());
+			}
+		}
+		this.state.markProcessingUndone(nodes);
+		this.state.markDiscontinuedNodesProcessed();
+	}
+
+	private void restartExecutorsIfShutdown() {
+		if (this.immediatelyRetryExecutor.isShutdown()) {
+			this.immediatelyRetryExecutor = Executors.newFixedThreadPool(this.immediateRetryPoolThreadsCount);
+		}
+		if (this.scheduledRetryExecutor.isShutdown()) {
+			this.scheduledRetryExecutor = Executors.newScheduledThreadPool(this.scheduledRetryPoolThreadsCount);
+		}
 	}
 
 	private void shutdownExecutors() {
@@ -171,23 +487,148 @@ public class DefaultDexecutor <T extends Comparable<T>, R> implements Dexecutor<
 	}
 
 	private void doProcessNodes(final ExecutionConfig config, final Set<Node<T, R>> nodes) {
-		doExecute(nodes, config);
-		doWaitForExecution(config);	
+		beginRun();
+		try {
+			doExecute(nodes, config);
+			doWaitForExecution(config);
+		} finally {
+			endRun();
+		}
+	}
+
+	private void beginRun() {
+		this.runStartTime = System.nanoTime();
+		this.progress.begin(nodesToProcess());
+		this.coordinatorWaitTime = 0;
+		startEvents();
+		if (this.monitor != null) {
+			this.monitor.register();
+		}
+	}
+
+	private void endRun() {
+		stopEvents();
+		this.progress.end();
+		if (this.monitor != null) {
+			this.monitor.unregister();
+		}
+	}
+
+	int pendingScheduledRetryCount() {
+		return this.pendingScheduledRetries.get();
+	}
+
+	long coordinatorWaitTime() {
+		return this.coordinatorWaitTime;
+	}
+
+	private int nodesToProcess() {
+		int count = 0;
+		for (Node<T, R> node : this.state.allNodes()) {
+			if (!node.isBarrier() && node.isNotProcessed() && isInScope(node)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private void startEvents() {
+		if (this.events != null) {
+			this.events.start();
+		}
+	}
+
+	private void stopEvents() {
+		if (this.events != null) {
+			this.events.stop();
+		}
+	}
+
+	private void publish(final ExecutionEventType type, final T id) {
+		if (this.events != null) {
+			this.events.publish(type, id, null, System.nanoTime());
+		}
+	}
+
+	private void markSubmitted(final T id, final String group) {
+		publish(ExecutionEventType.SUBMITTED, id);
+		if (this.metrics != null) {
+			this.submitMarks.put(id, new SubmitMark(System.nanoTime(), group));
+		}
+	}
+
+	private void recordMetrics(final ExecutionResult<T, R> executionResult, final SubmitMark submitMark) {
+		if (this.metrics != null && executionResult.getEndTime() != 0) {
+			long queueWait = submitMark != null ? executionResult.getStartTime() - submitMark.time : -1;
+			long runTime = executionResult.getEndTime() - executionResult.getStartTime();
+			long coordinationTime = System.nanoTime() - executionResult.getEndTime();
+			this.metrics.record(executionResult.getId(), submitMark != null ? submitMark.group : null, queueWait, runTime, coordinationTime);
+		}
+	}
+
+	private void recordTrace(final ExecutionResult<T, R> executionResult, final Node<T, R> node, final long coordinationStart) {
+		if (this.trace != null) {
+			if (executionResult.getEndTime() != 0) {
+				List<T> parents = new ArrayList<T>();
+				for (Node<T, R> parent : ParentResults.parentNodes(node, this.reducedParents.get(node))) {
+					parents.add(parent.getValue());
+				}
+				this.trace.recordExecution(executionResult.getId(), parents, executionResult.getThread(), executionResult.getStatus(),
+						executionResult.getStartTime(), executionResult.getEndTime());
+			}
+			this.trace.recordCoordination(executionResult.getId(), coordinationStart, System.nanoTime());
+		}
+	}
+
+	private void publishExecution(final ExecutionResult<T, R> executionResult) {
+		if (this.events != null) {
+			long endTime = executionResult.getEndTime() != 0 ? executionResult.getEndTime() : System.nanoTime();
+			if (executionResult.getStartTime() != 0) {
+				this.events.publish(ExecutionEventType.STARTED, executionResult.getId(), null, executionResult.getStartTime());
+			}
+			this.events.publish(ExecutionEventType.FINISHED, executionResult.getId(), executionResult.getStatus(), endTime);
+		}
 	}
 
 	private void doExecute(final Collection<Node<T, R>> nodes, final ExecutionConfig config) {
 		for (Node<T, R> node : nodes) {
 			forceStopIfRequired();
-			if (this.state.shouldProcess(node)) {				
-				Task<T, R> task = newTask(config, node);
+			if (!isInScope(node)) {
+				logger.debug("node {} is not required by goal nodes", node.getValue());
+			} else if (this.fusedNodes.contains(node)) {
+				logger.debug("node {} is fused into the chain of {}", node.getValue(), node.getInComingNodes());
+			} else if (this.streamingNodes.contains(node)) {
+				logger.debug("node {} is streaming from {}", node.getValue(), node.getInComingNodes());
+			} else if (node.isBarrier()) {
+				passBarrier(config, node);
+			} else if (this.state.shouldProcess(node)) {
+				if (node.isNotProcessed()) {
+					publish(ExecutionEventType.READY, node.getValue());
+				}
+				Task<T, R> task = provideTask(config, node);
 				if (node.isNotProcessed() && shouldExecute(node, task)) {					
 					this.state.incrementUnProcessedNodesCount();
-					logger.debug("Going to schedule {} node", node.getValue());
-					this.executionEngine.submit(task);
+					this.progress.submitted();
+					ExecutionResult<T, R> cachedResult = cachedResult(node);
+					if (cachedResult != null) {
+						logger.debug("Using cached result for node {}", node.getValue());
+						this.cachedResults.add(cachedResult);
+					} else {
+						logger.debug("Going to schedule {} node", node.getValue());
+						Map<Node<T, R>, Task<T, R>> consumers = connectStreams(config, node, task);
+						Task<T, R> worker = fuseChain(config, node, newWorker(task));
+						markSubmitted(node.getValue(), task.getGroup());
+						this.executionEngine.submit(worker);
+						startConsumers(config, consumers);
+					}
 				} else if (node.isNotProcessed()){
 					node.setSkipped();
+					publish(ExecutionEventType.SKIPPED, node.getValue());
+					this.progress.skipped();
+					FlightRecorder.skipped(node.getValue());
 					logger.debug("Execution Skipped for node # {} ", node.getValue());
 					this.state.markProcessingDone(node);
+					releaseParentResults(node);
 					doExecute(node.getOutGoingNodes(), config);
 				}
 			} else {
@@ -196,22 +637,112 @@ public class DefaultDexecutor <T extends Comparable<T>, R> implements Dexecutor<
 		}
 	}
 
+	private void passBarrier(final ExecutionConfig config, final Node<T, R> barrier) {
+		if (this.state.shouldProcess(barrier) && barrier.isNotProcessed()) {
+			logger.debug("Passing barrier {}", barrier.getValue());
+			barrier.setSuccess();
+			this.state.markProcessingDone(barrier);
+			doExecute(barrier.getOutGoingNodes(), config);
+		} else {
+			logger.debug("barrier {} waits for {}", barrier.getValue(), barrier.getInComingNodes());
+		}
+	}
+
+	private Map<Node<T, R>, Task<T, R>> connectStreams(final ExecutionConfig config, final Node<T, R> node, final Task<T, R> task) {
+		Map<T, Integer> consumers = this.streamingEdges.get(node.getValue());
+		if (consumers == null || this.executionEngine.isDistributed()) {
+			return Collections.emptyMap();
+		}
+		Map<Node<T, R>, Task<T, R>> result = new LinkedHashMap<Node<T, R>, Task<T, R>>();
+		for (Map.Entry<T, Integer> entry : consumers.entrySet()) {
+			Node<T, R> consumer = this.state.getGraphNode(entry.getKey());
+			Task<T, R> consumerTask = task instanceof StreamingTask && canStreamTo(node, consumer) ? provideTask(config, consumer) : null;
+			if (consumerTask instanceof StreamingTask
+					&& consumerTask.shouldExecute(new ExecutionResults<T, R>())) {
+				Channel<Object> channel = new Channel<Object>(entry.getValue());
+				((StreamingTask<T, R>) task).addOutput(consumer.getValue(), channel);
+				((StreamingTask<T, R>) consumerTask).addInput(node.getValue(), channel);
+				result.put(consumer, consumerTask);
+			} else {
+				logger.debug("node {} can't stream from {}", consumer.getValue(), node.getValue());
+			}
+		}
+		return result;
+	}
+
+	private boolean canStreamTo(final Node<T, R> producer, final Node<T, R> consumer) {
+		return isInScope(consumer) && consumer.isNotProcessed() && !consumer.isBarrier() && consumer.getInComingNodes().size() == 1
+				&& consumer.getInComingNodes().contains(producer)
+				&& !this.streamingNodes.contains(consumer) && !this.fusedNodes.contains(consumer);
+	}
+
+	private void startConsumers(final ExecutionConfig config, final Map<Node<T, R>, Task<T, R>> streamingConsumers) {
+		for (Map.Entry<Node<T, R>, Task<T, R>> entry : streamingConsumers.entrySet()) {
+			logger.debug("Going to schedule {} node, streaming", entry.getKey().getValue());
+			this.state.incrementUnProcessedNodesCount();
+			this.progress.submitted();
+			this.streamingNodes.add(entry.getKey());
+			Map<Node<T, R>, Task<T, R>> consumers = connectStreams(config, entry.getKey(), entry.getValue());
+			Task<T, R> worker = fuseChain(config, entry.getKey(), newWorker(entry.getValue()));
+			publish(ExecutionEventType.READY, entry.getKey().getValue());
+			markSubmitted(entry.getKey().getValue(), entry.getValue().getGroup());
+			this.executionEngine.submit(worker);
+			startConsumers(config, consumers);
+		}
+	}
+
+	private boolean isStreamingEdge(final Node<T, R> producer, final Node<T, R> consumer) {
+		Map<T, Integer> consumers = this.streamingEdges.get(producer.getValue());
+		return consumers != null && consumers.containsKey(consumer.getValue());
+	}
+
+	private Task<T, R> fuseChain(final ExecutionConfig config, final Node<T, R> node, final Task<T, R> task) {
+		if (!this.chainFusionEnabled) {
+			return task;
+		}
+		List<Node<T, R>> links = new ArrayList<Node<T, R>>();
+		List<Task<T, R>> linkTasks = new ArrayList<Task<T, R>>();
+		Node<T, R> current = node;
+		while (current.getOutGoingNodes().size() == 1) {
+			Node<T, R> next = current.getOutGoingNodes().iterator().next();
+			if (next.getInComingNodes().size() != 1 || !isInScope(next) || next.isProcessed() || next.isBarrier() || isStreamingEdge(current, next)
+					|| this.reducedParents.containsKey(next)) {
+				break;
+			}
+			Task<T, R> nextTask = provideTask(config, next);
+			if (this.resultCache != null && nextTask.getFingerprint() != null) {
+				break;
+			}
+			links.add(next);
+			linkTasks.add(nextTask);
+			current = next;
+		}
+		if (links.isEmpty()) {
+			return task;
+		}
+		logger.debug("Fusing nodes {} into the chain of {}", links, node.getValue());
+		FusedChainTask chain = new FusedChainTask(config, task, links, linkTasks);
+		this.fusedNodes.addAll(links);
+		this.fusedChains.put(node.getValue(), chain);
+		return chain;
+	}
+
+	private boolean isInScope(final Node<T, R> node) {
+		return this.scope == null || this.scope.contains(node);
+	}
+
 	private boolean shouldExecute(final Node<T, R> node, final Task<T, R> task) {
-		if (task.shouldExecute(parentResults(node))) {
+		if (!TaskFactory.needsParentResults(task) || task.shouldExecute(parentResults(node))) {
 			return true;
 		}
 		return false;
 	}
 
 	private ExecutionResults<T, R> parentResults(final Node<T, R> node) {
-		ExecutionResults<T, R> parentResult = new ExecutionResults<T, R>();
-		for (Node<T, R> pNode : node.getInComingNodes()) {
-			parentResult.add(new ExecutionResult<T, R>(pNode.getValue(), pNode.getResult(), status(pNode)));
-		}
-		return parentResult;
+		return ExecutionResults.view(new ParentResults<T, R>(node, this.reducedParents.get(node)));
 	}
 
-	private ExecutionStatus status(final Node<T, R> node) {
+	static ExecutionStatus status(final Node<?, ?> node) {
 		ExecutionStatus status = ExecutionStatus.SUCCESS;
 		if (node.isErrored()) {
 			status = ExecutionStatus.ERRORED;
@@ -224,19 +755,67 @@ public class DefaultDexecutor <T extends Comparable<T>, R> implements Dexecutor<
 	private void doWaitForExecution(final ExecutionConfig config) {
 		while (state.getUnProcessedNodesCount() > 0) {
 			forceStopIfRequired();
-			ExecutionResult<T, R> executionResult = this.executionEngine.processResult();			
-			doAfterExecutionDone(config, executionResult);
+			ExecutionResult<T, R> executionResult = this.cachedResults.poll();
+			if (executionResult == null) {
+				executionResult = processResult();
+			}
+			FusedChainTask chain = this.fusedChains.remove(executionResult.getId());
+			if (chain == null) {
+				doAfterExecutionDone(config, executionResult);
+			} else {
+				doAfterChainDone(config, executionResult, chain);
+			}
+		}
+	}
+
+	private ExecutionResult<T, R> processResult() {
+		if (this.monitor == null) {
+			return this.executionEngine.processResult();
+		}
+		long waitStart = System.nanoTime();
+		try {
+			return this.executionEngine.processResult();
+		} finally {
+			this.coordinatorWaitTime += System.nanoTime() - waitStart;
+		}
+	}
+
+	private void doAfterChainDone(final ExecutionConfig config, final ExecutionResult<T, R> headResult, final FusedChainTask chain) {
+		List<ExecutionResult<T, R>> linkResults = chain.getLinkResults();
+		headResult.setExecutionTimes(headResult.getStartTime(), chain.getHeadEndTime());
+		this.fusedNodes.removeAll(chain.getLinks().subList(linkResults.size(), chain.getLinks().size()));
+		doAfterExecutionDone(config, headResult);
+		for (ExecutionResult<T, R> linkResult : linkResults) {
+			this.fusedNodes.remove(state.getGraphNode(linkResult.getId()));
+			state.incrementUnProcessedNodesCount();
+			this.progress.submitted();
+			doAfterExecutionDone(config, linkResult);
 		}
 	}
 
 	//Check if it can run in separate thread
-	private void doAfterExecutionDone(final ExecutionConfig config, final ExecutionResult<T, R> executionResult) {
-		logger.debug("Processing of node {} done, with status {}", executionResult.getId(), executionResult.getStatus());
+	private void doAfterExecutionDone(final ExecutionConfig config, final ExecutionResult<T, R> taskResult) {
+		logger.debug("Processing of node {} done, with status {}", taskResult.getId(), taskResult.getStatus());
+		final long coordinationStart = this.trace != null ? System.nanoTime() : 0;
+		final Object coordination = FlightRecorder.beginCoordination();
 		state.decrementUnProcessedNodesCount();
 		
-		final Node<T, R> processedNode = state.getGraphNode(executionResult.getId());
+		final Node<T, R> processedNode = state.getGraphNode(taskResult.getId());
+		final boolean streamed = this.streamingNodes.remove(processedNode);
+		publishExecution(taskResult);
+		final SubmitMark submitMark = this.submitMarks.remove(taskResult.getId());
+		final ExecutionResult<T, R> executionResult = expandGraph(taskResult);
 		updateNode(executionResult, processedNode);
+		this.progress.finished(!executionResult.isErrored());
+		cacheResult(executionResult);
 		state.markProcessingDone(processedNode);
+		final boolean retryable = !streamed || !executionResult.isErrored();
+		if (!retryable) {
+			logger.debug("Node {} consumed a stream which can't be replayed, not retrying", executionResult.getId());
+		}
+		if (!retryable || !shouldRetry(config, executionResult, processedNode)) {
+			releaseParentResults(processedNode);
+		}
 
 		if (executionResult.isSuccess() && !executionEngine.isAnyTaskInError() && state.isDiscontinuedNodesNotEmpty()) {
 			Collection<Node<T, R>> recover = new HashSet<>(state.getDiscontinuedNodes());	
@@ -248,13 +827,56 @@ public class DefaultDexecutor <T extends Comparable<T>, R> implements Dexecutor<
 			doExecute(processedNode.getOutGoingNodes(), config);				
 		} else if (executionEngine.isAnyTaskInError() && executionResult.isSuccess()) { 
 			state.processAfterNoError(processedNode.getOutGoingNodes());
-		} else if (shouldDoImmediateRetry(config, executionResult, processedNode)) {
+		} else if (retryable && shouldDoImmediateRetry(config, executionResult, processedNode)) {
 			logger.debug("Submitting for Immediate retry, node {}", executionResult.getId());
+			publish(ExecutionEventType.RETRIED, executionResult.getId());
+			markRetried(executionResult.getId(), submitMark);
 			submitForImmediateRetry(config, processedNode);
-		} else if (shouldScheduleRetry(config, executionResult, processedNode)) {
+		} else if (retryable && shouldScheduleRetry(config, executionResult, processedNode)) {
 			logger.debug("Submitting for Scheduled retry, node {}", executionResult.getId());
+			publish(ExecutionEventType.RETRIED, executionResult.getId());
+			markRetried(executionResult.getId(), submitMark);
 			submitForScheduledRetry(config, processedNode);
 		}
+		recordMetrics(taskResult, submitMark);
+		recordTrace(taskResult, processedNode, coordinationStart);
+		FlightRecorder.endCoordination(coordination, taskResult.getId());
+	}
+
+	private void markRetried(final T id, final SubmitMark submitMark) {
+		if (this.metrics != null) {
+			this.submitMarks.put(id, new SubmitMark(System.nanoTime(), submitMark != null ? submitMark.group : null));
+		}
+	}
+
+	private ExecutionResult<T, R> expandGraph(final ExecutionResult<T, R> executionResult) {
+		GraphExpansion<T, R> expansion = this.expansions.remove(executionResult.getId());
+		if (expansion == null || !executionResult.isSuccess()) {
+			return executionResult;
+		}
+		try {
+			Collection<Node<T, R>> addedNodes = expansion.applyTo(this.state);
+			logger.debug("Node {} expanded the graph by {}", executionResult.getId(), addedNodes);
+			this.progress.expanded(addedNodes.size());
+			if (this.scope != null) {
+				this.scope.addAll(addedNodes);
+			}
+			return executionResult;
+		} catch (IllegalArgumentException e) {
+			logger.error("Invalid graph expansion by node # {}", executionResult.getId(), e);
+			this.state.addErrored(executionResult.getId());
+			return new ExecutionResult<T, R>(executionResult.getId(), executionResult.getResult(), ExecutionStatus.ERRORED);
+		}
+	}
+
+	private boolean shouldRetry(final ExecutionConfig config, final ExecutionResult<T, R> executionResult, final Node<T, R> processedNode) {
+		return !config.isNonTerminating() && (shouldDoImmediateRetry(config, executionResult, processedNode) || shouldScheduleRetry(config, executionResult, processedNode));
+	}
+
+	private void releaseParentResults(final Node<T, R> node) {
+		if (this.resultReleaser != null) {
+			this.resultReleaser.childDone(node);
+		}
 	}
 
 	private boolean shouldScheduleRetry(final ExecutionConfig config, final ExecutionResult<T, R> executionResult,
@@ -274,16 +896,85 @@ public class DefaultDexecutor <T extends Comparable<T>, R> implements Dexecutor<
 
 	private void submitForScheduledRetry(final ExecutionConfig config, final Node<T, R> node) {
 		Task<T, R> task = newTask(config, node);
-		this.scheduledRetryExecutor.schedule(retryingTask(task), config.getRetryDelay().getDuration(), config.getRetryDelay().getTimeUnit());
+		final Runnable retry = retryingTask(task);
+		this.pendingScheduledRetries.incrementAndGet();
+		this.scheduledRetryExecutor.schedule(new Runnable() {
+			@Override
+			public void run() {
+				pendingScheduledRetries.decrementAndGet();
+				retry.run();
+			}
+		}, config.getRetryDelay().getDuration(), config.getRetryDelay().getTimeUnit());
 	}
 
 	private Task<T, R> newTask(final ExecutionConfig config, final Node<T, R> node) {
+		return newWorker(provideTask(config, node));
+	}
+
+	private Task<T, R> provideTask(final ExecutionConfig config, final Node<T, R> node) {
 		Task<T, R> task = this.taskProvider.provideTask(node.getValue());
 		task.setId(node.getValue());
 		updateConsiderExecutionStatus(config, task);
+		updateFingerprint(node, task);
+		if (!this.executionEngine.isDistributed()) {
+			task.setGraphExpander(new GraphExpansion<T, R>(node.getValue(), this.expansions));
+		}
+		if (task instanceof DataFlowTask) {
+			((DataFlowTask<T, R>) task).setParentResults(parentResults(node));
+		}
+		return task;
+	}
+
+	private Task<T, R> newWorker(final Task<T, R> task) {
+		if (this.resultStore != null) {
+			return TaskFactory.newWorker(task, this.resultStore);
+		}
 		return TaskFactory.newWorker(task);
 	}
 
+	private void updateFingerprint(final Node<T, R> node, final Task<T, R> task) {
+		if (this.resultCache != null) {
+			String fingerprint = fingerprint(node, task);
+			if (fingerprint != null) {
+				this.fingerprints.put(node.getValue(), fingerprint);
+			}
+		}
+	}
+
+	private String fingerprint(final Node<T, R> node, final Task<T, R> task) {
+		String taskFingerprint = task.getFingerprint();
+		if (taskFingerprint == null) {
+			return null;
+		}
+		SortedMap<T, String> parentFingerprints = new TreeMap<T, String>();
+		for (Node<T, R> pNode : ParentResults.parentNodes(node, null)) {
+			String parentFingerprint = this.fingerprints.get(pNode.getValue());
+			if (parentFingerprint == null || !pNode.isSuccess()) {
+				return null;
+			}
+			parentFingerprints.put(pNode.getValue(), parentFingerprint);
+		}
+		return FingerprintUtil.combine(taskFingerprint, parentFingerprints);
+	}
+
+	private ExecutionResult<T, R> cachedResult(final Node<T, R> node) {
+		String fingerprint = this.fingerprints.get(node.getValue());
+		if (fingerprint != null) {
+			ExecutionResult<T, R> cached = this.resultCache.get(fingerprint);
+			if (cached != null) {
+				return new ExecutionResult<T, R>(node.getValue(), cached.getResult(), cached.getStatus());
+			}
+		}
+		return null;
+	}
+
+	private void cacheResult(final ExecutionResult<T, R> executionResult) {
+		String fingerprint = this.fingerprints.get(executionResult.getId());
+		if (fingerprint != null && executionResult.isSuccess()) {
+			this.resultCache.put(fingerprint, executionResult);
+		}
+	}
+
 	private void updateConsiderExecutionStatus(final ExecutionConfig config, final Task<T, R> task) {
 		if (config.isImmediatelyRetrying() || config.isScheduledRetrying()) {
 			Node<T, R> node = this.state.getGraphNode(task.getId());
@@ -298,6 +989,8 @@ public class DefaultDexecutor <T extends Comparable<T>, R> implements Dexecutor<
 
 	private Runnable retryingTask(final Task<T, R> task) {
 		this.state.incrementUnProcessedNodesCount();
+		this.progress.retried();
+		FlightRecorder.retried(task.getId());
 		return new Runnable() {
 			@Override
 			public void run() {
@@ -323,6 +1016,7 @@ public class DefaultDexecutor <T extends Comparable<T>, R> implements Dexecutor<
 	private void updateNode(final ExecutionResult<T, R> executionResult, final Node<T, R> processedNode) {
 		updateExecutionCount(processedNode);
 		processedNode.setResult(executionResult.getResult());
+		processedNode.setExecutionTimes(executionResult.getStartTime(), executionResult.getEndTime());
 		if(executionResult.isErrored()) {
 			processedNode.setErrored();
 		} else {
@@ -330,6 +1024,108 @@ public class DefaultDexecutor <T extends Comparable<T>, R> implements Dexecutor<
 		}
 	}
 
+	private static final class SubmitMark {
+		private final long time;
+		private final String group;
+
+		SubmitMark(final long time, final String group) {
+			this.time = time;
+			this.group = group;
+		}
+	}
+
+	/**
+	 * Executes a head task followed by the links of its chain on the same thread. Each link runs only if the previous one succeeded
+	 * without expanding the graph, no task is in error (unless non terminating) and its {@code shouldExecute} agrees; results of links are handed back to the
+	 * coordinator, which processes them as if they were executed one after the other. Data flow links get the result of the previous link
+	 * as their parent results, as the coordinator has not seen it yet.
+	 */
+	private final class FusedChainTask extends Task<T, R> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final ExecutionConfig config;
+		private final Task<T, R> head;
+		private final List<Node<T, R>> links;
+		private final List<Task<T, R>> linkTasks;
+		private final List<ExecutionResult<T, R>> linkResults;
+		private long headEndTime;
+
+		FusedChainTask(final ExecutionConfig config, final Task<T, R> head, final List<Node<T, R>> links, final List<Task<T, R>> linkTasks) {
+			this.config = config;
+			this.head = head;
+			this.links = links;
+			this.linkTasks = linkTasks;
+			this.linkResults = new ArrayList<ExecutionResult<T, R>>(links.size());
+			setId(head.getId());
+		}
+
+		List<Node<T, R>> getLinks() {
+			return this.links;
+		}
+
+		List<ExecutionResult<T, R>> getLinkResults() {
+			return this.linkResults;
+		}
+
+		long getHeadEndTime() {
+			return this.headEndTime;
+		}
+
+		@Override
+		public R execute() {
+			R result;
+			try {
+				result = this.head.execute();
+			} finally {
+				this.headEndTime = System.nanoTime();
+			}
+			if (expansions.containsKey(this.head.getId())) {
+				return result;
+			}
+			ExecutionResult<T, R> previous = new ExecutionResult<T, R>(this.head.getId(), result, ExecutionStatus.SUCCESS);
+			for (Task<T, R> task : this.linkTasks) {
+				if (!this.config.isNonTerminating() && executionEngine.isAnyTaskInError()) {
+					break;
+				}
+				ExecutionResults<T, R> parentResults = new ExecutionResults<T, R>();
+				parentResults.add(previous);
+				if (!task.shouldExecute(parentResults)) {
+					break;
+				}
+				if (task instanceof DataFlowTask) {
+					((DataFlowTask<T, R>) task).setParentResults(parentResults);
+				}
+				previous = executeLink(newWorker(task));
+				this.linkResults.add(previous);
+				if (previous.isErrored() || expansions.containsKey(task.getId())) {
+					break;
+				}
+			}
+			return result;
+		}
+
+		private ExecutionResult<T, R> executeLink(final Task<T, R> task) {
+			Object execution = FlightRecorder.beginExecution();
+			R r = null;
+			ExecutionStatus status = ExecutionStatus.SUCCESS;
+			long startTime = System.nanoTime();
+			try {
+				r = task.execute();
+				state.removeErrored(task.getId());
+			} catch (Exception e) {
+				state.addErrored(task.getId());
+				status = ExecutionStatus.ERRORED;
+				logger.error("Error Execution Task # {}", task.getId(), e);
+			}
+			ExecutionResult<T, R> result = new ExecutionResult<T, R>(task.getId(), r, status);
+			result.setExecutionTimes(startTime, System.nanoTime());
+			result.setThread(Thread.currentThread().getName());
+			FlightRecorder.endExecution(execution, task.getId(), status);
+			return result;
+		}
+	}
+
 	private void forceStopIfRequired() {
 		if (!shouldContinueProcessingNodes()) {
 			this.state.forcedStop();
@@ -18,6 +18,7 @@ package com.github.dexecutor.core;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
@@ -56,6 +57,10 @@ public class DefaultDexecutorState<T extends Comparable<T>, R> implements Dexecu
 		this.graph.addDependency(evalFirstValue, evalAfterValue);
 	}
 	
+	public void addBarrier(final T nodeValue) {
+		this.graph.addBarrier(nodeValue);
+	}
+
 	public void addAsDependentOnAllLeafNodes(final T nodeValue) {
 		this.graph.addAsDependentOnAllLeafNodes(nodeValue);
 	}
@@ -84,6 +89,10 @@ public class DefaultDexecutorState<T extends Comparable<T>, R> implements Dexecu
 		return this.graph.size();
 	}
 	
+	public Collection<Node<T, R>> allNodes() {
+		return this.graph.allNodes();
+	}
+
 	public Node<T, R> getGraphNode(final T id) {
 		return this.graph.get(id);
 	}
@@ -122,8 +131,18 @@ public class DefaultDexecutorState<T extends Comparable<T>, R> implements Dexecu
 		this.processedNodes.add(node);
 	}
 
+	public void markProcessingUndone(final Collection<Node<T, R>> nodes) {
+		this.processedNodes.removeAll(new HashSet<Node<T, R>>(nodes));
+	}
+
 	public Collection<Node<T, R>> getProcessedNodes() {
-		return new ArrayList<>(this.processedNodes);
+		Collection<Node<T, R>> result = new ArrayList<>(this.processedNodes.size());
+		for (Node<T, R> node : this.processedNodes) {
+			if (!node.isBarrier()) {
+				result.add(node);
+			}
+		}
+		return result;
 	}
 	
 	public boolean isDiscontinuedNodesNotEmpty() {
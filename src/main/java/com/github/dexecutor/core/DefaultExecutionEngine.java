@@ -23,6 +23,10 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,6 +51,10 @@ public final class DefaultExecutionEngine<T extends Comparable<T>, R> implements
 
 	private final ExecutorService executorService;
 	private final CompletionService<ExecutionResult<T, R>> completionService;
+	/**
+	 * Results of finished tasks not yet taken by the coordinator
+	 */
+	private final LinkedBlockingQueue<Future<ExecutionResult<T, R>>> completedResults = new LinkedBlockingQueue<Future<ExecutionResult<T, R>>>();
 	/**
 	 * Creates the default instance given @ExecutorService, internally it uses @CompletionService
 	 * @param executorService Underlying execution service, where in tasks would be scheduled.
@@ -56,7 +64,42 @@ public final class DefaultExecutionEngine<T extends Comparable<T>, R> implements
 		checkNotNull(executorService, "Executer Service should not be null");
 		this.state = state;
 		this.executorService = executorService;
-		this.completionService = new ExecutorCompletionService<ExecutionResult<T, R>>(executorService);
+		this.completionService = new ExecutorCompletionService<ExecutionResult<T, R>>(executorService, this.completedResults);
+	}
+
+	/**
+	 * 
+	 * @return number of tasks waiting for a worker, {@code -1} if the executor service does not tell
+	 */
+	public int getQueuedTaskCount() {
+		if (this.executorService instanceof ThreadPoolExecutor) {
+			return ((ThreadPoolExecutor) this.executorService).getQueue().size();
+		} else if (this.executorService instanceof ForkJoinPool) {
+			ForkJoinPool pool = (ForkJoinPool) this.executorService;
+			return (int) (pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount());
+		}
+		return -1;
+	}
+
+	/**
+	 * 
+	 * @return number of workers executing tasks, {@code -1} if the executor service does not tell
+	 */
+	public int getActiveWorkerCount() {
+		if (this.executorService instanceof ThreadPoolExecutor) {
+			return ((ThreadPoolExecutor) this.executorService).getActiveCount();
+		} else if (this.executorService instanceof ForkJoinPool) {
+			return ((ForkJoinPool) this.executorService).getActiveThreadCount();
+		}
+		return -1;
+	}
+
+	/**
+	 * 
+	 * @return number of finished tasks whose results are not yet taken by the coordinator
+	 */
+	public int getPendingResultCount() {
+		return this.completedResults.size();
 	}
 
 	@Override
@@ -75,12 +118,16 @@ public final class DefaultExecutionEngine<T extends Comparable<T>, R> implements
 	}
 
 	private Callable<ExecutionResult<T, R>> newCallable(final Task<T, R> task) {
+		final Object queueWait = FlightRecorder.beginQueueWait();
 		return new Callable<ExecutionResult<T,R>>() {
 
 			@Override
 			public ExecutionResult<T, R> call() throws Exception {
+				FlightRecorder.endQueueWait(queueWait, task.getId());
+				Object execution = FlightRecorder.beginExecution();
 				R r = null;
 				ExecutionStatus status = ExecutionStatus.SUCCESS;
+				long startTime = System.nanoTime();
 				try {
 					r = task.execute();
 					state.removeErrored(task.getId());
@@ -89,7 +136,11 @@ public final class DefaultExecutionEngine<T extends Comparable<T>, R> implements
 					status = ExecutionStatus.ERRORED;
 					logger.error("Error Execution Task # {}", task.getId(), e);
 				}
-				return new ExecutionResult<T, R>(task.getId(), r, status);
+				ExecutionResult<T, R> result = new ExecutionResult<T, R>(task.getId(), r, status);
+				result.setExecutionTimes(startTime, System.nanoTime());
+				result.setThread(Thread.currentThread().getName());
+				FlightRecorder.endExecution(execution, task.getId(), status);
+				return result;
 			}
 		};
 	}
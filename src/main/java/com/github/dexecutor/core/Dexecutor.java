@@ -17,6 +17,9 @@
 
 package com.github.dexecutor.core;
 
+import java.util.Collection;
+
+import com.github.dexecutor.core.graph.CriticalPath;
 import com.github.dexecutor.core.graph.DependencyAware;
 import com.github.dexecutor.core.graph.Traversar;
 import com.github.dexecutor.core.graph.TraversarAction;
@@ -38,12 +41,34 @@ public interface Dexecutor<T extends Comparable<T>, R> extends DependencyAware<T
 	 * @param config based on which execution should proceed.
 	 */
 	void execute(final ExecutionConfig config);
+	/**
+	 * Kicks off the execution of only the given goal nodes and the nodes they depend on, directly or transitively, the rest of the graph is not executed.
+	 * 
+	 * @param goalNodes ids of the nodes whose results are required
+	 * @param config based on which execution should proceed.
+	 * @throws UnsupportedOperationException if this dexecutor does not support executing goal nodes
+	 */
+	default void execute(final Collection<T> goalNodes, final ExecutionConfig config) {
+		throw new UnsupportedOperationException("Execution of goal nodes is not supported by " + getClass().getName());
+	}
 
 	/**
 	 * After a dexecutor crash, create a new instance of dexecutor and call this method for recovery
 	 * @param config based on which execution would recover
 	 */
 	void recoverExecution(final ExecutionConfig config);
+	/**
+	 * Re-executes only the given dirty nodes and the nodes which depend on them, directly or transitively, the rest of the nodes
+	 * keep the results of the previous execution. If nothing was executed yet, all the nodes are executed.
+	 * 
+	 * @param dirtyNodes ids of the nodes whose inputs have changed since the previous execution
+	 * @param config based on which execution should proceed.
+	 * @throws UnsupportedOperationException if this dexecutor does not support incremental execution
+	 * @throws IllegalStateException if results are released once children are done, as clean nodes would have no results to reuse
+	 */
+	default void executeIncrementally(final Collection<T> dirtyNodes, final ExecutionConfig config) {
+		throw new UnsupportedOperationException("Incremental execution is not supported by " + getClass().getName());
+	}
 	/**
 	 * Prints the graph into the writer, using the traversar
 	 * 
@@ -51,4 +76,26 @@ public interface Dexecutor<T extends Comparable<T>, R> extends DependencyAware<T
 	 * @param action callback which would be called based on traverse 
 	 */
 	void print(final Traversar<T, R> traversar, final TraversarAction<T, R> action);
+	/**
+	 * Computes, from the measured execution times of the nodes, the critical path of the last execution, the slack of each node and
+	 * the best makespan achievable with unlimited workers, to be compared against the actual makespan. Nodes kept from an earlier
+	 * execution, for example by {@code executeIncrementally}, keep the times of that execution but do not count towards the actual
+	 * makespan, which covers only the nodes executed by the last run.
+	 * 
+	 * @return the critical path
+	 * @throws UnsupportedOperationException if this dexecutor does not measure execution times
+	 */
+	default CriticalPath<T> criticalPath() {
+		throw new UnsupportedOperationException("Critical path is not supported by " + getClass().getName());
+	}
+	/**
+	 * Snapshot of how many nodes are done, running, in error or skipped, along with an estimate of the remaining time. May be called
+	 * from any thread while the execution goes, it neither blocks nor slows the execution.
+	 * 
+	 * @return the progress of the current or last execution
+	 * @throws UnsupportedOperationException if this dexecutor does not track progress
+	 */
+	default ExecutionProgress getProgress() {
+		throw new UnsupportedOperationException("Progress is not supported by " + getClass().getName());
+	}
 }
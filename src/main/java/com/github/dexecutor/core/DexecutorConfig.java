@@ -17,13 +17,21 @@
 
 package com.github.dexecutor.core;
 
+import static com.github.dexecutor.core.support.Preconditions.checkArgument;
 import static com.github.dexecutor.core.support.Preconditions.checkNotNull;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 
+import com.github.dexecutor.core.cache.ResultCache;
+import com.github.dexecutor.core.event.ExecutionListener;
 import com.github.dexecutor.core.graph.CyclicValidator;
 import com.github.dexecutor.core.graph.Validator;
+import com.github.dexecutor.core.metrics.ExecutionMetrics;
+import com.github.dexecutor.core.store.ResultStore;
 import com.github.dexecutor.core.task.TaskProvider;
+import com.github.dexecutor.core.trace.ExecutionTrace;
 
 /**
  * <p>Configuration Object for Dexecutor framework. At a minimum it needs {@code ExecutorService} and {@code TaskProvider}, rest are optional and takes default values</p>
@@ -61,6 +69,42 @@ public class DexecutorConfig<T extends Comparable<T>, R> {
 	private Validator<T, R> validator = new CyclicValidator<T, R>();
 
 	private DexecutorState<T, R> dexecutorState = new DefaultDexecutorState<T, R>();
+	/**
+	 * Cache consulted for results of tasks which expose a fingerprint, no caching by default
+	 */
+	private ResultCache<T, R> resultCache;
+	/**
+	 * Whether linear chains of nodes should be executed as one task, disabled by default
+	 */
+	private boolean chainFusionEnabled = false;
+	/**
+	 * Store deciding where results of tasks are kept, results are kept on the heap by default
+	 */
+	private ResultStore<T, R> resultStore;
+	/**
+	 * Whether results of nodes should be dropped once all the children are done with them, disabled by default
+	 */
+	private boolean resultReleaseEnabled = false;
+	/**
+	 * Listeners to execution events, none by default
+	 */
+	private final List<ExecutionListener<T>> executionListeners = new ArrayList<ExecutionListener<T>>();
+	/**
+	 * Number of execution events buffered for listeners
+	 */
+	private int eventBufferSize = 8192;
+	/**
+	 * Metrics to which latencies of node executions are recorded, none by default
+	 */
+	private ExecutionMetrics<T> executionMetrics;
+	/**
+	 * Trace to which the timeline of the execution is recorded, none by default
+	 */
+	private ExecutionTrace<T> executionTrace;
+	/**
+	 * Name under which a {@code DexecutorMXBean} is registered while executing, none by default
+	 */
+	private String jmxName;
 	/**
 	 * Construct the object with mandatory params, rest are optional
 	 * @param executorService provided executor service
@@ -109,6 +153,112 @@ public class DexecutorConfig<T extends Comparable<T>, R> {
 	Validator<T, R> getValidator() {
 		return this.validator;
 	}
+
+	List<ExecutionListener<T>> getExecutionListeners() {
+		return this.executionListeners;
+	}
+	/**
+	 * adds a listener to execution events of nodes, which is called on a thread of its own
+	 * @param listener the listener
+	 */
+	public void addExecutionListener(final ExecutionListener<T> listener) {
+		checkNotNull(listener, "Execution Listener should not be null");
+		this.executionListeners.add(listener);
+	}
+
+	int getEventBufferSize() {
+		return this.eventBufferSize;
+	}
+	/**
+	 * change the number of execution events buffered for listeners, execution waits for listeners once the buffer is full
+	 * @param eventBufferSize the new size, rounded up to a power of two
+	 */
+	public void setEventBufferSize(final int eventBufferSize) {
+		checkArgument(eventBufferSize > 0, "Event buffer size should be greater than ZERO");
+		this.eventBufferSize = eventBufferSize;
+	}
+
+	ExecutionMetrics<T> getExecutionMetrics() {
+		return this.executionMetrics;
+	}
+	/**
+	 * change the metrics to which queue wait, run and coordination times of nodes are recorded, the same metrics may be used by
+	 * many executions.
+	 * @param executionMetrics the metrics, {@code null} disables recording
+	 */
+	public void setExecutionMetrics(final ExecutionMetrics<T> executionMetrics) {
+		this.executionMetrics = executionMetrics;
+	}
+
+	ExecutionTrace<T> getExecutionTrace() {
+		return this.executionTrace;
+	}
+	/**
+	 * change the trace to which start and end of node executions, their threads and dependencies are recorded
+	 * @param executionTrace the trace, {@code null} disables recording
+	 */
+	public void setExecutionTrace(final ExecutionTrace<T> executionTrace) {
+		this.executionTrace = executionTrace;
+	}
+
+	String getJmxName() {
+		return this.jmxName;
+	}
+	/**
+	 * change the name under which a {@code DexecutorMXBean} is registered, as {@code com.github.dexecutor:type=Dexecutor,name=<jmxName>},
+	 * for the duration of each execution. Names should be unique among executions running at the same time.
+	 * @param jmxName the name, {@code null} disables registration
+	 */
+	public void setJmxName(final String jmxName) {
+		this.jmxName = jmxName;
+	}
+
+	ResultCache<T, R> getResultCache() {
+		return this.resultCache;
+	}
+	/**
+	 * change the result cache to that of specified, nodes whose fingerprint is found in the cache are not executed
+	 * @param resultCache the result cache, {@code null} disables caching
+	 */
+	public void setResultCache(final ResultCache<T, R> resultCache) {
+		this.resultCache = resultCache;
+	}
+	ResultStore<T, R> getResultStore() {
+		return this.resultStore;
+	}
+	/**
+	 * change the result store to that of specified, results of tasks are handed to the store on the thread which executed the task.
+	 * Ignored for distributed execution engines.
+	 * @param resultStore the result store, {@code null} keeps results on the heap
+	 */
+	public void setResultStore(final ResultStore<T, R> resultStore) {
+		this.resultStore = resultStore;
+	}
+
+	boolean isChainFusionEnabled() {
+		return this.chainFusionEnabled;
+	}
+	/**
+	 * enables or disables chain fusion, when enabled a node having exactly one child, which in turn has exactly one parent, is executed
+	 * along with that child on the same thread, without a round trip through the coordinator. Ignored for distributed execution engines.
+	 * @param chainFusionEnabled {@code true} to fuse linear chains of nodes
+	 */
+	public void setChainFusionEnabled(final boolean chainFusionEnabled) {
+		this.chainFusionEnabled = chainFusionEnabled;
+	}
+	boolean isResultReleaseEnabled() {
+		return this.resultReleaseEnabled;
+	}
+	/**
+	 * enables or disables releasing of intermediate results, when enabled the result of a node is dropped once all of its children are
+	 * done, only results of leaf nodes and of nodes pinned through {@code DefaultDexecutor#pinResult} are kept till the end. Processed
+	 * nodes are still tracked by the state, but they no longer hold their results. Incremental execution is not supported, since clean
+	 * nodes would have no results left to hand to their re-executed children.
+	 * @param resultReleaseEnabled {@code true} to release intermediate results
+	 */
+	public void setResultReleaseEnabled(final boolean resultReleaseEnabled) {
+		this.resultReleaseEnabled = resultReleaseEnabled;
+	}
 	/**
 	 * change the validator to that of specified
 	 * @param validator the validator
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+/**
+ * Management interface of a {@code DefaultDexecutor}, registered while it executes when a JMX name is configured. Tells whether a slow
+ * execution is starved of CPU (workers all busy), of pool threads (tasks queued), waiting on retries or held up by the coordinator.
+ */
+public interface DexecutorMXBean {
+	/**
+	 * 
+	 * @return number of tasks submitted and waiting for a worker, {@code -1} if not known
+	 */
+	int getReadyQueueDepth();
+	/**
+	 * 
+	 * @return number of workers executing tasks, {@code -1} if not known
+	 */
+	int getActiveWorkerCount();
+	/**
+	 * 
+	 * @return number of tasks submitted whose results are not processed yet
+	 */
+	int getInFlightTaskCount();
+	/**
+	 * 
+	 * @return number of finished tasks whose results wait for the coordinator, {@code -1} if not known
+	 */
+	int getPendingResultCount();
+	/**
+	 * 
+	 * @return number of nodes done, successfully, in error or skipped
+	 */
+	int getCompletedNodeCount();
+	/**
+	 * 
+	 * @return number of nodes the execution has to process
+	 */
+	int getTotalNodeCount();
+	/**
+	 * 
+	 * @return nodes done per second since the execution started
+	 */
+	double getCompletionRate();
+	/**
+	 * 
+	 * @return number of tasks currently in error
+	 */
+	int getErrorCount();
+	/**
+	 * 
+	 * @return number of retries scheduled to run after a delay
+	 */
+	int getPendingScheduledRetryCount();
+	/**
+	 * 
+	 * @return milliseconds the coordinator spent processing results, as opposed to waiting for them
+	 */
+	long getCoordinatorBusyTime();
+	/**
+	 * 
+	 * @return fraction of the elapsed time the coordinator was busy, close to {@code 1} when the coordinator holds the execution up
+	 */
+	double getCoordinatorUtilization();
+	/**
+	 * 
+	 * @return milliseconds since the execution started
+	 */
+	long getElapsedTime();
+}
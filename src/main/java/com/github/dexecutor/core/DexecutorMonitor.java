@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@code DexecutorMXBean} over the state of a {@code DefaultDexecutor}, every attribute is computed when read, so that the execution
+ * pays nothing for it
+ * 
+ * @param <T> Type of Node/Task ID
+ * @param <R> Type of Node/Task result
+ */
+final class DexecutorMonitor<T extends Comparable<T>, R> implements DexecutorMXBean {
+
+	private static final Logger logger = LoggerFactory.getLogger(DexecutorMonitor.class);
+
+	static final String DOMAIN = "com.github.dexecutor";
+
+	private final DefaultDexecutor<T, R> dexecutor;
+	private final DexecutorState<T, R> state;
+	private final ExecutionEngine<T, R> executionEngine;
+	private final ObjectName objectName;
+
+	DexecutorMonitor(final DefaultDexecutor<T, R> dexecutor, final DexecutorState<T, R> state, final ExecutionEngine<T, R> executionEngine,
+			final String name) {
+		this.dexecutor = dexecutor;
+		this.state = state;
+		this.executionEngine = executionEngine;
+		this.objectName = objectName(name);
+	}
+
+	static ObjectName objectName(final String name) {
+		try {
+			return new ObjectName(DOMAIN + ":type=Dexecutor,name=" + ObjectName.quote(name));
+		} catch (JMException e) {
+			throw new IllegalArgumentException("Invalid JMX name " + name, e);
+		}
+	}
+
+	void register() {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			server.registerMBean(this, this.objectName);
+		} catch (JMException e) {
+			logger.warn("Could not register {}", this.objectName, e);
+		}
+	}
+
+	void unregister() {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			if (server.isRegistered(this.objectName)) {
+				server.unregisterMBean(this.objectName);
+			}
+		} catch (JMException e) {
+			logger.warn("Could not unregister {}", this.objectName, e);
+		}
+	}
+
+	private DefaultExecutionEngine<T, R> defaultEngine() {
+		if (this.executionEngine instanceof DefaultExecutionEngine) {
+			return (DefaultExecutionEngine<T, R>) this.executionEngine;
+		}
+		return null;
+	}
+
+	@Override
+	public int getReadyQueueDepth() {
+		DefaultExecutionEngine<T, R> engine = defaultEngine();
+		return engine == null ? -1 : engine.getQueuedTaskCount();
+	}
+
+	@Override
+	public int getActiveWorkerCount() {
+		DefaultExecutionEngine<T, R> engine = defaultEngine();
+		return engine == null ? -1 : engine.getActiveWorkerCount();
+	}
+
+	@Override
+	public int getInFlightTaskCount() {
+		return this.dexecutor.getProgress().getRunningCount();
+	}
+
+	@Override
+	public int getPendingResultCount() {
+		DefaultExecutionEngine<T, R> engine = defaultEngine();
+		return engine == null ? -1 : engine.getPendingResultCount();
+	}
+
+	@Override
+	public int getCompletedNodeCount() {
+		return this.dexecutor.getProgress().getDoneCount();
+	}
+
+	@Override
+	public int getTotalNodeCount() {
+		return this.dexecutor.getProgress().getTotalCount();
+	}
+
+	@Override
+	public double getCompletionRate() {
+		ExecutionProgress progress = this.dexecutor.getProgress();
+		if (progress.getElapsedTime() == 0) {
+			return 0;
+		}
+		return progress.getDoneCount() / (progress.getElapsedTime() / (double) TimeUnit.SECONDS.toNanos(1));
+	}
+
+	@Override
+	public int getErrorCount() {
+		return this.state.erroredCount();
+	}
+
+	@Override
+	public int getPendingScheduledRetryCount() {
+		return this.dexecutor.pendingScheduledRetryCount();
+	}
+
+	@Override
+	public long getCoordinatorBusyTime() {
+		return TimeUnit.NANOSECONDS.toMillis(coordinatorBusyNanos(this.dexecutor.getProgress()));
+	}
+
+	@Override
+	public double getCoordinatorUtilization() {
+		ExecutionProgress progress = this.dexecutor.getProgress();
+		if (progress.getElapsedTime() == 0) {
+			return 0;
+		}
+		return coordinatorBusyNanos(progress) / (double) progress.getElapsedTime();
+	}
+
+	private long coordinatorBusyNanos(final ExecutionProgress progress) {
+		return Math.max(0, progress.getElapsedTime() - this.dexecutor.coordinatorWaitTime());
+	}
+
+	@Override
+	public long getElapsedTime() {
+		return TimeUnit.NANOSECONDS.toMillis(this.dexecutor.getProgress().getElapsedTime());
+	}
+}
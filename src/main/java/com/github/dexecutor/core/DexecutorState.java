@@ -19,6 +19,7 @@ package com.github.dexecutor.core;
 import java.util.Collection;
 import java.util.Set;
 
+import com.github.dexecutor.core.graph.DagUtil;
 import com.github.dexecutor.core.graph.DependencyAware;
 import com.github.dexecutor.core.graph.Node;
 import com.github.dexecutor.core.graph.Traversar;
@@ -46,6 +47,15 @@ public interface DexecutorState<T extends Comparable<T>, R> extends DependencyAw
 	 * @return the @Node with the given id
 	 */
 	Node<T, R> getGraphNode(final T id);
+	/**
+	 * Adds the node, if not already added, and marks it as a barrier
+	 * 
+	 * @param nodeValue id of the barrier node
+	 * @throws UnsupportedOperationException if this state does not support barriers
+	 */
+	default void addBarrier(final T nodeValue) {
+		throw new UnsupportedOperationException("Barriers are not supported by " + getClass().getName());
+	}
 	/**
 	 * Returns the total number of nodes in this graph
 	 * 
@@ -53,6 +63,13 @@ public interface DexecutorState<T extends Comparable<T>, R> extends DependencyAw
 	 */
 	int graphSize();
 	
+	/**
+	 * Returns all nodes in this graph, by default found by walking down from the initial nodes
+	 * @return all nodes in this graph
+	 */
+	default Collection<Node<T, R>> allNodes() {
+		return DagUtil.descendantsOf(getInitialNodes());
+	}
 	/**
 	 * Returns the Set of nodes for which there is no incoming dependencies.
 	 * @return set of initial nodes
@@ -114,10 +131,18 @@ public interface DexecutorState<T extends Comparable<T>, R> extends DependencyAw
 	 * @param node Mark the {@code node} as processed.
 	 */
 	void markProcessingDone(final Node<T, R> node);
+	/**
+	 * 
+	 * @param nodes Mark the {@code nodes} as not processed, so that they would be processed again.
+	 * @throws UnsupportedOperationException if this state does not support incremental execution
+	 */
+	default void markProcessingUndone(final Collection<Node<T, R>> nodes) {
+		throw new UnsupportedOperationException("Incremental execution is not supported by " + getClass().getName());
+	}
 	
 	/**
 	 * 
-	 * @return processedNodes
+	 * @return processedNodes, barriers excluded
 	 */
 	Collection<Node<T, R>> getProcessedNodes();	
 
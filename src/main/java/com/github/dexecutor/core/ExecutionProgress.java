@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point in time progress of an execution, times are in nanoseconds
+ */
+public final class ExecutionProgress {
+
+	private final int totalCount;
+	private final int runningCount;
+	private final int succeededCount;
+	private final int erroredCount;
+	private final int skippedCount;
+	private final int retriedCount;
+	private final long elapsedTime;
+
+	ExecutionProgress(final int totalCount, final int runningCount, final int succeededCount, final int erroredCount, final int skippedCount,
+			final int retriedCount, final long elapsedTime) {
+		this.totalCount = totalCount;
+		this.runningCount = runningCount;
+		this.succeededCount = succeededCount;
+		this.erroredCount = erroredCount;
+		this.skippedCount = skippedCount;
+		this.retriedCount = retriedCount;
+		this.elapsedTime = elapsedTime;
+	}
+
+	/**
+	 * 
+	 * @return number of nodes the execution has to process, including nodes added by graph expansion so far
+	 */
+	public int getTotalCount() {
+		return this.totalCount;
+	}
+
+	/**
+	 * 
+	 * @return number of nodes submitted for execution whose results are not processed yet
+	 */
+	public int getRunningCount() {
+		return this.runningCount;
+	}
+
+	/**
+	 * 
+	 * @return number of nodes executed successfully
+	 */
+	public int getSucceededCount() {
+		return this.succeededCount;
+	}
+
+	/**
+	 * 
+	 * @return number of nodes in error, not counting errors which were retried
+	 */
+	public int getErroredCount() {
+		return this.erroredCount;
+	}
+
+	/**
+	 * 
+	 * @return number of nodes skipped
+	 */
+	public int getSkippedCount() {
+		return this.skippedCount;
+	}
+
+	/**
+	 * 
+	 * @return number of retries submitted
+	 */
+	public int getRetriedCount() {
+		return this.retriedCount;
+	}
+
+	/**
+	 * 
+	 * @return number of nodes done, successfully, in error or skipped
+	 */
+	public int getDoneCount() {
+		return this.succeededCount + this.erroredCount + this.skippedCount;
+	}
+
+	/**
+	 * 
+	 * @return number of nodes not done yet
+	 */
+	public int getRemainingCount() {
+		return Math.max(0, this.totalCount - getDoneCount());
+	}
+
+	/**
+	 * 
+	 * @return time since the execution started, till it ended if it did
+	 */
+	public long getElapsedTime() {
+		return this.elapsedTime;
+	}
+
+	/**
+	 * Estimates the remaining time from the rate at which nodes were done so far
+	 * 
+	 * @return the estimated remaining time, {@code -1} if nothing is done yet
+	 */
+	public long getEstimatedTimeRemaining() {
+		int done = getDoneCount();
+		if (done == 0) {
+			return getRemainingCount() == 0 ? 0 : -1;
+		}
+		return (long) ((double) this.elapsedTime / done * getRemainingCount());
+	}
+
+	@Override
+	public String toString() {
+		return "ExecutionProgress [done=" + getDoneCount() + "/" + this.totalCount + ", running=" + this.runningCount + ", succeeded="
+				+ this.succeededCount + ", errored=" + this.erroredCount + ", skipped=" + this.skippedCount + ", retried=" + this.retriedCount
+				+ ", elapsed=" + TimeUnit.NANOSECONDS.toMillis(this.elapsedTime) + "ms, eta=" + TimeUnit.NANOSECONDS.toMillis(getEstimatedTimeRemaining())
+				+ "ms]";
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import com.github.dexecutor.core.task.ExecutionStatus;
+
+/**
+ * Hooks through which task lifecycle is reported to Java Flight Recorder. This version does nothing, the jar carries a Java 11 version
+ * of this class (under {@code META-INF/versions/11}) which emits JFR events, so on Java 8 the hooks cost nothing and on Java 11+ they
+ * cost little unless the events are enabled in a recording.
+ */
+final class FlightRecorder {
+
+	private FlightRecorder() {
+
+	}
+
+	/**
+	 * Called on the submitting thread
+	 * 
+	 * @return queue wait to be ended by {@code endQueueWait}, {@code null} if not recorded
+	 */
+	static Object beginQueueWait() {
+		return null;
+	}
+
+	/**
+	 * Called on the executing thread, just before the task is executed
+	 * 
+	 * @param queueWait as returned by {@code beginQueueWait}
+	 * @param nodeId id of the node
+	 */
+	static void endQueueWait(final Object queueWait, final Object nodeId) {
+
+	}
+
+	/**
+	 * 
+	 * @return execution to be ended by {@code endExecution}, {@code null} if not recorded
+	 */
+	static Object beginExecution() {
+		return null;
+	}
+
+	/**
+	 * 
+	 * @param execution as returned by {@code beginExecution}
+	 * @param nodeId id of the node
+	 * @param status status of the execution
+	 */
+	static void endExecution(final Object execution, final Object nodeId, final ExecutionStatus status) {
+
+	}
+
+	/**
+	 * 
+	 * @return coordination to be ended by {@code endCoordination}, {@code null} if not recorded
+	 */
+	static Object beginCoordination() {
+		return null;
+	}
+
+	/**
+	 * 
+	 * @param coordination as returned by {@code beginCoordination}
+	 * @param nodeId id of the node whose result was processed
+	 */
+	static void endCoordination(final Object coordination, final Object nodeId) {
+
+	}
+
+	/**
+	 * 
+	 * @param nodeId id of the node submitted for retry
+	 */
+	static void retried(final Object nodeId) {
+
+	}
+
+	/**
+	 * 
+	 * @param nodeId id of the node skipped
+	 */
+	static void skipped(final Object nodeId) {
+
+	}
+}
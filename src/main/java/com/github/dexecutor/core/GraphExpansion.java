@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static com.github.dexecutor.core.support.Preconditions.checkArgument;
+import static com.github.dexecutor.core.support.Preconditions.checkNotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.github.dexecutor.core.graph.DagUtil;
+import com.github.dexecutor.core.graph.Node;
+import com.github.dexecutor.core.task.GraphExpander;
+
+/**
+ * Records the nodes and edges a running task adds, on the task's thread, to be validated and applied by the coordinator once the task
+ * is done. The expansion registers itself as pending on the first change.
+ * 
+ * @param <T> Type of Node/Task ID
+ * @param <R> Type of Node/Task result
+ */
+final class GraphExpansion<T extends Comparable<T>, R> implements GraphExpander<T> {
+
+	private final T id;
+	private final Map<T, GraphExpansion<T, R>> pendingExpansions;
+	private final List<T> evalFirstNodes = new ArrayList<T>();
+	private final List<T> evalLaterNodes = new ArrayList<T>();
+
+	GraphExpansion(final T id, final Map<T, GraphExpansion<T, R>> pendingExpansions) {
+		this.id = id;
+		this.pendingExpansions = pendingExpansions;
+	}
+
+	@Override
+	public void addChild(final T child) {
+		addDependency(this.id, child);
+	}
+
+	@Override
+	public void addDependency(final T evalFirstNode, final T evalLaterNode) {
+		checkNotNull(evalFirstNode, "Node should not be null");
+		checkNotNull(evalLaterNode, "Node should not be null");
+		if (this.evalFirstNodes.isEmpty()) {
+			this.pendingExpansions.put(this.id, this);
+		}
+		this.evalFirstNodes.add(evalFirstNode);
+		this.evalLaterNodes.add(evalLaterNode);
+	}
+
+	/**
+	 * Validates all the recorded changes and applies them to the graph, nothing is applied if any of the changes is invalid. New edges
+	 * can only start at the expanding node or at added nodes, and can only end at added nodes or at unprocessed descendants of the
+	 * expanding node, so only cycles among the added nodes need to be checked for.
+	 * 
+	 * @param state state holding the graph
+	 * @return the nodes added to the graph
+	 * @throws IllegalArgumentException if any of the changes is invalid
+	 */
+	Collection<Node<T, R>> applyTo(final DexecutorState<T, R> state) {
+		Node<T, R> node = state.getGraphNode(this.id);
+		Set<T> addedNodes = new LinkedHashSet<T>();
+		Map<T, Set<T>> addedEdges = new HashMap<T, Set<T>>();
+		Set<Node<T, R>> descendants = null;
+
+		for (int i = 0; i < this.evalFirstNodes.size(); i++) {
+			T evalFirstNode = this.evalFirstNodes.get(i);
+			T evalLaterNode = this.evalLaterNodes.get(i);
+			checkArgument(this.id.equals(evalFirstNode) || addedNodes.contains(evalFirstNode), "Node " + evalFirstNode + " is not under the subtree of " + this.id);
+
+			Node<T, R> existing = state.getGraphNode(evalLaterNode);
+			if (existing != null) {
+				if (descendants == null) {
+					descendants = DagUtil.descendantsOf(Collections.singleton(node));
+				}
+				checkArgument(!existing.equals(node) && descendants.contains(existing) && existing.isNotProcessed(),
+						"Node " + evalLaterNode + " is not an unprocessed descendant of " + this.id);
+			} else if (!addedNodes.add(evalLaterNode) && addedNodes.contains(evalFirstNode)) {
+				checkArgument(!isReachable(addedEdges, evalLaterNode, evalFirstNode), "Cycle Detected " + evalFirstNode + " With " + evalLaterNode);
+			}
+			if (addedNodes.contains(evalFirstNode)) {
+				Set<T> edges = addedEdges.get(evalFirstNode);
+				if (edges == null) {
+					edges = new HashSet<T>();
+					addedEdges.put(evalFirstNode, edges);
+				}
+				edges.add(evalLaterNode);
+			}
+		}
+
+		for (int i = 0; i < this.evalFirstNodes.size(); i++) {
+			state.addDependency(this.evalFirstNodes.get(i), this.evalLaterNodes.get(i));
+		}
+		Collection<Node<T, R>> result = new ArrayList<Node<T, R>>(addedNodes.size());
+		for (T addedNode : addedNodes) {
+			result.add(state.getGraphNode(addedNode));
+		}
+		return result;
+	}
+
+	private boolean isReachable(final Map<T, Set<T>> edges, final T from, final T to) {
+		Set<T> visited = new HashSet<T>();
+		Deque<T> stack = new ArrayDeque<T>();
+		stack.push(from);
+		while (!stack.isEmpty()) {
+			T current = stack.pop();
+			if (current.equals(to)) {
+				return true;
+			}
+			if (visited.add(current) && edges.containsKey(current)) {
+				stack.addAll(edges.get(current));
+			}
+		}
+		return false;
+	}
+}
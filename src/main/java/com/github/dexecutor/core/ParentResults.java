@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.github.dexecutor.core.graph.Node;
+import com.github.dexecutor.core.task.ExecutionResult;
+
+/**
+ * Read only view of the results of the parents of a node, each {@code ExecutionResult} is created only when the iteration reaches it.
+ * Barriers are looked through, the parents of a barrier are reported instead of the barrier itself. Parents whose edges were removed by
+ * transitive reduction are reported too, if they were kept.
+ * 
+ * @param <T> Type of Node/Task ID
+ * @param <R> Type of Node/Task result
+ */
+final class ParentResults<T extends Comparable<T>, R> implements Iterable<ExecutionResult<T, R>> {
+
+	private final Node<T, R> node;
+	private final Collection<Node<T, R>> reducedParents;
+
+	/**
+	 * 
+	 * @param node the node whose parent results are needed
+	 * @param reducedParents kept parents of the node whose edges were removed, may be {@code null}
+	 */
+	ParentResults(final Node<T, R> node, final Collection<Node<T, R>> reducedParents) {
+		this.node = node;
+		this.reducedParents = reducedParents;
+	}
+
+	@Override
+	public Iterator<ExecutionResult<T, R>> iterator() {
+		final Iterator<Node<T, R>> parents = parentNodes(this.node, this.reducedParents).iterator();
+		return new Iterator<ExecutionResult<T, R>>() {
+
+			@Override
+			public boolean hasNext() {
+				return parents.hasNext();
+			}
+
+			@Override
+			public ExecutionResult<T, R> next() {
+				Node<T, R> parent = parents.next();
+				return new ExecutionResult<T, R>(parent.getValue(), parent.getResult(), DefaultDexecutor.status(parent));
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	/**
+	 * 
+	 * @param node the node whose parents are needed
+	 * @param reducedParents kept parents of the node whose edges were removed, may be {@code null}
+	 * @return the parents of the given node, with barriers replaced by their own parents
+	 */
+	static <T extends Comparable<T>, R> Collection<Node<T, R>> parentNodes(final Node<T, R> node, final Collection<Node<T, R>> reducedParents) {
+		if (reducedParents == null && !hasBarrier(node.getInComingNodes())) {
+			return node.getInComingNodes();
+		}
+		Set<Node<T, R>> parents = new LinkedHashSet<Node<T, R>>();
+		Set<Node<T, R>> barriers = new HashSet<Node<T, R>>();
+		addParents(node.getInComingNodes(), parents, barriers);
+		if (reducedParents != null) {
+			addParents(reducedParents, parents, barriers);
+		}
+		return parents;
+	}
+
+	private static <T extends Comparable<T>, R> boolean hasBarrier(final Collection<Node<T, R>> nodes) {
+		for (Node<T, R> parent : nodes) {
+			if (parent.isBarrier()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static <T extends Comparable<T>, R> void addParents(final Collection<Node<T, R>> nodes, final Set<Node<T, R>> parents,
+			final Set<Node<T, R>> barriers) {
+		for (Node<T, R> parent : nodes) {
+			if (!parent.isBarrier()) {
+				parents.add(parent);
+			} else if (barriers.add(parent)) {
+				addParents(parent.getInComingNodes(), parents, barriers);
+			}
+		}
+	}
+}
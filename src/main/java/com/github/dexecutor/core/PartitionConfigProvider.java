@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+/**
+ * Provides the configuration for each partition of a {@code PartitionedDexecutor}
+ * 
+ * @param <T> Type of Node/Task ID
+ * @param <R> Type of Node/Task result
+ */
+public interface PartitionConfigProvider<T extends Comparable<T>, R> {
+	/**
+	 * Given the partition number, returns the config with which the partition should be executed. Every call should return a new config
+	 * with its own {@code DexecutorState}, the execution engine may be shared between partitions or not.
+	 * 
+	 * @param partition the partition number, starting from zero
+	 * @return config for the partition
+	 */
+	DexecutorConfig<T, R> provideConfig(final int partition);
+}
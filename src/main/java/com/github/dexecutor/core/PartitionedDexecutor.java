@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static com.github.dexecutor.core.support.Preconditions.checkArgument;
+import static com.github.dexecutor.core.support.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.dexecutor.core.graph.Dag;
+import com.github.dexecutor.core.graph.DagUtil;
+import com.github.dexecutor.core.graph.DefaultDag;
+import com.github.dexecutor.core.graph.DependencyAware;
+import com.github.dexecutor.core.graph.Node;
+import com.github.dexecutor.core.task.ExecutionResult;
+import com.github.dexecutor.core.task.ExecutionResults;
+import com.github.dexecutor.core.task.TaskExecutionException;
+import com.github.dexecutor.core.task.TaskProvider;
+
+/**
+ * Splits the graph into weakly connected components and executes each component by its own {@code DefaultDexecutor}, with its own
+ * state and coordinator thread, so that unrelated sub graphs do not contend with each other. Components smaller than the minimum
+ * partition size, such as independent nodes, are batched together into one partition. Results of all the partitions are merged once
+ * every partition is done.
+ * 
+ * @param <T> Type of Node/Task ID
+ * @param <R> Type of Node/Task result
+ */
+public final class PartitionedDexecutor<T extends Comparable<T>, R> implements DependencyAware<T> {
+
+	private static final Logger logger = LoggerFactory.getLogger(PartitionedDexecutor.class);
+
+	private static final int DEFAULT_MIN_PARTITION_SIZE = 64;
+
+	/**
+	 * The graph being built, dropped once the partitions are built, so that the nodes are not held twice during the execution
+	 */
+	private Dag<T, R> graph = new DefaultDag<T, R>();
+	private final PartitionConfigProvider<T, R> configProvider;
+	private int coordinatorThreadsCount = Runtime.getRuntime().availableProcessors();
+	private int minPartitionSize = DEFAULT_MIN_PARTITION_SIZE;
+	private Phase currentPhase = Phase.BUILDING;
+
+	/**
+	 * Creates the executor in which all the partitions share the given executor service, each partition has its own execution engine though.
+	 * 
+	 * @param executorService shared executor service, where in tasks would be scheduled
+	 * @param taskProvider provided task provider
+	 */
+	public PartitionedDexecutor(final ExecutorService executorService, final TaskProvider<T, R> taskProvider) {
+		this(new PartitionConfigProvider<T, R>() {
+
+			@Override
+			public DexecutorConfig<T, R> provideConfig(final int partition) {
+				return new DexecutorConfig<T, R>(executorService, taskProvider);
+			}
+		});
+		checkNotNull(executorService, "Executer Service should not be null");
+		checkNotNull(taskProvider, "Task Provider should not be null");
+	}
+
+	/**
+	 * Creates the executor in which every partition is configured by the given provider
+	 * 
+	 * @param configProvider provides config for each partition
+	 */
+	public PartitionedDexecutor(final PartitionConfigProvider<T, R> configProvider) {
+		checkNotNull(configProvider, "Partition Config Provider should not be null");
+		this.configProvider = configProvider;
+	}
+
+	/**
+	 * sets the maximum number of partitions which are coordinated at the same time, defaults to the number of available processors
+	 * 
+	 * @param coordinatorThreadsCount Number of threads that should coordinate partitions
+	 */
+	public void setCoordinatorThreadsCount(int coordinatorThreadsCount) {
+		checkArgument(coordinatorThreadsCount > 0, "Coordinator threads count should be greater than ZERO");
+		this.coordinatorThreadsCount = coordinatorThreadsCount;
+	}
+
+	/**
+	 * sets the number of nodes below which components are batched together into one partition, rather than each having a coordinator
+	 * of its own, defaults to {@value #DEFAULT_MIN_PARTITION_SIZE}
+	 * 
+	 * @param minPartitionSize minimum number of nodes of a partition, {@code 1} to give every component its own partition
+	 */
+	public void setMinPartitionSize(int minPartitionSize) {
+		checkArgument(minPartitionSize > 0, "Min partition size should be greater than ZERO");
+		this.minPartitionSize = minPartitionSize;
+	}
+
+	@Override
+	public void addIndependent(final T nodeValue) {
+		checkValidPhase();
+		this.graph.addIndependent(nodeValue);
+	}
+
+	@Override
+	public void addDependency(final T evalFirstValue, final T evalAfterValue) {
+		checkValidPhase();
+		this.graph.addDependency(evalFirstValue, evalAfterValue);
+	}
+
+	@Override
+	public void addAsDependentOnAllLeafNodes(final T nodeValue) {
+		checkValidPhase();
+		this.graph.addAsDependentOnAllLeafNodes(nodeValue);
+	}
+
+	@Override
+	public void addAsDependencyToAllInitialNodes(final T nodeValue) {
+		checkValidPhase();
+		this.graph.addAsDependencyToAllInitialNodes(nodeValue);
+	}
+
+	/**
+	 * Adds a barrier, so that every node in {@code evalLaterNodes} is evaluated after all the nodes in {@code evalFirstNodes}
+	 * 
+	 * @param barrier unique id of the barrier node
+	 * @param evalFirstNodes nodes which should be evaluated first
+	 * @param evalLaterNodes nodes which should be evaluated after all of {@code evalFirstNodes}
+	 * @see DefaultDexecutor#addBarrier(Comparable, Collection, Collection)
+	 */
+	public void addBarrier(final T barrier, final Collection<T> evalFirstNodes, final Collection<T> evalLaterNodes) {
+		checkValidPhase();
+		checkNotNull(evalFirstNodes, "Eval first nodes should not be null");
+		checkNotNull(evalLaterNodes, "Eval later nodes should not be null");
+		this.graph.addBarrier(barrier);
+		for (T evalFirstNode : evalFirstNodes) {
+			this.graph.addDependency(evalFirstNode, barrier);
+		}
+		for (T evalLaterNode : evalLaterNodes) {
+			this.graph.addDependency(barrier, evalLaterNode);
+		}
+	}
+
+	/**
+	 * Kicks off the execution of all the partitions, and waits for all of them to finish
+	 * 
+	 * @param config based on which execution of every partition should proceed.
+	 * @return the merged results of all processed nodes
+	 */
+	public ExecutionResults<T, R> execute(final ExecutionConfig config) {
+		config.validate();
+		checkValidPhase();
+		this.currentPhase = Phase.RUNNING;
+		try {
+			return doExecute(config);
+		} finally {
+			this.currentPhase = Phase.TERMINATED;
+		}
+	}
+
+	private ExecutionResults<T, R> doExecute(final ExecutionConfig config) {
+		List<Set<Node<T, R>>> partitions = partitions(DagUtil.connectedComponents(this.graph.allNodes()));
+		logger.debug("Executing {} nodes in {} partitions", this.graph.size(), partitions.size());
+		this.graph = null;
+
+		ExecutionResults<T, R> results = new ExecutionResults<T, R>();
+		if (!partitions.isEmpty()) {
+			ExecutorService coordinators = Executors.newFixedThreadPool(Math.min(partitions.size(), this.coordinatorThreadsCount));
+			try {
+				List<Future<ExecutionResults<T, R>>> futures = new ArrayList<Future<ExecutionResults<T, R>>>(partitions.size());
+				for (int i = 0; i < partitions.size(); i++) {
+					futures.add(coordinators.submit(new PartitionCoordinator(i, partitions.get(i), config)));
+				}
+				partitions.clear();
+				for (Future<ExecutionResults<T, R>> future : futures) {
+					merge(results, future);
+				}
+			} finally {
+				coordinators.shutdownNow();
+			}
+		}
+		return results;
+	}
+
+	private List<Set<Node<T, R>>> partitions(final List<Set<Node<T, R>>> components) {
+		List<Set<Node<T, R>>> partitions = new ArrayList<Set<Node<T, R>>>();
+		Set<Node<T, R>> batch = null;
+		for (Set<Node<T, R>> component : components) {
+			if (component.size() >= this.minPartitionSize) {
+				partitions.add(component);
+			} else {
+				if (batch == null) {
+					batch = new LinkedHashSet<Node<T, R>>();
+					partitions.add(batch);
+				}
+				batch.addAll(component);
+				if (batch.size() >= this.minPartitionSize) {
+					batch = null;
+				}
+			}
+		}
+		return partitions;
+	}
+
+	private ExecutionResults<T, R> results(final DexecutorState<T, R> state) {
+		ExecutionResults<T, R> results = new ExecutionResults<T, R>();
+		for (Node<T, R> node : state.getProcessedNodes()) {
+			results.add(new ExecutionResult<T, R>(node.getValue(), node.getResult(), DefaultDexecutor.status(node)));
+		}
+		return results;
+	}
+
+	private void merge(final ExecutionResults<T, R> results, final Future<ExecutionResults<T, R>> future) {
+		try {
+			for (ExecutionResult<T, R> result : future.get().getAll()) {
+				results.add(result);
+			}
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new TaskExecutionException("Partition execution failed", e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TaskExecutionException("Partition execution interrupted", e);
+		}
+	}
+
+	private void checkValidPhase() {
+		if (!Phase.BUILDING.equals(this.currentPhase)) {
+			throw new IllegalStateException("Dexecutor is already " + this.currentPhase + "!");
+		}
+	}
+
+	/**
+	 * Coordinates one partition, the nodes of the partition are copied into a {@code DefaultDexecutor} only once the partition starts,
+	 * and dropped right after, so that the original nodes of each partition can be collected as soon as the copy is made.
+	 */
+	private final class PartitionCoordinator implements Callable<ExecutionResults<T, R>> {
+
+		private final int partition;
+		private final DexecutorConfig<T, R> config;
+		private final ExecutionConfig executionConfig;
+		private Set<Node<T, R>> nodes;
+
+		PartitionCoordinator(final int partition, final Set<Node<T, R>> nodes, final ExecutionConfig executionConfig) {
+			this.partition = partition;
+			this.config = configProvider.provideConfig(partition);
+			this.executionConfig = executionConfig;
+			this.nodes = nodes;
+		}
+
+		@Override
+		public ExecutionResults<T, R> call() throws Exception {
+			logger.debug("Executing partition #{}", this.partition);
+			newDexecutor().execute(this.executionConfig);
+			return results(this.config.getDexecutorState());
+		}
+
+		private DefaultDexecutor<T, R> newDexecutor() {
+			DefaultDexecutor<T, R> dexecutor = new DefaultDexecutor<T, R>(this.config);
+			for (Node<T, R> node : this.nodes) {
+				if (node.isBarrier()) {
+					dexecutor.addBarrier(node.getValue(), Collections.<T>emptyList(), Collections.<T>emptyList());
+				}
+				if (node.getInComingNodes().isEmpty() && node.getOutGoingNodes().isEmpty()) {
+					dexecutor.addIndependent(node.getValue());
+				}
+				for (Node<T, R> child : node.getOutGoingNodes()) {
+					dexecutor.addDependency(node.getValue(), child.getValue());
+				}
+			}
+			this.nodes = null;
+			return dexecutor;
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+/**
+ * Counts nodes by state as the execution goes, updated only by the thread coordinating the execution and read by any thread. Updates
+ * are bracketed by a version which is odd while an update is in progress, readers retry until they see the same even version before
+ * and after reading the counts, so snapshots are consistent without any lock.
+ */
+final class ProgressTracker {
+
+	private volatile long version;
+	private volatile long startTime;
+	private volatile long endTime;
+	private volatile int total;
+	private volatile int running;
+	private volatile int succeeded;
+	private volatile int errored;
+	private volatile int skipped;
+	private volatile int retried;
+
+	void begin(final int nodesToProcess) {
+		beginUpdate();
+		this.startTime = System.nanoTime();
+		this.endTime = 0;
+		this.total = nodesToProcess;
+		this.running = 0;
+		this.succeeded = 0;
+		this.errored = 0;
+		this.skipped = 0;
+		this.retried = 0;
+		endUpdate();
+	}
+
+	void end() {
+		beginUpdate();
+		this.endTime = System.nanoTime();
+		endUpdate();
+	}
+
+	void submitted() {
+		beginUpdate();
+		this.running++;
+		endUpdate();
+	}
+
+	void finished(final boolean success) {
+		beginUpdate();
+		this.running--;
+		if (success) {
+			this.succeeded++;
+		} else {
+			this.errored++;
+		}
+		endUpdate();
+	}
+
+	void skipped() {
+		beginUpdate();
+		this.skipped++;
+		endUpdate();
+	}
+
+	void retried() {
+		beginUpdate();
+		this.errored--;
+		this.retried++;
+		this.running++;
+		endUpdate();
+	}
+
+	void expanded(final int addedNodes) {
+		beginUpdate();
+		this.total += addedNodes;
+		endUpdate();
+	}
+
+	private void beginUpdate() {
+		this.version++;
+	}
+
+	private void endUpdate() {
+		this.version++;
+	}
+
+	ExecutionProgress snapshot() {
+		while (true) {
+			long before = this.version;
+			if ((before & 1) == 0) {
+				long start = this.startTime;
+				long end = this.endTime;
+				int totalCount = this.total;
+				int runningCount = this.running;
+				int succeededCount = this.succeeded;
+				int erroredCount = this.errored;
+				int skippedCount = this.skipped;
+				int retriedCount = this.retried;
+				if (before == this.version) {
+					long elapsed = start == 0 ? 0 : (end != 0 ? end : System.nanoTime()) - start;
+					return new ExecutionProgress(totalCount, runningCount, succeededCount, erroredCount, skippedCount, retriedCount, elapsed);
+				}
+			}
+			Thread.yield();
+		}
+	}
+}
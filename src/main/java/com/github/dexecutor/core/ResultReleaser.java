@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.dexecutor.core.graph.Node;
+import com.github.dexecutor.core.store.ResultStore;
+
+/**
+ * Keeps track of how many children still need the result of a node, and drops the result once the last child is done with it. Results
+ * of leaf nodes and of pinned nodes are always kept. A barrier is done once all of its children are, only then the results of its parents
+ * are released. Parents kept after transitive reduction count as parents too. Accessed only by the coordinator thread.
+ * 
+ * @param <T> Type of Node/Task ID
+ * @param <R> Type of Node/Task result
+ */
+final class ResultReleaser<T extends Comparable<T>, R> {
+
+	private static final Logger logger = LoggerFactory.getLogger(ResultReleaser.class);
+
+	private final Set<T> pinned = new HashSet<T>();
+	private final Map<Node<T, R>, Integer> remainingChildren = new HashMap<Node<T, R>, Integer>();
+	private final Map<Node<T, R>, Set<Node<T, R>>> reducedParents = new HashMap<Node<T, R>, Set<Node<T, R>>>();
+	private final Map<Node<T, R>, Set<Node<T, R>>> reducedChildren = new HashMap<Node<T, R>, Set<Node<T, R>>>();
+	private final ResultStore<T, R> resultStore;
+	private Set<Node<T, R>> scope;
+
+	/**
+	 * 
+	 * @param resultStore store to notify about released results, may be {@code null}
+	 */
+	ResultReleaser(final ResultStore<T, R> resultStore) {
+		this.resultStore = resultStore;
+	}
+
+	/**
+	 * Results of the given node would never be released
+	 * 
+	 * @param nodeValue id of the node to pin
+	 */
+	void pin(final T nodeValue) {
+		this.pinned.add(nodeValue);
+	}
+
+	/**
+	 * Results of the given parent would be kept till the given child is done, though the edge between them was removed
+	 * 
+	 * @param parent the parent whose edge was removed
+	 * @param child the child which still reads the result of the parent
+	 */
+	void keepForChild(final Node<T, R> parent, final Node<T, R> child) {
+		add(this.reducedParents, child, parent);
+		add(this.reducedChildren, parent, child);
+	}
+
+	private void add(final Map<Node<T, R>, Set<Node<T, R>>> edges, final Node<T, R> from, final Node<T, R> to) {
+		Set<Node<T, R>> nodes = edges.get(from);
+		if (nodes == null) {
+			nodes = new HashSet<Node<T, R>>();
+			edges.put(from, nodes);
+		}
+		nodes.add(to);
+	}
+
+	/**
+	 * Starts counting afresh for a new run
+	 * 
+	 * @param scope nodes processed in the run, {@code null} if all the nodes are processed
+	 */
+	void reset(final Set<Node<T, R>> scope) {
+		this.scope = scope;
+		this.remainingChildren.clear();
+	}
+
+	/**
+	 * Called once the given node is done for good, that is, it won't be executed again in this run
+	 * 
+	 * @param node the node done with the results of its parents
+	 */
+	void childDone(final Node<T, R> node) {
+		parentDone(node.getInComingNodes());
+		Set<Node<T, R>> parents = this.reducedParents.get(node);
+		if (parents != null) {
+			parentDone(parents);
+		}
+	}
+
+	private void parentDone(final Collection<Node<T, R>> parents) {
+		for (Node<T, R> parent : parents) {
+			Integer remaining = this.remainingChildren.get(parent);
+			if (remaining == null) {
+				remaining = childrenInScope(parent);
+			}
+			remaining--;
+			if (remaining > 0) {
+				this.remainingChildren.put(parent, remaining);
+			} else {
+				this.remainingChildren.remove(parent);
+				release(parent);
+			}
+		}
+	}
+
+	private int childrenInScope(final Node<T, R> node) {
+		int count = childrenInScope(node.getOutGoingNodes());
+		Set<Node<T, R>> children = this.reducedChildren.get(node);
+		if (children != null) {
+			count += childrenInScope(children);
+		}
+		return count;
+	}
+
+	private int childrenInScope(final Collection<Node<T, R>> children) {
+		if (this.scope == null) {
+			return children.size();
+		}
+		int count = 0;
+		for (Node<T, R> child : children) {
+			if (this.scope.contains(child)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private void release(final Node<T, R> node) {
+		if (node.isBarrier()) {
+			childDone(node);
+		} else if (!this.pinned.contains(node.getValue())) {
+			logger.debug("Releasing result of node {}", node.getValue());
+			node.setResult(null);
+			if (this.resultStore != null) {
+				this.resultStore.release(node.getValue());
+			}
+		}
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hit and miss statistics of a {@code ResultCache}
+ */
+public final class CacheStats {
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+
+	/**
+	 * records a cache hit
+	 */
+	public void recordHit() {
+		this.hitCount.incrementAndGet();
+	}
+	/**
+	 * records a cache miss
+	 */
+	public void recordMiss() {
+		this.missCount.incrementAndGet();
+	}
+	/**
+	 * 
+	 * @return the number of lookups which found a result
+	 */
+	public long getHitCount() {
+		return this.hitCount.get();
+	}
+	/**
+	 * 
+	 * @return the number of lookups which did not find a result
+	 */
+	public long getMissCount() {
+		return this.missCount.get();
+	}
+	/**
+	 * 
+	 * @return ratio of hits to all lookups, {@code 0} if there were no lookups
+	 */
+	public double getHitRate() {
+		long hits = getHitCount();
+		long total = hits + getMissCount();
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	@Override
+	public String toString() {
+		return "CacheStats [hitCount=" + getHitCount() + ", missCount=" + getMissCount() + "]";
+	}
+}
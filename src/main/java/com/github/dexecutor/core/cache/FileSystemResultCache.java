@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.cache;
+
+import static com.github.dexecutor.core.support.Preconditions.checkArgument;
+import static com.github.dexecutor.core.support.Preconditions.checkNotNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.dexecutor.core.task.ExecutionResult;
+
+/**
+ * A {@code ResultCache} which serializes results into files of a directory, one file per fingerprint, so that results survive across runs.
+ * Results which are not {@code Serializable} are not cached.
+ * 
+ * @param <T> Type of Node/Task ID
+ * @param <R> Type of Node/Task result
+ */
+public final class FileSystemResultCache<T, R> implements ResultCache<T, R> {
+
+	private static final Logger logger = LoggerFactory.getLogger(FileSystemResultCache.class);
+
+	private static final String SUFFIX = ".result";
+
+	private final File directory;
+	private final CacheStats stats = new CacheStats();
+
+	/**
+	 * 
+	 * @param directory where results are stored, created if it does not exist
+	 */
+	public FileSystemResultCache(final File directory) {
+		checkNotNull(directory, "Directory should not be null");
+		checkArgument(directory.isDirectory() || directory.mkdirs(), "Can't create directory " + directory);
+		this.directory = directory;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public ExecutionResult<T, R> get(final String fingerprint) {
+		File file = fileOf(fingerprint);
+		ExecutionResult<T, R> result = null;
+		if (file.isFile()) {
+			try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+				result = (ExecutionResult<T, R>) in.readObject();
+			} catch (IOException | ClassNotFoundException e) {
+				logger.warn("Discarding unreadable cache entry {}", file, e);
+				file.delete();
+			}
+		}
+		if (result == null) {
+			this.stats.recordMiss();
+		} else {
+			this.stats.recordHit();
+		}
+		return result;
+	}
+
+	@Override
+	public void put(final String fingerprint, final ExecutionResult<T, R> result) {
+		File file = fileOf(fingerprint);
+		if (file.isFile()) {
+			return;
+		}
+		File temp = null;
+		try {
+			temp = File.createTempFile("result", ".tmp", this.directory);
+			try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				out.writeObject(result);
+			}
+			move(temp, file);
+		} catch (IOException e) {
+			logger.warn("Could not cache result of node # {}", result.getId(), e);
+			if (temp != null) {
+				temp.delete();
+			}
+		}
+	}
+
+	private void move(final File from, final File to) throws IOException {
+		try {
+			Files.move(from.toPath(), to.toPath(), StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(from.toPath(), to.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private File fileOf(final String fingerprint) {
+		return new File(this.directory, fingerprint + SUFFIX);
+	}
+
+	@Override
+	public CacheStats getStats() {
+		return this.stats;
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map.Entry;
+import java.util.SortedMap;
+
+/**
+ * Support class to derive the fingerprint of a node from the fingerprint of its task and of its parents
+ */
+public final class FingerprintUtil {
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private FingerprintUtil() {
+
+	}
+
+	/**
+	 * Combines the task fingerprint with parent fingerprints into a SHA-256 hex digest, the digest does not depend on the
+	 * order in which the parents were added.
+	 * 
+	 * @param <T> Type of Node/Task ID
+	 * @param taskFingerprint fingerprint of the task's own inputs
+	 * @param parentFingerprints fingerprints of parents, keyed by parent id
+	 * @return the combined fingerprint
+	 */
+	public static <T extends Comparable<T>> String combine(final String taskFingerprint, final SortedMap<T, String> parentFingerprints) {
+		MessageDigest digest = sha256();
+		update(digest, taskFingerprint);
+		for (Entry<T, String> parent : parentFingerprints.entrySet()) {
+			update(digest, String.valueOf(parent.getKey()));
+			update(digest, parent.getValue());
+		}
+		return toHex(digest.digest());
+	}
+
+	private static void update(final MessageDigest digest, final String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		digest.update((byte) (bytes.length >>> 24));
+		digest.update((byte) (bytes.length >>> 16));
+		digest.update((byte) (bytes.length >>> 8));
+		digest.update((byte) bytes.length);
+		digest.update(bytes);
+	}
+
+	private static String toHex(final byte[] bytes) {
+		char[] chars = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+			chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+		}
+		return new String(chars);
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported", e);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.cache;
+
+import static com.github.dexecutor.core.support.Preconditions.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.github.dexecutor.core.task.ExecutionResult;
+
+/**
+ * A {@code ResultCache} which keeps at most {@code capacity} results in memory, evicting the least recently used one.
+ * 
+ * @param <T> Type of Node/Task ID
+ * @param <R> Type of Node/Task result
+ */
+public final class InMemoryResultCache<T, R> implements ResultCache<T, R> {
+
+	private final Map<String, ExecutionResult<T, R>> results;
+	private final CacheStats stats = new CacheStats();
+
+	/**
+	 * 
+	 * @param capacity maximum number of results to keep
+	 */
+	public InMemoryResultCache(final int capacity) {
+		checkArgument(capacity > 0, "Capacity should be greater than ZERO");
+		this.results = new LinkedHashMap<String, ExecutionResult<T, R>>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, ExecutionResult<T, R>> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	@Override
+	public synchronized ExecutionResult<T, R> get(final String fingerprint) {
+		ExecutionResult<T, R> result = this.results.get(fingerprint);
+		if (result == null) {
+			this.stats.recordMiss();
+		} else {
+			this.stats.recordHit();
+		}
+		return result;
+	}
+
+	@Override
+	public synchronized void put(final String fingerprint, final ExecutionResult<T, R> result) {
+		this.results.put(fingerprint, result);
+	}
+	/**
+	 * 
+	 * @return number of results currently held
+	 */
+	public synchronized int size() {
+		return this.results.size();
+	}
+
+	@Override
+	public CacheStats getStats() {
+		return this.stats;
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.cache;
+
+import com.github.dexecutor.core.task.ExecutionResult;
+
+/**
+ * A content addressed store of execution results, keyed by the fingerprint of a node. A node whose fingerprint is found in the cache
+ * is not executed, instead the cached result is used.
+ * 
+ * @param <T> Type of Node/Task ID
+ * @param <R> Type of Node/Task result
+ */
+public interface ResultCache<T, R> {
+	/**
+	 * Looks up the result for the given fingerprint
+	 * 
+	 * @param fingerprint the fingerprint of the node
+	 * @return the cached result or {@code null} if there is none
+	 */
+	ExecutionResult<T, R> get(final String fingerprint);
+	/**
+	 * Stores the result against the given fingerprint
+	 * 
+	 * @param fingerprint the fingerprint of the node
+	 * @param result the result to store
+	 */
+	void put(final String fingerprint, final ExecutionResult<T, R> result);
+	/**
+	 * 
+	 * @return hit and miss statistics of this cache
+	 */
+	CacheStats getStats();
+}
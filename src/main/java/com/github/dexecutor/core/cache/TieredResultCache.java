@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.cache;
+
+import static com.github.dexecutor.core.support.Preconditions.checkNotNull;
+
+import com.github.dexecutor.core.task.ExecutionResult;
+
+/**
+ * A two level {@code ResultCache}, lookups go to the first level and then to the second level, results found in the second level are
+ * promoted to the first level. Typically the first level is an {@code InMemoryResultCache} and the second a {@code FileSystemResultCache}.
+ * 
+ * @param <T> Type of Node/Task ID
+ * @param <R> Type of Node/Task result
+ */
+public final class TieredResultCache<T, R> implements ResultCache<T, R> {
+
+	private final ResultCache<T, R> firstLevel;
+	private final ResultCache<T, R> secondLevel;
+	private final CacheStats stats = new CacheStats();
+
+	public TieredResultCache(final ResultCache<T, R> firstLevel, final ResultCache<T, R> secondLevel) {
+		checkNotNull(firstLevel, "First level cache should not be null");
+		checkNotNull(secondLevel, "Second level cache should not be null");
+		this.firstLevel = firstLevel;
+		this.secondLevel = secondLevel;
+	}
+
+	@Override
+	public ExecutionResult<T, R> get(final String fingerprint) {
+		ExecutionResult<T, R> result = this.firstLevel.get(fingerprint);
+		if (result == null) {
+			result = this.secondLevel.get(fingerprint);
+			if (result != null) {
+				this.firstLevel.put(fingerprint, result);
+			}
+		}
+		if (result == null) {
+			this.stats.recordMiss();
+		} else {
+			this.stats.recordHit();
+		}
+		return result;
+	}
+
+	@Override
+	public void put(final String fingerprint, final ExecutionResult<T, R> result) {
+		this.firstLevel.put(fingerprint, result);
+		this.secondLevel.put(fingerprint, result);
+	}
+	/**
+	 * 
+	 * @return the overall statistics, see the levels for statistics per level
+	 */
+	@Override
+	public CacheStats getStats() {
+		return this.stats;
+	}
+	/**
+	 * 
+	 * @return the first level cache
+	 */
+	public ResultCache<T, R> getFirstLevel() {
+		return this.firstLevel;
+	}
+	/**
+	 * 
+	 * @return the second level cache
+	 */
+	public ResultCache<T, R> getSecondLevel() {
+		return this.secondLevel;
+	}
+}
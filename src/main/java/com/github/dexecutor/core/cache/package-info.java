@@ -0,0 +1,4 @@
+/**
+ * Package related to caching of task execution results across runs
+ */
+package com.github.dexecutor.core.cache;
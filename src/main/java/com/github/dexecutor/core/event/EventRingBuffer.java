@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import com.github.dexecutor.core.task.ExecutionStatus;
+
+/**
+ * Ring of preallocated events with a single writer and a single reader. The writer waits only when the reader falls a full ring behind.
+ * 
+ * @param <T> Type of Node/Task ID
+ */
+final class EventRingBuffer<T> {
+
+	private final ExecutionEvent<T>[] events;
+	private final int mask;
+	/**
+	 * Sequence of the last event published by the writer
+	 */
+	private final AtomicLong published = new AtomicLong(-1);
+	/**
+	 * Sequence of the last event handled by the reader
+	 */
+	private final AtomicLong consumed = new AtomicLong(-1);
+	/**
+	 * Writer only, sequence of the next event to publish
+	 */
+	private long next = 0;
+	/**
+	 * Writer only, last seen value of {@code consumed}
+	 */
+	private long cachedConsumed = -1;
+
+	EventRingBuffer(final int capacity) {
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity) {
+			size <<= 1;
+		}
+		@SuppressWarnings("unchecked")
+		ExecutionEvent<T>[] events = (ExecutionEvent<T>[]) new ExecutionEvent<?>[size];
+		this.events = events;
+		for (int i = 0; i < size; i++) {
+			this.events[i] = new ExecutionEvent<T>();
+		}
+		this.mask = size - 1;
+	}
+
+	int capacity() {
+		return this.events.length;
+	}
+
+	void publish(final ExecutionEventType type, final T id, final ExecutionStatus status, final long timestamp) {
+		long sequence = this.next;
+		while (sequence - this.cachedConsumed > this.events.length) {
+			this.cachedConsumed = this.consumed.get();
+			if (sequence - this.cachedConsumed > this.events.length) {
+				LockSupport.parkNanos(1000);
+			}
+		}
+		this.events[(int) sequence & this.mask].set(sequence, type, id, status, timestamp);
+		this.next = sequence + 1;
+		this.published.lazySet(sequence);
+	}
+
+	/**
+	 * Hands all published events not yet handled to the given handler
+	 * 
+	 * @param handler the handler
+	 * @return number of events handled
+	 */
+	int drain(final ExecutionListener<T> handler) {
+		long from = this.consumed.get() + 1;
+		long to = this.published.get();
+		for (long sequence = from; sequence <= to; sequence++) {
+			ExecutionEvent<T> event = this.events[(int) sequence & this.mask];
+			try {
+				handler.onEvent(event);
+			} finally {
+				event.clear();
+				this.consumed.lazySet(sequence);
+			}
+		}
+		return (int) (to - from + 1);
+	}
+
+	boolean isDrained() {
+		return this.consumed.get() == this.published.get();
+	}
+}
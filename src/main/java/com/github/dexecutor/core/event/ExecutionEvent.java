@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.event;
+
+import com.github.dexecutor.core.task.ExecutionStatus;
+
+/**
+ * An event about a node. Events are preallocated slots of a ring buffer and are reused once listeners are done with them, so listeners
+ * should copy whatever they need to keep.
+ * 
+ * @param <T> Type of Node/Task ID
+ */
+public final class ExecutionEvent<T> {
+
+	private long sequence;
+	private ExecutionEventType type;
+	private T id;
+	private ExecutionStatus status;
+	private long timestamp;
+
+	void set(final long sequence, final ExecutionEventType type, final T id, final ExecutionStatus status, final long timestamp) {
+		this.sequence = sequence;
+		this.type = type;
+		this.id = id;
+		this.status = status;
+		this.timestamp = timestamp;
+	}
+
+	void clear() {
+		this.id = null;
+		this.status = null;
+	}
+
+	/**
+	 * 
+	 * @return position of this event among all events published by the executor, starting at zero, which may differ from the order
+	 * 			of timestamps
+	 */
+	public long getSequence() {
+		return this.sequence;
+	}
+
+	/**
+	 * 
+	 * @return what happened to the node
+	 */
+	public ExecutionEventType getType() {
+		return this.type;
+	}
+
+	/**
+	 * 
+	 * @return id of the node
+	 */
+	public T getId() {
+		return this.id;
+	}
+
+	/**
+	 * 
+	 * @return status of the execution for {@code FINISHED} events, {@code null} otherwise
+	 */
+	public ExecutionStatus getStatus() {
+		return this.status;
+	}
+
+	/**
+	 * 
+	 * @return when it happened, as given by {@code System.nanoTime()}
+	 */
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+
+	@Override
+	public String toString() {
+		return "ExecutionEvent [sequence=" + sequence + ", type=" + type + ", id=" + id + ", status=" + status + ", timestamp=" + timestamp + "]";
+	}
+}
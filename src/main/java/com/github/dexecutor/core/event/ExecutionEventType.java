@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.event;
+
+/**
+ * Represents what happened to a node
+ * <ul>
+ * 		<li> <code> READY:</code> All parents of the node are processed</li>
+ * 		<li> <code> SUBMITTED:</code> Node's task is handed to the execution engine</li>
+ * 		<li> <code> STARTED:</code> Node's task started executing, published together with {@code FINISHED}</li>
+ * 		<li> <code> FINISHED:</code> Node's task finished executing, successfully or not</li>
+ * 		<li> <code> SKIPPED:</code> Node's execution was skipped</li>
+ * 		<li> <code> RETRIED:</code> Node's task is going to be retried</li>
+ * </ul>
+ * Events are published by the thread coordinating the execution, which learns of a task only once its result comes back. So
+ * {@code STARTED} is published just before {@code FINISHED}, bearing the time the task actually started, and may follow later
+ * {@code READY} or {@code SUBMITTED} events of other nodes. To see which tasks are running now use {@code Dexecutor.getProgress}.
+ */
+public enum ExecutionEventType {
+	READY, SUBMITTED, STARTED, FINISHED, SKIPPED, RETRIED;
+}
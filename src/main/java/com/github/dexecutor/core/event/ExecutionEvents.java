@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.event;
+
+import static com.github.dexecutor.core.support.Preconditions.checkArgument;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.dexecutor.core.task.ExecutionStatus;
+
+/**
+ * Publishes execution events to listeners. Events are written by a single thread, the one coordinating the execution, into a ring
+ * buffer and delivered to the listeners by a dispatcher thread, which runs between {@code start} and {@code stop}.
+ * 
+ * @param <T> Type of Node/Task ID
+ */
+public final class ExecutionEvents<T> implements ExecutionListener<T> {
+
+	private static final Logger logger = LoggerFactory.getLogger(ExecutionEvents.class);
+
+	private static final long IDLE_WAIT_NANOS = 100000;
+
+	private final EventRingBuffer<T> ringBuffer;
+	private final List<ExecutionListener<T>> listeners = new CopyOnWriteArrayList<ExecutionListener<T>>();
+	private volatile boolean running;
+	private Thread dispatcher;
+
+	/**
+	 * 
+	 * @param capacity number of events the buffer holds, rounded up to a power of two
+	 */
+	public ExecutionEvents(final int capacity) {
+		checkArgument(capacity > 0, "Capacity should be greater than ZERO");
+		this.ringBuffer = new EventRingBuffer<T>(capacity);
+	}
+
+	/**
+	 * 
+	 * @param listener listener to which events should be delivered
+	 */
+	public void addListener(final ExecutionListener<T> listener) {
+		this.listeners.add(listener);
+	}
+
+	/**
+	 * 
+	 * @return {@code true} if there is any listener
+	 */
+	public boolean hasListeners() {
+		return !this.listeners.isEmpty();
+	}
+
+	/**
+	 * Publishes an event, called only by the thread coordinating the execution
+	 * 
+	 * @param type what happened
+	 * @param id id of the node
+	 * @param status status of the execution for {@code FINISHED} events, {@code null} otherwise
+	 * @param timestamp when it happened, as given by {@code System.nanoTime()}
+	 */
+	public void publish(final ExecutionEventType type, final T id, final ExecutionStatus status, final long timestamp) {
+		this.ringBuffer.publish(type, id, status, timestamp);
+	}
+
+	/**
+	 * Starts the dispatcher thread
+	 */
+	public synchronized void start() {
+		if (this.dispatcher == null) {
+			this.running = true;
+			this.dispatcher = new Thread(new Runnable() {
+
+				@Override
+				public void run() {
+					dispatch();
+				}
+			}, "dexecutor-event-dispatcher");
+			this.dispatcher.setDaemon(true);
+			this.dispatcher.start();
+		}
+	}
+
+	/**
+	 * Stops the dispatcher thread once all the published events are delivered
+	 */
+	public synchronized void stop() {
+		if (this.dispatcher != null) {
+			this.running = false;
+			LockSupport.unpark(this.dispatcher);
+			try {
+				this.dispatcher.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			this.dispatcher = null;
+		}
+	}
+
+	private void dispatch() {
+		while (this.running || !this.ringBuffer.isDrained()) {
+			if (this.ringBuffer.drain(this) == 0 && this.running) {
+				LockSupport.parkNanos(IDLE_WAIT_NANOS);
+			}
+		}
+	}
+
+	@Override
+	public void onEvent(final ExecutionEvent<T> event) {
+		for (ExecutionListener<T> listener : this.listeners) {
+			try {
+				listener.onEvent(event);
+			} catch (RuntimeException e) {
+				logger.error("Listener failed on {}", event, e);
+			}
+		}
+	}
+}
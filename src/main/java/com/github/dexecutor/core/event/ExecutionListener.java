@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.event;
+
+/**
+ * Listens to execution events of nodes. Events are delivered in order, on a thread of their own, so a slow listener does not hold up the
+ * execution until the event buffer is full. Events are ordered by when they were published, not by their timestamps; in particular
+ * {@code STARTED} is published only when the task has finished, see {@link ExecutionEventType}.
+ * 
+ * @param <T> Type of Node/Task ID
+ */
+public interface ExecutionListener<T> {
+	/**
+	 * Called for every event, the event is reused after the call returns
+	 * 
+	 * @param event the event
+	 */
+	void onEvent(final ExecutionEvent<T> event);
+}
@@ -0,0 +1,4 @@
+/**
+ * Package related to listening to execution events of nodes
+ */
+package com.github.dexecutor.core.event;
\ No newline at end of file
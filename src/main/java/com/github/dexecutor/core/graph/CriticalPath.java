@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.graph;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Critical path through a graph, computed from the measured execution times of its nodes. The critical path is the longest chain of
+ * dependent nodes, its length is the best makespan any number of workers could achieve, while the slack of a node is how much longer
+ * it could have taken without delaying that makespan. All times are in nanoseconds.
+ * 
+ * @param <T> Type of Node/Task ID
+ */
+public final class CriticalPath<T> {
+
+	private final List<T> path;
+	private final Map<T, Long> executionTimes;
+	private final Map<T, Long> slacks;
+	private final long bestMakespan;
+	private final long actualMakespan;
+	private final long totalWork;
+
+	CriticalPath(final List<T> path, final Map<T, Long> executionTimes, final Map<T, Long> slacks, final long bestMakespan,
+			final long actualMakespan, final long totalWork) {
+		this.path = Collections.unmodifiableList(path);
+		this.executionTimes = Collections.unmodifiableMap(executionTimes);
+		this.slacks = Collections.unmodifiableMap(slacks);
+		this.bestMakespan = bestMakespan;
+		this.actualMakespan = actualMakespan;
+		this.totalWork = totalWork;
+	}
+
+	/**
+	 * 
+	 * @return ids of the nodes on the critical path, from the root to the leaf
+	 */
+	public List<T> getPath() {
+		return this.path;
+	}
+
+	/**
+	 * 
+	 * @param id id of the node
+	 * @return measured execution time of the node, {@code 0} if it was not executed
+	 * @throws IllegalArgumentException if there is no such node
+	 */
+	public long getExecutionTime(final T id) {
+		return valueOf(this.executionTimes, id);
+	}
+
+	/**
+	 * 
+	 * @param id id of the node
+	 * @return how much longer the node could take without delaying the best makespan, {@code 0} for nodes on the critical path
+	 * @throws IllegalArgumentException if there is no such node
+	 */
+	public long getSlack(final T id) {
+		return valueOf(this.slacks, id);
+	}
+
+	/**
+	 * 
+	 * @return slack of every node
+	 */
+	public Map<T, Long> getSlacks() {
+		return this.slacks;
+	}
+
+	private static <T> long valueOf(final Map<T, Long> values, final T id) {
+		Long value = values.get(id);
+		if (value == null) {
+			throw new IllegalArgumentException("No node " + id);
+		}
+		return value;
+	}
+
+	/**
+	 * 
+	 * @return length of the critical path, the makespan with unlimited workers and no scheduling overhead
+	 */
+	public long getBestMakespan() {
+		return this.bestMakespan;
+	}
+
+	/**
+	 * 
+	 * @return time from the first execution of the last run starting till the last one finishing
+	 */
+	public long getActualMakespan() {
+		return this.actualMakespan;
+	}
+
+	/**
+	 * 
+	 * @return sum of the execution times of all the nodes
+	 */
+	public long getTotalWork() {
+		return this.totalWork;
+	}
+
+	/**
+	 * Best makespan achievable with the given number of workers, the larger of the critical path and the total work spread evenly.
+	 * 
+	 * @param workers number of workers
+	 * @return the lower bound of the makespan
+	 */
+	public long getMakespanLowerBound(final int workers) {
+		return Math.max(this.bestMakespan, this.totalWork / Math.max(1, workers));
+	}
+
+	@Override
+	public String toString() {
+		return "CriticalPath [path=" + this.path + ", bestMakespan=" + millis(this.bestMakespan) + "ms, actualMakespan="
+				+ millis(this.actualMakespan) + "ms, totalWork=" + millis(this.totalWork) + "ms]";
+	}
+
+	private static long millis(final long nanos) {
+		return TimeUnit.NANOSECONDS.toMillis(nanos);
+	}
+}
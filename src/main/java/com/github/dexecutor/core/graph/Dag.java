@@ -42,6 +42,16 @@ public interface Dag<T extends Comparable<T>, R> extends DependencyAware<T> {
 	 * @return the @Node with the given id
 	 */
 	Node<T, R> get(final T id);
+	/**
+	 * Adds the node, if not already added, and marks it as a barrier. A barrier has no task of its own, every node depending on it
+	 * depends on all the nodes the barrier depends on.
+	 * 
+	 * @param nodeValue id of the barrier node
+	 * @throws UnsupportedOperationException if this graph does not support barriers
+	 */
+	default void addBarrier(final T nodeValue) {
+		throw new UnsupportedOperationException("Barriers are not supported by " + getClass().getName());
+	}
 	/**
 	 * Returns the Set of nodes for which there is no incoming dependencies.
 	 * @return set of initial nodes
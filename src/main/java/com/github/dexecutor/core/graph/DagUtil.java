@@ -0,0 +1,307 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.graph;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Support class for graph algorithms over {@code Node}s
+ */
+public final class DagUtil {
+
+	private DagUtil() {
+
+	}
+
+	/**
+	 * Collects the given nodes and all the nodes reachable from them through outgoing edges, visiting each affected node only once.
+	 * 
+	 * @param <T> Type of Node/Task ID
+	 * @param <R> Type of Node/Task result
+	 * @param nodes the nodes to start from
+	 * @return the given nodes along with all their descendants
+	 */
+	public static <T, R> Set<Node<T, R>> descendantsOf(final Collection<Node<T, R>> nodes) {
+		Set<Node<T, R>> result = new LinkedHashSet<Node<T, R>>();
+		Deque<Node<T, R>> stack = new ArrayDeque<Node<T, R>>(nodes);
+		while (!stack.isEmpty()) {
+			Node<T, R> node = stack.pop();
+			if (result.add(node)) {
+				stack.addAll(node.getOutGoingNodes());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Collects the given nodes and all the nodes they depend on through incoming edges, visiting each required node only once.
+	 * 
+	 * @param <T> Type of Node/Task ID
+	 * @param <R> Type of Node/Task result
+	 * @param nodes the nodes to start from
+	 * @return the given nodes along with all their ancestors
+	 */
+	public static <T, R> Set<Node<T, R>> ancestorsOf(final Collection<Node<T, R>> nodes) {
+		Set<Node<T, R>> result = new LinkedHashSet<Node<T, R>>();
+		Deque<Node<T, R>> stack = new ArrayDeque<Node<T, R>>(nodes);
+		while (!stack.isEmpty()) {
+			Node<T, R> node = stack.pop();
+			if (result.add(node)) {
+				stack.addAll(node.getInComingNodes());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Splits the given nodes into weakly connected components, that is nodes connected through edges in either direction
+	 * end up in the same component, visiting each node and edge once.
+	 * 
+	 * @param <T> Type of Node/Task ID
+	 * @param <R> Type of Node/Task result
+	 * @param nodes all the nodes of a graph
+	 * @return the components, each a set of nodes which do not share any edge with other components
+	 */
+	public static <T, R> List<Set<Node<T, R>>> connectedComponents(final Collection<Node<T, R>> nodes) {
+		List<Set<Node<T, R>>> components = new ArrayList<Set<Node<T, R>>>();
+		Set<Node<T, R>> visited = new HashSet<Node<T, R>>();
+		Deque<Node<T, R>> stack = new ArrayDeque<Node<T, R>>();
+		for (Node<T, R> node : nodes) {
+			if (visited.add(node)) {
+				Set<Node<T, R>> component = new LinkedHashSet<Node<T, R>>();
+				stack.push(node);
+				while (!stack.isEmpty()) {
+					Node<T, R> current = stack.pop();
+					component.add(current);
+					pushNotVisited(stack, visited, current.getInComingNodes());
+					pushNotVisited(stack, visited, current.getOutGoingNodes());
+				}
+				components.add(component);
+			}
+		}
+		return components;
+	}
+
+	/**
+	 * Orders the given nodes such that every node comes after all of its parents.
+	 * 
+	 * @param <T> Type of Node/Task ID
+	 * @param <R> Type of Node/Task result
+	 * @param nodes all the nodes of a graph
+	 * @return the nodes in topological order
+	 * @throws IllegalArgumentException if the nodes contain a cycle
+	 */
+	public static <T, R> List<Node<T, R>> topologicalOrder(final Collection<Node<T, R>> nodes) {
+		Map<Node<T, R>, Integer> remainingParents = new HashMap<Node<T, R>, Integer>();
+		List<Node<T, R>> order = new ArrayList<Node<T, R>>(nodes.size());
+		for (Node<T, R> node : nodes) {
+			int parents = node.getInComingNodes().size();
+			if (parents == 0) {
+				order.add(node);
+			} else {
+				remainingParents.put(node, parents);
+			}
+		}
+		for (int i = 0; i < order.size(); i++) {
+			for (Node<T, R> child : order.get(i).getOutGoingNodes()) {
+				int remaining = remainingParents.get(child) - 1;
+				if (remaining == 0) {
+					remainingParents.remove(child);
+					order.add(child);
+				} else {
+					remainingParents.put(child, remaining);
+				}
+			}
+		}
+		if (!remainingParents.isEmpty()) {
+			throw new IllegalArgumentException("Graph has cycle through " + remainingParents.keySet());
+		}
+		return order;
+	}
+
+	/**
+	 * Computes the critical path through the given nodes using their measured execution times. Nodes are visited in topological order
+	 * to find the earliest each could finish after its parents, then in reverse order to find the latest each could finish without
+	 * delaying its children. Barriers and nodes which were not executed take no time and are not reported.
+	 * 
+	 * @param <T> Type of Node/Task ID
+	 * @param <R> Type of Node/Task result
+	 * @param nodes all the nodes of a graph
+	 * @return the critical path
+	 * @throws IllegalArgumentException if the nodes contain a cycle
+	 */
+	public static <T, R> CriticalPath<T> criticalPath(final Collection<Node<T, R>> nodes) {
+		return criticalPath(nodes, Long.MIN_VALUE);
+	}
+
+	/**
+	 * Computes the critical path through the given nodes as {@link #criticalPath(Collection)} does, but measures the actual makespan
+	 * only over the nodes which started at or after the given time, so that nodes kept from an earlier run, for example by an
+	 * incremental execution, do not stretch it over the time between the runs.
+	 * 
+	 * @param <T> Type of Node/Task ID
+	 * @param <R> Type of Node/Task result
+	 * @param nodes all the nodes of a graph
+	 * @param runStartTime time, as given by {@code System.nanoTime()}, at which the last run began
+	 * @return the critical path
+	 * @throws IllegalArgumentException if the nodes contain a cycle
+	 */
+	public static <T, R> CriticalPath<T> criticalPath(final Collection<Node<T, R>> nodes, final long runStartTime) {
+		List<Node<T, R>> order = topologicalOrder(nodes);
+		Map<Node<T, R>, Long> earliestFinish = new HashMap<Node<T, R>, Long>(order.size() * 2);
+		Node<T, R> last = null;
+		long totalWork = 0;
+		long firstStart = Long.MAX_VALUE;
+		long lastEnd = Long.MIN_VALUE;
+		for (Node<T, R> node : order) {
+			long finish = earliestStart(node, earliestFinish) + node.getExecutionTime();
+			earliestFinish.put(node, finish);
+			if (last == null || finish > earliestFinish.get(last)) {
+				last = node;
+			}
+			totalWork += node.getExecutionTime();
+			if (node.getEndTime() != 0 && node.getStartTime() >= runStartTime) {
+				firstStart = Math.min(firstStart, node.getStartTime());
+				lastEnd = Math.max(lastEnd, node.getEndTime());
+			}
+		}
+		long bestMakespan = last == null ? 0 : earliestFinish.get(last);
+
+		Map<Node<T, R>, Long> latestStart = new HashMap<Node<T, R>, Long>(order.size() * 2);
+		Map<T, Long> executionTimes = new LinkedHashMap<T, Long>();
+		Map<T, Long> slacks = new LinkedHashMap<T, Long>();
+		for (int i = order.size() - 1; i >= 0; i--) {
+			Node<T, R> node = order.get(i);
+			long latestFinish = bestMakespan;
+			for (Node<T, R> child : node.getOutGoingNodes()) {
+				latestFinish = Math.min(latestFinish, latestStart.get(child));
+			}
+			latestStart.put(node, latestFinish - node.getExecutionTime());
+			if (!node.isBarrier()) {
+				executionTimes.put(node.getValue(), node.getExecutionTime());
+				slacks.put(node.getValue(), latestFinish - earliestFinish.get(node));
+			}
+		}
+
+		List<T> path = new ArrayList<T>();
+		for (Node<T, R> node = last; node != null; node = gatingParent(node, earliestFinish)) {
+			if (!node.isBarrier()) {
+				path.add(node.getValue());
+			}
+		}
+		Collections.reverse(path);
+		long actualMakespan = lastEnd == Long.MIN_VALUE ? 0 : lastEnd - firstStart;
+		return new CriticalPath<T>(path, executionTimes, slacks, bestMakespan, actualMakespan, totalWork);
+	}
+
+	private static <T, R> long earliestStart(final Node<T, R> node, final Map<Node<T, R>, Long> earliestFinish) {
+		long start = 0;
+		for (Node<T, R> parent : node.getInComingNodes()) {
+			start = Math.max(start, earliestFinish.get(parent));
+		}
+		return start;
+	}
+
+	private static <T, R> Node<T, R> gatingParent(final Node<T, R> node, final Map<Node<T, R>, Long> earliestFinish) {
+		Node<T, R> gating = null;
+		for (Node<T, R> parent : node.getInComingNodes()) {
+			if (gating == null || earliestFinish.get(parent) > earliestFinish.get(gating)) {
+				gating = parent;
+			}
+		}
+		return gating;
+	}
+
+	/**
+	 * Removes every edge implied by another path between the same nodes, for example {@code A->C} when {@code A->B->C} exists, so
+	 * that the graph keeps the same ordering with the fewest edges. Nodes are visited in reverse topological order, the descendants of
+	 * each node are kept in a bitset which is dropped as soon as all parents of the node are visited.
+	 * 
+	 * @param <T> Type of Node/Task ID
+	 * @param <R> Type of Node/Task result
+	 * @param nodes all the nodes of a graph
+	 * @return the removed parents of each node that lost incoming edges
+	 * @throws IllegalArgumentException if the nodes contain a cycle
+	 */
+	public static <T, R> Map<Node<T, R>, Set<Node<T, R>>> transitiveReduction(final Collection<Node<T, R>> nodes) {
+		List<Node<T, R>> order = topologicalOrder(nodes);
+		Map<Node<T, R>, Integer> index = new HashMap<Node<T, R>, Integer>(order.size() * 2);
+		int[] remainingParents = new int[order.size()];
+		for (int i = 0; i < order.size(); i++) {
+			index.put(order.get(i), i);
+			remainingParents[i] = order.get(i).getInComingNodes().size();
+		}
+		BitSet[] descendants = new BitSet[order.size()];
+		Map<Node<T, R>, Set<Node<T, R>>> removed = new LinkedHashMap<Node<T, R>, Set<Node<T, R>>>();
+		for (int i = order.size() - 1; i >= 0; i--) {
+			Node<T, R> node = order.get(i);
+			int[] children = new int[node.getOutGoingNodes().size()];
+			int count = 0;
+			for (Node<T, R> child : node.getOutGoingNodes()) {
+				children[count++] = index.get(child);
+			}
+			Arrays.sort(children);
+			BitSet reachable = new BitSet();
+			for (int child : children) {
+				if (reachable.get(child)) {
+					removeEdge(node, order.get(child), removed);
+				} else {
+					reachable.set(child);
+					reachable.or(descendants[child]);
+				}
+				if (--remainingParents[child] == 0) {
+					descendants[child] = null;
+				}
+			}
+			descendants[i] = reachable;
+		}
+		return removed;
+	}
+
+	private static <T, R> void removeEdge(final Node<T, R> parent, final Node<T, R> child, final Map<Node<T, R>, Set<Node<T, R>>> removed) {
+		parent.getOutGoingNodes().remove(child);
+		child.getInComingNodes().remove(parent);
+		Set<Node<T, R>> parents = removed.get(child);
+		if (parents == null) {
+			parents = new LinkedHashSet<Node<T, R>>();
+			removed.put(child, parents);
+		}
+		parents.add(parent);
+	}
+
+	private static <T, R> void pushNotVisited(final Deque<Node<T, R>> stack, final Set<Node<T, R>> visited, final Collection<Node<T, R>> nodes) {
+		for (Node<T, R> node : nodes) {
+			if (visited.add(node)) {
+				stack.push(node);
+			}
+		}
+	}
+}
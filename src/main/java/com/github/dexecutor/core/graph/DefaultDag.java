@@ -66,6 +66,10 @@ public final class DefaultDag<T extends Comparable<T>, R> implements Dag<T, R>,
 		addOrGet(nodeValue);
 	}
 
+	public void addBarrier(final T nodeValue) {
+		addOrGet(nodeValue).setBarrier();
+	}
+
 	public void addDependency(final T evalFirstNode, final T evalLaterNode) {
 		Node<T, R> firstNode = addOrGet(evalFirstNode);
 		Node<T, R> afterNode = addOrGet(evalLaterNode);
@@ -49,6 +49,15 @@ public final class Node<T, R> implements Serializable {
 	 * Arbitray data of this node
 	 */
 	private Object data;
+	/**
+	 * Whether this node only joins its parents to its children, without any task of its own
+	 */
+	private boolean barrier;
+	/**
+	 * When the last execution of this node started and finished, as given by {@code System.nanoTime()}, {@code 0} if not known
+	 */
+	private long startTime;
+	private long endTime;
 	/**
 	 * incoming dependencies for this node
 	 */
@@ -168,6 +177,67 @@ public final class Node<T, R> implements Serializable {
 	public void setSkipped() {
 		this.status = NodeStatus.SKIPPED;
 	}
+
+	/**
+	 * 
+	 * @return {@code true} if this node is a barrier, which is never executed and never reported in the results
+	 */
+	public boolean isBarrier() {
+		return this.barrier;
+	}
+
+	/**
+	 * Marks the node as a barrier
+	 */
+	public void setBarrier() {
+		this.barrier = true;
+	}
+
+	/**
+	 * sets when the last execution of this node started and finished
+	 * 
+	 * @param startTime when the execution started, as given by {@code System.nanoTime()}
+	 * @param endTime when the execution finished, as given by {@code System.nanoTime()}
+	 */
+	public void setExecutionTimes(final long startTime, final long endTime) {
+		this.startTime = startTime;
+		this.endTime = endTime;
+	}
+
+	/**
+	 * 
+	 * @return when the last execution of this node started, {@code 0} if not known
+	 */
+	public long getStartTime() {
+		return this.startTime;
+	}
+
+	/**
+	 * 
+	 * @return when the last execution of this node finished, {@code 0} if not known
+	 */
+	public long getEndTime() {
+		return this.endTime;
+	}
+
+	/**
+	 * 
+	 * @return how long the last execution of this node took, {@code 0} if it was not executed
+	 */
+	public long getExecutionTime() {
+		return this.endTime == 0 ? 0 : Math.max(0, this.endTime - this.startTime);
+	}
+
+	/**
+	 * Clears the node's execution status, result, data and times, so that the node would be processed again
+	 */
+	public void reset() {
+		this.status = null;
+		this.result = null;
+		this.data = null;
+		this.startTime = 0;
+		this.endTime = 0;
+	}
 	
 	 /**
      * 
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Latencies of node executions, kept for each node and for each task group. The same instance may be shared by many executions, so
+ * that percentiles are computed across runs. Metrics are read through {@code getNodeMetrics} and {@code getGroupMetrics}, at any
+ * time, for example by a periodic exporter.
+ * <p>
+ * Each node keeps three histograms, about 3 KB once executed, for as long as the metrics are kept. On graphs of millions of nodes
+ * record only the groups, by creating the metrics with node metrics disabled, or {@code reset} the metrics between runs.
+ * 
+ * @param <T> Type of Node/Task ID
+ */
+public final class ExecutionMetrics<T> {
+
+	private final ConcurrentMap<T, LatencyMetrics> nodeMetrics = new ConcurrentHashMap<T, LatencyMetrics>();
+	private final ConcurrentMap<String, LatencyMetrics> groupMetrics = new ConcurrentHashMap<String, LatencyMetrics>();
+	private final boolean nodeMetricsEnabled;
+
+	/**
+	 * Creates metrics kept for each node and for each task group
+	 */
+	public ExecutionMetrics() {
+		this(true);
+	}
+
+	/**
+	 * 
+	 * @param nodeMetricsEnabled {@code true} if metrics should be kept for each node as well as for each task group
+	 * 			{@code false} if they should be kept only for each task group
+	 */
+	public ExecutionMetrics(final boolean nodeMetricsEnabled) {
+		this.nodeMetricsEnabled = nodeMetricsEnabled;
+	}
+
+	/**
+	 * Records latencies of one execution of a node, negative latencies are considered unknown and not recorded
+	 * 
+	 * @param id id of the node
+	 * @param group group of the task, {@code null} if not known
+	 * @param queueWaitNanos time from the task being submitted till it started running
+	 * @param runTimeNanos time the task took to run
+	 * @param coordinationTimeNanos time from the task finishing till its children were submitted
+	 */
+	public void record(final T id, final String group, final long queueWaitNanos, final long runTimeNanos, final long coordinationTimeNanos) {
+		if (this.nodeMetricsEnabled) {
+			metricsOf(this.nodeMetrics, id).record(queueWaitNanos, runTimeNanos, coordinationTimeNanos);
+		}
+		if (group != null) {
+			metricsOf(this.groupMetrics, group).record(queueWaitNanos, runTimeNanos, coordinationTimeNanos);
+		}
+	}
+
+	private static <K> LatencyMetrics metricsOf(final ConcurrentMap<K, LatencyMetrics> metrics, final K key) {
+		LatencyMetrics latencyMetrics = metrics.get(key);
+		if (latencyMetrics == null) {
+			LatencyMetrics newMetrics = new LatencyMetrics();
+			latencyMetrics = metrics.putIfAbsent(key, newMetrics);
+			if (latencyMetrics == null) {
+				latencyMetrics = newMetrics;
+			}
+		}
+		return latencyMetrics;
+	}
+
+	/**
+	 * Drops all the metrics recorded so far, releasing their memory
+	 */
+	public void reset() {
+		this.nodeMetrics.clear();
+		this.groupMetrics.clear();
+	}
+
+	/**
+	 * 
+	 * @return read only view of the metrics of each node executed so far, empty if node metrics are disabled
+	 */
+	public Map<T, LatencyMetrics> getNodeMetrics() {
+		return Collections.unmodifiableMap(this.nodeMetrics);
+	}
+
+	/**
+	 * 
+	 * @return read only view of the metrics of each task group executed so far
+	 */
+	public Map<String, LatencyMetrics> getGroupMetrics() {
+		return Collections.unmodifiableMap(this.groupMetrics);
+	}
+}
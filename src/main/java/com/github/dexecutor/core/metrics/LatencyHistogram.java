@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock free histogram of latencies in nanoseconds. Values are counted in log linear buckets in the manner of HDR histograms, every power
+ * of two range is split into {@code 64} sub buckets, hence reported values are within {@code 1/64} of the recorded ones. Counters of
+ * a range are allocated when the first value falls in it, so histograms of values of similar magnitude stay small.
+ */
+public final class LatencyHistogram {
+
+	static final int SUB_BUCKET_BITS = 6;
+	static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	static final int BUCKET_COUNT = Long.SIZE - SUB_BUCKET_BITS;
+
+	private final AtomicReferenceArray<AtomicLongArray> buckets = new AtomicReferenceArray<AtomicLongArray>(BUCKET_COUNT);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong total = new AtomicLong();
+	private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Records a value, negative values are recorded as {@code 0}
+	 * 
+	 * @param value latency in nanoseconds
+	 */
+	public void record(final long value) {
+		long v = Math.max(0, value);
+		int bucket = bucketOf(v);
+		AtomicLongArray counts = this.buckets.get(bucket);
+		if (counts == null) {
+			this.buckets.compareAndSet(bucket, null, new AtomicLongArray(SUB_BUCKET_COUNT));
+			counts = this.buckets.get(bucket);
+		}
+		counts.incrementAndGet(subBucketOf(v, bucket));
+		this.total.addAndGet(v);
+		updateMin(v);
+		updateMax(v);
+		this.count.incrementAndGet();
+	}
+
+	private void updateMin(final long value) {
+		long current = this.min.get();
+		while (value < current && !this.min.compareAndSet(current, value)) {
+			current = this.min.get();
+		}
+	}
+
+	private void updateMax(final long value) {
+		long current = this.max.get();
+		while (value > current && !this.max.compareAndSet(current, value)) {
+			current = this.max.get();
+		}
+	}
+
+	/**
+	 * 
+	 * @return number of values recorded so far
+	 */
+	public long getCount() {
+		return this.count.get();
+	}
+
+	/**
+	 * Copies the current state of the histogram, may be called while values are being recorded
+	 * 
+	 * @return the copy
+	 */
+	public LatencySnapshot snapshot() {
+		long[] counts = new long[BUCKET_COUNT * SUB_BUCKET_COUNT];
+		long snapshotCount = 0;
+		for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+			AtomicLongArray bucketCounts = this.buckets.get(bucket);
+			if (bucketCounts != null) {
+				for (int subBucket = 0; subBucket < SUB_BUCKET_COUNT; subBucket++) {
+					long subBucketCount = bucketCounts.get(subBucket);
+					counts[bucket * SUB_BUCKET_COUNT + subBucket] = subBucketCount;
+					snapshotCount += subBucketCount;
+				}
+			}
+		}
+		if (snapshotCount == 0) {
+			return new LatencySnapshot(counts, 0, 0, 0, 0);
+		}
+		return new LatencySnapshot(counts, snapshotCount, this.min.get(), this.max.get(), this.total.get());
+	}
+
+	static int bucketOf(final long value) {
+		return Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+	}
+
+	static int subBucketOf(final long value, final int bucket) {
+		if (bucket == 0) {
+			return (int) value;
+		}
+		return (int) (value >>> (bucket - 1)) - SUB_BUCKET_COUNT;
+	}
+
+	/**
+	 * 
+	 * @param index index of the sub bucket among all the sub buckets
+	 * @return highest value counted in the sub bucket
+	 */
+	static long highestValueOf(final int index) {
+		int bucket = index / SUB_BUCKET_COUNT;
+		long subBucket = index % SUB_BUCKET_COUNT;
+		if (bucket == 0) {
+			return subBucket;
+		}
+		long lowest = (subBucket + SUB_BUCKET_COUNT) << (bucket - 1);
+		return lowest + (1L << (bucket - 1)) - 1;
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.metrics;
+
+/**
+ * Latencies of the executions of a node or of a group of nodes
+ */
+public final class LatencyMetrics {
+
+	private final LatencyHistogram queueWait = new LatencyHistogram();
+	private final LatencyHistogram runTime = new LatencyHistogram();
+	private final LatencyHistogram coordinationTime = new LatencyHistogram();
+
+	void record(final long queueWaitNanos, final long runTimeNanos, final long coordinationTimeNanos) {
+		if (queueWaitNanos >= 0) {
+			this.queueWait.record(queueWaitNanos);
+		}
+		if (runTimeNanos >= 0) {
+			this.runTime.record(runTimeNanos);
+		}
+		if (coordinationTimeNanos >= 0) {
+			this.coordinationTime.record(coordinationTimeNanos);
+		}
+	}
+
+	/**
+	 * 
+	 * @return time from the task being submitted till it started running
+	 */
+	public LatencyHistogram getQueueWait() {
+		return this.queueWait;
+	}
+
+	/**
+	 * 
+	 * @return time the task took to run
+	 */
+	public LatencyHistogram getRunTime() {
+		return this.runTime;
+	}
+
+	/**
+	 * 
+	 * @return time from the task finishing till its children were submitted
+	 */
+	public LatencyHistogram getCoordinationTime() {
+		return this.coordinationTime;
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyMetrics [queueWait=" + this.queueWait.snapshot() + ", runTime=" + this.runTime.snapshot() + ", coordinationTime="
+				+ this.coordinationTime.snapshot() + "]";
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.metrics;
+
+import static com.github.dexecutor.core.support.Preconditions.checkArgument;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point in time copy of a {@code LatencyHistogram}, all values are in nanoseconds
+ */
+public final class LatencySnapshot {
+
+	private final long[] counts;
+	private final long count;
+	private final long min;
+	private final long max;
+	private final long total;
+
+	LatencySnapshot(final long[] counts, final long count, final long min, final long max, final long total) {
+		this.counts = counts;
+		this.count = count;
+		this.min = min;
+		this.max = max;
+		this.total = total;
+	}
+
+	/**
+	 * 
+	 * @return number of recorded values
+	 */
+	public long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * 
+	 * @return the smallest recorded value, {@code 0} if none was recorded
+	 */
+	public long getMin() {
+		return this.min;
+	}
+
+	/**
+	 * 
+	 * @return the largest recorded value, {@code 0} if none was recorded
+	 */
+	public long getMax() {
+		return this.max;
+	}
+
+	/**
+	 * 
+	 * @return mean of the recorded values, {@code 0} if none was recorded
+	 */
+	public double getMean() {
+		return this.count == 0 ? 0 : (double) this.total / this.count;
+	}
+
+	/**
+	 * 
+	 * @param percentile the percentile, between {@code 0} and {@code 100}, for example {@code 99.9}
+	 * @return value at or below which the given percentage of recorded values fall, {@code 0} if none was recorded
+	 */
+	public long getValueAtPercentile(final double percentile) {
+		checkArgument(percentile >= 0 && percentile <= 100, "Percentile should be between 0 and 100");
+		if (this.count == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * this.count));
+		long seen = 0;
+		for (int index = 0; index < this.counts.length; index++) {
+			seen += this.counts[index];
+			if (seen >= rank) {
+				return Math.max(this.min, Math.min(LatencyHistogram.highestValueOf(index), this.max));
+			}
+		}
+		return this.max;
+	}
+
+	@Override
+	public String toString() {
+		return "LatencySnapshot [count=" + this.count + ", p50=" + micros(getValueAtPercentile(50)) + "us, p99="
+				+ micros(getValueAtPercentile(99)) + "us, p999=" + micros(getValueAtPercentile(99.9)) + "us, max=" + micros(this.max) + "us]";
+	}
+
+	private static long micros(final long nanos) {
+		return TimeUnit.NANOSECONDS.toMicros(nanos);
+	}
+}
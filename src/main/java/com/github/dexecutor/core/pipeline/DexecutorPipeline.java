@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.pipeline;
+
+import static com.github.dexecutor.core.support.Preconditions.checkArgument;
+import static com.github.dexecutor.core.support.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.dexecutor.core.ExecutionConfig;
+import com.github.dexecutor.core.Phase;
+import com.github.dexecutor.core.graph.CyclicValidator;
+import com.github.dexecutor.core.graph.Dag;
+import com.github.dexecutor.core.graph.DefaultDag;
+import com.github.dexecutor.core.graph.DependencyAware;
+import com.github.dexecutor.core.graph.Node;
+import com.github.dexecutor.core.task.DataFlowTask;
+import com.github.dexecutor.core.task.ExecutionResult;
+import com.github.dexecutor.core.task.ExecutionResults;
+import com.github.dexecutor.core.task.ExecutionStatus;
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskExecutionException;
+import com.github.dexecutor.core.task.TaskFactory;
+
+/**
+ * <p>Pushes a stream of input records through a graph which is built, validated and compiled only once. Each record gets its own
+ * execution of every node, and many records can be in flight at the same time, each at a different stage of the graph.</p>
+ * <p>There is no coordinator thread, the thread which completes a task schedules the children whose parents are all done. At most
+ * {@code window} records are in flight, {@link #submit(Object, RecordCallback)} waits for a free slot otherwise. Retrying behaviors
+ * are not supported.</p>
+ * 
+ * @param <T> Type of Node/Task ID
+ * @param <R> Type of Node/Task result
+ * @param <I> Type of input records
+ */
+public final class DexecutorPipeline<T extends Comparable<T>, R, I> implements DependencyAware<T> {
+
+	private static final Logger logger = LoggerFactory.getLogger(DexecutorPipeline.class);
+
+	private final ExecutorService executorService;
+	private final RecordTaskProvider<T, R, I> taskProvider;
+	private final int window;
+	private final Semaphore inFlightRecords;
+	private final Dag<T, R> graph = new DefaultDag<T, R>();
+	private volatile Phase currentPhase = Phase.BUILDING;
+	private ExecutionConfig config;
+
+	private List<T> ids;
+	private int[] parentsCount;
+	private int[][] parents;
+	private int[][] children;
+	private int[] initialNodes;
+
+	/**
+	 * 
+	 * @param executorService executor service, where in tasks would be scheduled
+	 * @param taskProvider provides tasks for each node and record
+	 * @param window maximum number of records in flight
+	 */
+	public DexecutorPipeline(final ExecutorService executorService, final RecordTaskProvider<T, R, I> taskProvider, final int window) {
+		checkNotNull(executorService, "Executer Service should not be null");
+		checkNotNull(taskProvider, "Task Provider should not be null");
+		checkArgument(window > 0, "Window should be greater than ZERO");
+		this.executorService = executorService;
+		this.taskProvider = taskProvider;
+		this.window = window;
+		this.inFlightRecords = new Semaphore(window);
+	}
+
+	@Override
+	public void addIndependent(final T nodeValue) {
+		checkPhase(Phase.BUILDING);
+		this.graph.addIndependent(nodeValue);
+	}
+
+	@Override
+	public void addDependency(final T evalFirstValue, final T evalAfterValue) {
+		checkPhase(Phase.BUILDING);
+		this.graph.addDependency(evalFirstValue, evalAfterValue);
+	}
+
+	@Override
+	public void addAsDependentOnAllLeafNodes(final T nodeValue) {
+		checkPhase(Phase.BUILDING);
+		this.graph.addAsDependentOnAllLeafNodes(nodeValue);
+	}
+
+	@Override
+	public void addAsDependencyToAllInitialNodes(final T nodeValue) {
+		checkPhase(Phase.BUILDING);
+		this.graph.addAsDependencyToAllInitialNodes(nodeValue);
+	}
+
+	/**
+	 * Validates and compiles the graph, after which records can be submitted and the graph can't be changed any more
+	 * 
+	 * @param config execution behavior for every record, either terminating or non terminating
+	 */
+	public void start(final ExecutionConfig config) {
+		config.validate();
+		checkArgument(config.isTerminating() || config.isNonTerminating(), "Pipeline supports only terminating and non terminating behaviors");
+		checkPhase(Phase.BUILDING);
+		new CyclicValidator<T, R>().validate(this.graph);
+		compile();
+		this.config = config;
+		this.currentPhase = Phase.RUNNING;
+	}
+
+	private void compile() {
+		this.ids = new ArrayList<T>(this.graph.size());
+		Map<Node<T, R>, Integer> indexes = new HashMap<Node<T, R>, Integer>();
+		for (Node<T, R> node : this.graph.allNodes()) {
+			indexes.put(node, this.ids.size());
+			this.ids.add(node.getValue());
+		}
+		this.parentsCount = new int[this.ids.size()];
+		this.parents = new int[this.ids.size()][];
+		this.children = new int[this.ids.size()][];
+		List<Integer> initial = new ArrayList<Integer>();
+		for (Map.Entry<Node<T, R>, Integer> entry : indexes.entrySet()) {
+			Node<T, R> node = entry.getKey();
+			int index = entry.getValue();
+			this.parentsCount[index] = node.getInComingNodes().size();
+			this.parents[index] = indexesOf(node.getInComingNodes(), indexes);
+			this.children[index] = indexesOf(node.getOutGoingNodes(), indexes);
+			if (this.parentsCount[index] == 0) {
+				initial.add(index);
+			}
+		}
+		this.initialNodes = new int[initial.size()];
+		for (int i = 0; i < this.initialNodes.length; i++) {
+			this.initialNodes[i] = initial.get(i);
+		}
+	}
+
+	private int[] indexesOf(final Iterable<Node<T, R>> nodes, final Map<Node<T, R>, Integer> indexes) {
+		List<Integer> result = new ArrayList<Integer>();
+		for (Node<T, R> node : nodes) {
+			result.add(indexes.get(node));
+		}
+		int[] array = new int[result.size()];
+		for (int i = 0; i < array.length; i++) {
+			array[i] = result.get(i);
+		}
+		return array;
+	}
+
+	/**
+	 * Pushes the record through the pipeline, waiting while the window of records in flight is full
+	 * 
+	 * @param record the input record
+	 * @param callback notified once the record is done
+	 */
+	public void submit(final I record, final RecordCallback<T, R, I> callback) {
+		checkNotNull(callback, "Callback should not be null");
+		checkPhase(Phase.RUNNING);
+		try {
+			this.inFlightRecords.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TaskExecutionException("Interrupted while waiting to submit record", e);
+		}
+		new RecordExecution(record, callback).start();
+	}
+
+	/**
+	 * 
+	 * @return number of records in flight
+	 */
+	public int getInFlightCount() {
+		return this.window - this.inFlightRecords.availablePermits();
+	}
+
+	/**
+	 * Stops accepting records and waits till the records in flight are done, the executor service is not shut down
+	 */
+	public void close() {
+		checkPhase(Phase.RUNNING);
+		this.currentPhase = Phase.TERMINATED;
+		try {
+			this.inFlightRecords.acquire(this.window);
+			this.inFlightRecords.release(this.window);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TaskExecutionException("Interrupted while waiting for records in flight", e);
+		}
+	}
+
+	private void checkPhase(final Phase phase) {
+		if (!phase.equals(this.currentPhase)) {
+			throw new IllegalStateException("Pipeline is " + this.currentPhase + "!");
+		}
+	}
+
+	private final class RecordExecution {
+
+		private final I record;
+		private final RecordCallback<T, R, I> callback;
+		private final AtomicIntegerArray remainingParents;
+		private final AtomicReferenceArray<ExecutionResult<T, R>> results;
+		private final AtomicInteger inFlightTasks = new AtomicInteger();
+		private volatile boolean errored = false;
+
+		RecordExecution(final I record, final RecordCallback<T, R, I> callback) {
+			this.record = record;
+			this.callback = callback;
+			this.remainingParents = new AtomicIntegerArray(parentsCount);
+			this.results = new AtomicReferenceArray<ExecutionResult<T, R>>(ids.size());
+		}
+
+		void start() {
+			this.inFlightTasks.incrementAndGet();
+			for (int index : initialNodes) {
+				schedule(index);
+			}
+			if (this.inFlightTasks.decrementAndGet() == 0) {
+				complete();
+			}
+		}
+
+		private void schedule(final int index) {
+			this.inFlightTasks.incrementAndGet();
+			try {
+				executorService.execute(new Runnable() {
+
+					@Override
+					public void run() {
+						ExecutionResult<T, R> result = new ExecutionResult<T, R>(ids.get(index), null, ExecutionStatus.ERRORED);
+						try {
+							result = execute(index);
+						} finally {
+							process(index, result);
+						}
+					}
+				});
+			} catch (RuntimeException e) {
+				logger.error("Error Scheduling Task # {}", ids.get(index), e);
+				process(index, new ExecutionResult<T, R>(ids.get(index), null, ExecutionStatus.ERRORED));
+			}
+		}
+
+		private ExecutionResult<T, R> execute(final int index) {
+			T id = ids.get(index);
+			R result = null;
+			ExecutionStatus status = ExecutionStatus.SUCCESS;
+			try {
+				Task<T, R> task = taskProvider.provideTask(id, this.record);
+				task.setId(id);
+				if (task instanceof DataFlowTask) {
+					((DataFlowTask<T, R>) task).setParentResults(parentResults(index));
+				}
+				if (!TaskFactory.needsParentResults(task) || task.shouldExecute(parentResults(index))) {
+					result = task.execute();
+				} else {
+					status = ExecutionStatus.SKIPPED;
+				}
+			} catch (Exception e) {
+				status = ExecutionStatus.ERRORED;
+				logger.error("Error Execution Task # {}", id, e);
+			}
+			return new ExecutionResult<T, R>(id, result, status);
+		}
+
+		private ExecutionResults<T, R> parentResults(final int index) {
+			return ExecutionResults.view(new Iterable<ExecutionResult<T, R>>() {
+
+				@Override
+				public Iterator<ExecutionResult<T, R>> iterator() {
+					return new Iterator<ExecutionResult<T, R>>() {
+
+						private int next = 0;
+
+						@Override
+						public boolean hasNext() {
+							return this.next < parents[index].length;
+						}
+
+						@Override
+						public ExecutionResult<T, R> next() {
+							if (!hasNext()) {
+								throw new NoSuchElementException();
+							}
+							return results.get(parents[index][this.next++]);
+						}
+
+						@Override
+						public void remove() {
+							throw new UnsupportedOperationException();
+						}
+					};
+				}
+			});
+		}
+
+		private void process(final int index, final ExecutionResult<T, R> result) {
+			this.results.set(index, result);
+			if (result.isErrored()) {
+				this.errored = true;
+			}
+			if (config.isNonTerminating() || !this.errored) {
+				for (int child : children[index]) {
+					if (this.remainingParents.decrementAndGet(child) == 0) {
+						schedule(child);
+					}
+				}
+			}
+			if (this.inFlightTasks.decrementAndGet() == 0) {
+				complete();
+			}
+		}
+
+		private void complete() {
+			ExecutionResults<T, R> executionResults = new ExecutionResults<T, R>();
+			for (int i = 0; i < this.results.length(); i++) {
+				ExecutionResult<T, R> result = this.results.get(i);
+				if (result != null) {
+					executionResults.add(result);
+				}
+			}
+			try {
+				this.callback.onComplete(this.record, executionResults);
+			} catch (RuntimeException e) {
+				logger.error("Error in callback of record {}", this.record, e);
+			} finally {
+				inFlightRecords.release();
+			}
+		}
+	}
+}
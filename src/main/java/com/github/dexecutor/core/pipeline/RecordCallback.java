@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.pipeline;
+
+import com.github.dexecutor.core.task.ExecutionResults;
+
+/**
+ * Notified once all the nodes of the pipeline are done with an input record
+ * 
+ * @param <T> Type of Node/Task ID
+ * @param <R> Type of Node/Task result
+ * @param <I> Type of input records
+ */
+public interface RecordCallback<T, R, I> {
+	/**
+	 * Called on the thread which executed the last task of the record
+	 * 
+	 * @param record the input record
+	 * @param results results of all the nodes processed for the record, errored and skipped ones included
+	 */
+	void onComplete(final I record, final ExecutionResults<T, R> results);
+}
@@ -0,0 +1,4 @@
+/**
+ * Package related to pushing a stream of input records through a graph compiled once
+ */
+package com.github.dexecutor.core.pipeline;
\ No newline at end of file
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.simulation;
+
+import static com.github.dexecutor.core.support.Preconditions.checkArgument;
+import static com.github.dexecutor.core.support.Preconditions.checkNotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Random;
+
+import com.github.dexecutor.core.graph.Dag;
+import com.github.dexecutor.core.graph.DagUtil;
+import com.github.dexecutor.core.graph.Node;
+
+/**
+ * Predicts the makespan of executing a graph with a given number of workers, without running any task. Scheduling is replayed as a
+ * discrete event simulation: nodes become ready once all their parents finish, ready nodes are handed to idle workers in the order
+ * they became ready, and barriers pass as soon as they are reached, just as Dexecutor would run them. Durations are taken from a
+ * {@code DurationModel}.
+ * <p>
+ * Each replication draws one duration for every node from a random generator seeded by the replication, so that simulations of
+ * different pool sizes in the same replication compare the same durations.
+ * 
+ * @param <T> Type of Node/Task ID
+ * @param <R> Type of Node/Task result
+ */
+public final class DexecutorSimulator<T extends Comparable<T>, R> {
+
+	private static final long SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
+	private final DurationModel<T> durationModel;
+	private final List<T> ids;
+	private final boolean[] barriers;
+	private final int[] parentCounts;
+	private final int[][] children;
+
+	private long seed;
+	private int replications = 1;
+
+	/**
+	 * 
+	 * @param dag the graph to simulate
+	 * @param durationModel estimates of the node durations
+	 * @throws IllegalArgumentException if the graph contains a cycle
+	 */
+	public DexecutorSimulator(final Dag<T, R> dag, final DurationModel<T> durationModel) {
+		checkNotNull(dag, "Dag should not be null");
+		checkNotNull(durationModel, "Duration model should not be null");
+		this.durationModel = durationModel;
+
+		List<Node<T, R>> order = DagUtil.topologicalOrder(dag.allNodes());
+		Map<Node<T, R>, Integer> indexes = new HashMap<Node<T, R>, Integer>(order.size() * 2);
+		for (Node<T, R> node : order) {
+			indexes.put(node, indexes.size());
+		}
+		this.ids = new ArrayList<T>(order.size());
+		this.barriers = new boolean[order.size()];
+		this.parentCounts = new int[order.size()];
+		this.children = new int[order.size()][];
+		for (int i = 0; i < order.size(); i++) {
+			Node<T, R> node = order.get(i);
+			this.ids.add(node.getValue());
+			this.barriers[i] = node.isBarrier();
+			this.parentCounts[i] = node.getInComingNodes().size();
+			this.children[i] = new int[node.getOutGoingNodes().size()];
+			int c = 0;
+			for (Node<T, R> child : node.getOutGoingNodes()) {
+				this.children[i][c++] = indexes.get(child);
+			}
+		}
+	}
+
+	/**
+	 * Sets the seed from which the durations of each replication are drawn, defaults to {@code 0}
+	 * 
+	 * @param seed the new seed
+	 */
+	public void setSeed(final long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * Sets the number of replications {@link #recommendPoolSize(double, int)} requires to meet the target, defaults to {@code 1}. Use
+	 * more than one with duration models which are distributions.
+	 * 
+	 * @param replications the new number of replications
+	 */
+	public void setReplications(final int replications) {
+		checkArgument(replications > 0, "Replications should be positive");
+		this.replications = replications;
+	}
+
+	/**
+	 * 
+	 * @param poolSize number of workers
+	 * @return predicted schedule of the first replication
+	 */
+	public SimulationResult<T> simulate(final int poolSize) {
+		return simulate(poolSize, 0);
+	}
+
+	/**
+	 * 
+	 * @param poolSize number of workers
+	 * @param replication replication whose durations are used, starting at {@code 0}
+	 * @return predicted schedule
+	 */
+	public SimulationResult<T> simulate(final int poolSize, final int replication) {
+		checkArgument(poolSize > 0, "Pool size should be positive");
+		checkArgument(replication >= 0, "Replication should not be negative");
+		return schedule(poolSize, durationsOf(replication));
+	}
+
+	/**
+	 * Finds the smallest number of workers for which every replication finishes within the target. Pool sizes are tried in turn, as
+	 * adding a worker does not always shorten a schedule, starting from the fewest workers which could hold the total work within the
+	 * target.
+	 * 
+	 * @param targetMakespan the longest acceptable makespan in milliseconds
+	 * @param maxPoolSize the largest pool size to consider
+	 * @return the recommended pool size, {@code -1} if the target can not be met with at most maxPoolSize workers
+	 */
+	public int recommendPoolSize(final double targetMakespan, final int maxPoolSize) {
+		checkArgument(targetMakespan > 0, "Target makespan should be positive");
+		checkArgument(maxPoolSize > 0, "Max pool size should be positive");
+		double[][] durations = new double[this.replications][];
+		int poolSize = 1;
+		for (int replication = 0; replication < this.replications; replication++) {
+			durations[replication] = durationsOf(replication);
+			double work = 0;
+			for (double duration : durations[replication]) {
+				work += duration;
+			}
+			poolSize = Math.max(poolSize, (int) Math.ceil(work / targetMakespan));
+		}
+		for (; poolSize <= maxPoolSize; poolSize++) {
+			if (meetsTarget(poolSize, durations, targetMakespan)) {
+				return poolSize;
+			}
+		}
+		return -1;
+	}
+
+	private boolean meetsTarget(final int poolSize, final double[][] durations, final double targetMakespan) {
+		for (double[] replication : durations) {
+			if (schedule(poolSize, replication).getMakespan() > targetMakespan) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private double[] durationsOf(final int replication) {
+		Random random = new Random(this.seed + replication * SEED_INCREMENT);
+		double[] durations = new double[this.ids.size()];
+		for (int i = 0; i < durations.length; i++) {
+			if (!this.barriers[i]) {
+				double duration = this.durationModel.durationOf(this.ids.get(i), random);
+				if (!(duration >= 0)) {
+					throw new IllegalStateException("Duration of node # " + this.ids.get(i) + " should not be negative, was " + duration);
+				}
+				durations[i] = duration;
+			}
+		}
+		return durations;
+	}
+
+	private SimulationResult<T> schedule(final int poolSize, final double[] durations) {
+		int size = this.ids.size();
+		int[] remainingParents = this.parentCounts.clone();
+		double[] startTimes = new double[size];
+		double[] endTimes = new double[size];
+		Queue<Integer> ready = new ArrayDeque<Integer>();
+		PriorityQueue<Completion> completions = new PriorityQueue<Completion>();
+		double now = 0;
+		int idleWorkers = poolSize;
+		long sequence = 0;
+
+		for (int i = 0; i < size; i++) {
+			if (remainingParents[i] == 0) {
+				reached(i, remainingParents, ready, now);
+			}
+		}
+		while (true) {
+			while (idleWorkers > 0 && !ready.isEmpty()) {
+				int node = ready.poll();
+				startTimes[node] = now;
+				endTimes[node] = now + durations[node];
+				completions.add(new Completion(endTimes[node], sequence++, node));
+				idleWorkers--;
+			}
+			Completion completion = completions.poll();
+			if (completion == null) {
+				break;
+			}
+			now = completion.time;
+			idleWorkers++;
+			finished(completion.node, remainingParents, ready, now);
+		}
+		return result(poolSize, startTimes, endTimes);
+	}
+
+	private void reached(final int node, final int[] remainingParents, final Queue<Integer> ready, final double now) {
+		if (this.barriers[node]) {
+			finished(node, remainingParents, ready, now);
+		} else {
+			ready.add(node);
+		}
+	}
+
+	private void finished(final int node, final int[] remainingParents, final Queue<Integer> ready, final double now) {
+		for (int child : this.children[node]) {
+			if (--remainingParents[child] == 0) {
+				reached(child, remainingParents, ready, now);
+			}
+		}
+	}
+
+	private SimulationResult<T> result(final int poolSize, final double[] startTimes, final double[] endTimes) {
+		List<T> tasks = new ArrayList<T>(this.ids.size());
+		double[] starts = new double[this.ids.size()];
+		double[] ends = new double[this.ids.size()];
+		for (int i = 0; i < this.ids.size(); i++) {
+			if (!this.barriers[i]) {
+				starts[tasks.size()] = startTimes[i];
+				ends[tasks.size()] = endTimes[i];
+				tasks.add(this.ids.get(i));
+			}
+		}
+		return new SimulationResult<T>(poolSize, tasks, Arrays.copyOf(starts, tasks.size()), Arrays.copyOf(ends, tasks.size()));
+	}
+
+	private static final class Completion implements Comparable<Completion> {
+
+		private final double time;
+		private final long sequence;
+		private final int node;
+
+		Completion(final double time, final long sequence, final int node) {
+			this.time = time;
+			this.sequence = sequence;
+			this.node = node;
+		}
+
+		@Override
+		public int compareTo(final Completion other) {
+			int result = Double.compare(this.time, other.time);
+			return result != 0 ? result : Long.compare(this.sequence, other.sequence);
+		}
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.simulation;
+
+import java.util.Random;
+
+/**
+ * Estimates how long a node would take to execute, used by the {@code DexecutorSimulator} in place of running the task.
+ * 
+ * @param <T> Type of Node/Task ID
+ */
+public interface DurationModel<T> {
+	/**
+	 * 
+	 * @param id id of the node
+	 * @param random source of randomness to draw from, for models which are distributions
+	 * @return estimated execution time of the node in milliseconds, should not be negative
+	 */
+	double durationOf(final T id, final Random random);
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.simulation;
+
+import static com.github.dexecutor.core.support.Preconditions.checkArgument;
+import static com.github.dexecutor.core.support.Preconditions.checkNotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+
+import com.github.dexecutor.core.metrics.ExecutionMetrics;
+import com.github.dexecutor.core.metrics.LatencyMetrics;
+import com.github.dexecutor.core.metrics.LatencySnapshot;
+
+/**
+ * Factory of common {@code DurationModel}s, all durations are in milliseconds
+ */
+public final class DurationModels {
+
+	private static final double NANOS_PER_MILLI = 1000000;
+
+	private DurationModels() {
+
+	}
+
+	/**
+	 * 
+	 * @param <T> Type of Node/Task ID
+	 * @param millis duration of every node
+	 * @return model in which every node takes the same time
+	 */
+	public static <T> DurationModel<T> constant(final double millis) {
+		checkArgument(millis >= 0, "Duration should not be negative");
+		return new DurationModel<T>() {
+			@Override
+			public double durationOf(final T id, final Random random) {
+				return millis;
+			}
+		};
+	}
+
+	/**
+	 * 
+	 * @param <T> Type of Node/Task ID
+	 * @param min shortest duration
+	 * @param max longest duration
+	 * @return model in which durations are uniformly distributed between min and max
+	 */
+	public static <T> DurationModel<T> uniform(final double min, final double max) {
+		checkArgument(min >= 0 && max >= min, "Durations should satisfy 0 <= min <= max");
+		return new DurationModel<T>() {
+			@Override
+			public double durationOf(final T id, final Random random) {
+				return min + random.nextDouble() * (max - min);
+			}
+		};
+	}
+
+	/**
+	 * 
+	 * @param <T> Type of Node/Task ID
+	 * @param mean mean duration
+	 * @param deviation standard deviation of the durations
+	 * @return model in which durations are normally distributed, negative draws are taken as {@code 0}
+	 */
+	public static <T> DurationModel<T> normal(final double mean, final double deviation) {
+		checkArgument(mean >= 0 && deviation >= 0, "Mean and deviation should not be negative");
+		return new DurationModel<T>() {
+			@Override
+			public double durationOf(final T id, final Random random) {
+				return Math.max(0, mean + random.nextGaussian() * deviation);
+			}
+		};
+	}
+
+	/**
+	 * 
+	 * @param <T> Type of Node/Task ID
+	 * @param mean mean duration
+	 * @return model in which durations are exponentially distributed, as for tasks with a long tail of slow executions
+	 */
+	public static <T> DurationModel<T> exponential(final double mean) {
+		checkArgument(mean >= 0, "Mean should not be negative");
+		return new DurationModel<T>() {
+			@Override
+			public double durationOf(final T id, final Random random) {
+				return -mean * Math.log(1 - random.nextDouble());
+			}
+		};
+	}
+
+	/**
+	 * 
+	 * @param <T> Type of Node/Task ID
+	 * @param millis duration of each node
+	 * @param fallback model of the nodes which are not in the map
+	 * @return model in which listed nodes take the given time
+	 */
+	public static <T> DurationModel<T> perNode(final Map<T, ? extends Number> millis, final DurationModel<T> fallback) {
+		checkNotNull(millis, "Durations should not be null");
+		checkNotNull(fallback, "Fallback model should not be null");
+		final Map<T, Double> durations = new HashMap<T, Double>(millis.size() * 2);
+		for (Entry<T, ? extends Number> entry : millis.entrySet()) {
+			checkArgument(entry.getValue().doubleValue() >= 0, "Duration of node # " + entry.getKey() + " should not be negative");
+			durations.put(entry.getKey(), entry.getValue().doubleValue());
+		}
+		return new DurationModel<T>() {
+			@Override
+			public double durationOf(final T id, final Random random) {
+				Double duration = durations.get(id);
+				return duration == null ? fallback.durationOf(id, random) : duration;
+			}
+		};
+	}
+
+	/**
+	 * Model based on earlier executions, each duration is drawn from the run time histogram recorded for the node, so that the
+	 * simulation reproduces both the typical and the tail latencies seen so far. The histograms are copied when the model is created.
+	 * 
+	 * @param <T> Type of Node/Task ID
+	 * @param metrics metrics recorded by earlier executions
+	 * @param fallback model of the nodes without recorded executions
+	 * @return model replaying the recorded run times
+	 */
+	public static <T> DurationModel<T> historical(final ExecutionMetrics<T> metrics, final DurationModel<T> fallback) {
+		checkNotNull(metrics, "Metrics should not be null");
+		checkNotNull(fallback, "Fallback model should not be null");
+		final Map<T, LatencySnapshot> runTimes = new HashMap<T, LatencySnapshot>();
+		for (Entry<T, LatencyMetrics> entry : metrics.getNodeMetrics().entrySet()) {
+			LatencySnapshot snapshot = entry.getValue().getRunTime().snapshot();
+			if (snapshot.getCount() != 0) {
+				runTimes.put(entry.getKey(), snapshot);
+			}
+		}
+		return new DurationModel<T>() {
+			@Override
+			public double durationOf(final T id, final Random random) {
+				LatencySnapshot snapshot = runTimes.get(id);
+				if (snapshot == null) {
+					return fallback.durationOf(id, random);
+				}
+				return snapshot.getValueAtPercentile(random.nextDouble() * 100) / NANOS_PER_MILLI;
+			}
+		};
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.simulation;
+
+import static com.github.dexecutor.core.support.Preconditions.checkArgument;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Predicted schedule of a simulated execution, all times are in milliseconds from the start of the execution
+ * 
+ * @param <T> Type of Node/Task ID
+ */
+public final class SimulationResult<T> {
+
+	private final int poolSize;
+	private final double makespan;
+	private final double totalWork;
+	private final Map<T, Integer> indexes;
+	private final double[] startTimes;
+	private final double[] endTimes;
+
+	SimulationResult(final int poolSize, final List<T> ids, final double[] startTimes, final double[] endTimes) {
+		this.poolSize = poolSize;
+		this.indexes = new HashMap<T, Integer>(ids.size() * 2);
+		double end = 0;
+		double work = 0;
+		for (int i = 0; i < ids.size(); i++) {
+			this.indexes.put(ids.get(i), i);
+			end = Math.max(end, endTimes[i]);
+			work += endTimes[i] - startTimes[i];
+		}
+		this.startTimes = startTimes;
+		this.endTimes = endTimes;
+		this.makespan = end;
+		this.totalWork = work;
+	}
+
+	/**
+	 * 
+	 * @return number of workers simulated
+	 */
+	public int getPoolSize() {
+		return this.poolSize;
+	}
+
+	/**
+	 * 
+	 * @return predicted time from the start of the execution until the last node finishes
+	 */
+	public double getMakespan() {
+		return this.makespan;
+	}
+
+	/**
+	 * 
+	 * @return sum of the durations of all nodes
+	 */
+	public double getTotalWork() {
+		return this.totalWork;
+	}
+
+	/**
+	 * 
+	 * @return fraction of the available worker time spent executing nodes, between {@code 0} and {@code 1}
+	 */
+	public double getUtilisation() {
+		return this.makespan == 0 ? 0 : this.totalWork / (this.poolSize * this.makespan);
+	}
+
+	/**
+	 * 
+	 * @param id id of the node
+	 * @return predicted time at which the node starts executing
+	 * @throws IllegalArgumentException if the node was not simulated, for example because it is a barrier
+	 */
+	public double getStartTime(final T id) {
+		return this.startTimes[indexOf(id)];
+	}
+
+	/**
+	 * 
+	 * @param id id of the node
+	 * @return predicted time at which the node finishes executing
+	 * @throws IllegalArgumentException if the node was not simulated, for example because it is a barrier
+	 */
+	public double getEndTime(final T id) {
+		return this.endTimes[indexOf(id)];
+	}
+
+	private int indexOf(final T id) {
+		Integer index = this.indexes.get(id);
+		checkArgument(index != null, "Node # " + id + " was not simulated");
+		return index;
+	}
+
+	/**
+	 * Utilisation over time, the makespan is cut into consecutive intervals and for each the fraction of the available worker time
+	 * spent executing nodes is reported. A curve which stays well below {@code 1} while the makespan does not shrink points to a
+	 * graph whose width, not the pool size, is the limit.
+	 * 
+	 * @param intervalMillis length of each interval, the last interval may be shorter
+	 * @return utilisation of each interval, between {@code 0} and {@code 1}
+	 */
+	public double[] getUtilisationCurve(final double intervalMillis) {
+		checkArgument(intervalMillis > 0, "Interval should be positive");
+		double[] curve = new double[(int) Math.ceil(this.makespan / intervalMillis)];
+		for (int i = 0; i < this.startTimes.length; i++) {
+			double start = this.startTimes[i];
+			double end = this.endTimes[i];
+			for (int bucket = (int) (start / intervalMillis); bucket < curve.length && bucket * intervalMillis < end; bucket++) {
+				double from = Math.max(start, bucket * intervalMillis);
+				double to = Math.min(end, (bucket + 1) * intervalMillis);
+				curve[bucket] += Math.max(0, to - from);
+			}
+		}
+		for (int bucket = 0; bucket < curve.length; bucket++) {
+			double width = Math.min(intervalMillis, this.makespan - bucket * intervalMillis);
+			curve[bucket] = curve[bucket] / (this.poolSize * width);
+		}
+		return curve;
+	}
+
+	@Override
+	public String toString() {
+		return "SimulationResult [poolSize=" + this.poolSize + ", makespan=" + this.makespan + "ms, utilisation=" + getUtilisation() + "]";
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.store;
+
+import static com.github.dexecutor.core.support.Preconditions.checkArgument;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@code ResultStore} for {@code ByteBuffer} results, which moves buffers of at least the threshold size out of the heap. Smaller
+ * buffers and buffers which are already direct are kept as they are.
+ * 
+ * @param <T> Type of Node/Task ID
+ */
+public abstract class AbstractByteBufferResultStore<T> implements ResultStore<T, ByteBuffer> {
+
+	private final int threshold;
+
+	/**
+	 * 
+	 * @param threshold size in bytes, from which on buffers are moved out of the heap
+	 */
+	protected AbstractByteBufferResultStore(final int threshold) {
+		checkArgument(threshold >= 0, "Threshold should not be negative");
+		this.threshold = threshold;
+	}
+
+	@Override
+	public ByteBuffer store(final T id, final ByteBuffer result) {
+		if (result == null || result.isDirect() || result.remaining() < this.threshold) {
+			return result;
+		}
+		return storeOffHeap(id, result);
+	}
+
+	/**
+	 * Copies the remaining bytes of the given heap buffer out of the heap
+	 * 
+	 * @param id id of the node
+	 * @param result heap buffer of at least the threshold size
+	 * @return a read only buffer which is not backed by the heap
+	 */
+	protected abstract ByteBuffer storeOffHeap(final T id, final ByteBuffer result);
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.store;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Keeps large {@code ByteBuffer} results in direct buffers, memory is given back once the buffer is garbage collected
+ * 
+ * @param <T> Type of Node/Task ID
+ */
+public final class DirectByteBufferResultStore<T> extends AbstractByteBufferResultStore<T> {
+
+	/**
+	 * 
+	 * @param threshold size in bytes, from which on buffers are copied into direct buffers
+	 */
+	public DirectByteBufferResultStore(final int threshold) {
+		super(threshold);
+	}
+
+	@Override
+	protected ByteBuffer storeOffHeap(final T id, final ByteBuffer result) {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(result.remaining());
+		buffer.put(result.duplicate());
+		buffer.flip();
+		return buffer.asReadOnlyBuffer();
+	}
+
+	@Override
+	public void release(final T id) {
+
+	}
+}
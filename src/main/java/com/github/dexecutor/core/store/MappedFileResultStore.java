@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.store;
+
+import static com.github.dexecutor.core.support.Preconditions.checkArgument;
+import static com.github.dexecutor.core.support.Preconditions.checkNotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes large {@code ByteBuffer} results into files of a directory and hands out read only memory mapped views of them, one file per
+ * node. Files are deleted once the result is released, if a file can't be written the result is kept on the heap.
+ * 
+ * @param <T> Type of Node/Task ID
+ */
+public final class MappedFileResultStore<T> extends AbstractByteBufferResultStore<T> {
+
+	private static final Logger logger = LoggerFactory.getLogger(MappedFileResultStore.class);
+
+	private final File directory;
+	private final Map<T, File> files = new ConcurrentHashMap<T, File>();
+
+	/**
+	 * 
+	 * @param directory where results are written, created if it does not exist
+	 * @param threshold size in bytes, from which on buffers are written to files
+	 */
+	public MappedFileResultStore(final File directory, final int threshold) {
+		super(threshold);
+		checkNotNull(directory, "Directory should not be null");
+		checkArgument(directory.isDirectory() || directory.mkdirs(), "Can't create directory " + directory);
+		this.directory = directory;
+	}
+
+	@Override
+	protected ByteBuffer storeOffHeap(final T id, final ByteBuffer result) {
+		release(id);
+		File file = null;
+		try {
+			file = File.createTempFile("result", ".bin", this.directory);
+			ByteBuffer mapped = map(file, result);
+			this.files.put(id, file);
+			return mapped;
+		} catch (IOException e) {
+			logger.warn("Could not store result of node # {} in {}, keeping it on the heap", id, file, e);
+			if (file != null) {
+				file.delete();
+			}
+			return result;
+		}
+	}
+
+	private ByteBuffer map(final File file, final ByteBuffer result) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			ByteBuffer source = result.duplicate();
+			while (source.hasRemaining()) {
+				channel.write(source);
+			}
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, result.remaining());
+		}
+	}
+
+	@Override
+	public void release(final T id) {
+		File file = this.files.remove(id);
+		if (file != null && !file.delete()) {
+			logger.warn("Could not delete {}", file);
+		}
+	}
+
+	/**
+	 * 
+	 * @return number of results currently written to files
+	 */
+	public int size() {
+		return this.files.size();
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.store;
+
+/**
+ * Decides where the result of a task is kept once the task is executed. The value returned by {@link #store(Object, Object)} is what
+ * the node holds and what children of the node read, it may be backed by storage outside of the heap.
+ * 
+ * @param <T> Type of Node/Task ID
+ * @param <R> Type of Node/Task result
+ */
+public interface ResultStore<T, R> {
+	/**
+	 * Called on the thread that executed the task, with the result of the task
+	 * 
+	 * @param id id of the node
+	 * @param result the result of task execution
+	 * @return the result which the node should hold, may be the given result itself
+	 */
+	R store(final T id, final R result);
+	/**
+	 * Called once the stored result of the given node is not needed any more
+	 * 
+	 * @param id id of the node
+	 */
+	void release(final T id);
+}
@@ -0,0 +1,4 @@
+/**
+ * Package related to storage of task execution results outside of the heap
+ */
+package com.github.dexecutor.core.store;
\ No newline at end of file
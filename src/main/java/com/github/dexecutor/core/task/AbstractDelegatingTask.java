@@ -58,4 +58,16 @@ abstract class AbstractDelegatingTask <T extends Comparable<T>, R> extends Task<
 	public boolean shouldExecute(final ExecutionResults<T, R> parentResults) {
 		return this.task.shouldExecute(parentResults);
 	}
+
+	public String getFingerprint() {
+		return this.task.getFingerprint();
+	}
+
+	public String getGroup() {
+		return this.task.getGroup();
+	}
+
+	public void setGraphExpander(final GraphExpander<T> graphExpander) {
+		this.task.setGraphExpander(graphExpander);
+	}
 }
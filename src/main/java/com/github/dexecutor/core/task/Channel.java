@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.task;
+
+import static com.github.dexecutor.core.support.Preconditions.checkArgument;
+import static com.github.dexecutor.core.support.Preconditions.checkNotNull;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A bounded channel carrying items from one producing task to one consuming task, which run at the same time. The producer blocks
+ * once the channel is full, so that memory held in flight is capped by the capacity. Once the consumer is done, further items are
+ * discarded instead of blocking the producer.
+ * 
+ * @param <E> Type of items
+ */
+public final class Channel<E> implements Iterable<E> {
+
+	private static final Object END = new Object();
+
+	private final BlockingQueue<Object> queue;
+	private volatile boolean cancelled = false;
+	private volatile Throwable failure;
+
+	/**
+	 * 
+	 * @param capacity maximum number of items in flight
+	 */
+	public Channel(final int capacity) {
+		checkArgument(capacity > 0, "Capacity should be greater than ZERO");
+		this.queue = new ArrayBlockingQueue<Object>(capacity);
+	}
+
+	/**
+	 * Called by the producer, waits while the channel is full
+	 * 
+	 * @param item the item to hand to the consumer
+	 * @return {@code false} if the item was discarded because the consumer is done
+	 */
+	public boolean put(final E item) {
+		checkNotNull(item, "Item should not be null");
+		return doPut(item);
+	}
+
+	/**
+	 * Called by the producer once all the items are put
+	 */
+	public void close() {
+		doPut(END);
+	}
+
+	/**
+	 * Called by the producer if it fails, the consumer would see the failure once it has taken the items put so far
+	 * 
+	 * @param cause the failure of the producer
+	 */
+	public void fail(final Throwable cause) {
+		this.failure = cause;
+		doPut(END);
+	}
+
+	/**
+	 * Called by the consumer once it is done, items not taken so far are dropped
+	 */
+	public void cancel() {
+		this.cancelled = true;
+		this.queue.clear();
+	}
+
+	private boolean doPut(final Object item) {
+		if (this.cancelled) {
+			return false;
+		}
+		try {
+			this.queue.put(item);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TaskExecutionException("Interrupted while putting into channel", e);
+		}
+		if (this.cancelled) {
+			this.queue.clear();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Called by the consumer, the iterator waits for items until the producer closes the channel
+	 * 
+	 * @return iterator over the items of the producer, can be obtained only once
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+
+			private Object next;
+
+			@Override
+			public boolean hasNext() {
+				if (this.next == null) {
+					this.next = take();
+				}
+				return this.next != END;
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public E next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				E item = (E) this.next;
+				this.next = null;
+				return item;
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	private Object take() {
+		try {
+			Object item = this.queue.take();
+			if (item == END) {
+				this.queue.put(END);
+				if (this.failure != null) {
+					throw new TaskExecutionException("Producer failed", this.failure);
+				}
+			}
+			return item;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TaskExecutionException("Interrupted while taking from channel", e);
+		}
+	}
+}
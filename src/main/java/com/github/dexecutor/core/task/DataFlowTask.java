@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.task;
+
+/**
+ * A task which receives the results of its parents as input of its execution, so that results need not be passed around through
+ * shared state. Parent results are looked up only while the task executes; with result release enabled, they are dropped once all the
+ * children of a parent are done.
+ * 
+ * @param <T> Type of Node/Task ID
+ * @param <R> Type of Node/Task result
+ */
+public abstract class DataFlowTask<T extends Comparable<T>, R> extends Task<T, R> {
+
+	private static final long serialVersionUID = 1L;
+
+	private ExecutionResults<T, R> parentResults;
+
+	/**
+	 * sets the results of the parent nodes, called by the framework before the task is executed
+	 * 
+	 * @param parentResults results of the parent nodes
+	 */
+	public void setParentResults(final ExecutionResults<T, R> parentResults) {
+		this.parentResults = parentResults;
+	}
+
+	@Override
+	public final R execute() {
+		if (this.parentResults == null) {
+			throw new IllegalStateException("Parent results are not available for task # " + getId());
+		}
+		return execute(this.parentResults);
+	}
+
+	/**
+	 * Framework would call this method, when it comes for tasks to be executed.
+	 * 
+	 * @param parentResults results of the parent nodes, in no particular order
+	 * @return the result of task execution
+	 */
+	protected abstract R execute(final ExecutionResults<T, R> parentResults);
+}
@@ -35,6 +35,9 @@ public class ExecutionResult<T, R> implements Serializable {
 	private T id;
 	private R result;
 	private ExecutionStatus status = ExecutionStatus.SUCCESS;
+	private long startTime;
+	private long endTime;
+	private String thread;
 
 	public ExecutionResult(final T id) {
 		this.id = id;
@@ -73,6 +76,50 @@ public class ExecutionResult<T, R> implements Serializable {
 		return status;
 	}
 
+	/**
+	 * sets when the task started and finished executing, as given by {@code System.nanoTime()} on the executing JVM
+	 * 
+	 * @param startTime when the task started
+	 * @param endTime when the task finished
+	 */
+	public void setExecutionTimes(final long startTime, final long endTime) {
+		this.startTime = startTime;
+		this.endTime = endTime;
+	}
+
+	/**
+	 * 
+	 * @return when the task started executing, {@code 0} if not known
+	 */
+	public long getStartTime() {
+		return this.startTime;
+	}
+
+	/**
+	 * 
+	 * @return when the task finished executing, {@code 0} if not known
+	 */
+	public long getEndTime() {
+		return this.endTime;
+	}
+
+	/**
+	 * sets the name of the thread which executed the task
+	 * 
+	 * @param thread name of the thread
+	 */
+	public void setThread(final String thread) {
+		this.thread = thread;
+	}
+
+	/**
+	 * 
+	 * @return name of the thread which executed the task, {@code null} if not known
+	 */
+	public String getThread() {
+		return this.thread;
+	}
+
 	/**
 	 * Marks the execution result as errored
 	 */
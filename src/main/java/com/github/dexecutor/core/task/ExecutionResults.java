@@ -19,37 +19,75 @@ package com.github.dexecutor.core.task;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 /**
- * Wrapper class around @ExecutionResult
+ * Wrapper class around @ExecutionResult, either holding the results or being a read only view over results produced on demand
  * 
  * @author Nadeem Mohammad
  *
  * @param <T> Type of Node/Task ID
  * @param <R> Type of Node/Task result
  */
-public final class ExecutionResults<T, R> implements Serializable {
+public final class ExecutionResults<T, R> implements Serializable, Iterable<ExecutionResult<T, R>> {
 
 	private static final long serialVersionUID = 1L;
-	private List<ExecutionResult<T, R>> results = new ArrayList<ExecutionResult<T, R>>();
+	private final List<ExecutionResult<T, R>> results;
+	private final transient Iterable<ExecutionResult<T, R>> view;
+
+	/**
+	 * Creates empty results, to which results can be added
+	 */
+	public ExecutionResults() {
+		this.results = new ArrayList<ExecutionResult<T, R>>();
+		this.view = null;
+	}
+
+	private ExecutionResults(final Iterable<ExecutionResult<T, R>> view) {
+		this.results = null;
+		this.view = view;
+	}
+
+	/**
+	 * Creates read only results, backed by the given iterable. Nothing is copied, results are produced by the iterable every time they
+	 * are looked at, and a serialized view holds a copy of the results at that moment.
+	 * 
+	 * @param view provides the results
+	 * @return the read only results
+	 * @param <T> Type of Node/Task ID
+	 * @param <R> Type of Node/Task result
+	 */
+	public static <T, R> ExecutionResults<T, R> view(final Iterable<ExecutionResult<T, R>> view) {
+		return new ExecutionResults<T, R>(view);
+	}
 
 	/**
 	 * adds {@code result} to existing collection of results
 	 *
 	 * @param result Result to be added to all results
+	 * @throws UnsupportedOperationException if these results are a read only view
 	 */
 	public void add(final ExecutionResult<T, R> result) {
+		if (this.results == null) {
+			throw new UnsupportedOperationException("Results are read only");
+		}
 		this.results.add(result);
 	}
+
+	private Iterable<ExecutionResult<T, R>> results() {
+		return this.results != null ? this.results : this.view;
+	}
 	/**
 	 *  
 	 * @return the first {@link ExecutionResult in the collection}
 	 */
 	public ExecutionResult<T, R> getFirst() {
-		if (this.results.isEmpty()) {
+		Iterator<ExecutionResult<T, R>> iterator = results().iterator();
+		if (!iterator.hasNext()) {
 			return null;
 		} else {
-			return this.results.iterator().next();
+			return iterator.next();
 		}
 	}
 	/**
@@ -58,11 +96,7 @@ public final class ExecutionResults<T, R> implements Serializable {
 	 * {@code false} if no result
 	 */
 	public boolean hasAnyParentResult() {
-		if (this.results.isEmpty()) {
-			return false;
-		} else {
-			return true;
-		}
+		return results().iterator().hasNext();
 	}
 	
 	/**
@@ -73,7 +107,7 @@ public final class ExecutionResults<T, R> implements Serializable {
 	 */
 	public boolean anyParentSkipped() {
 		boolean parentSkipped = false;
-		for (ExecutionResult<T, R> parent : results) {
+		for (ExecutionResult<T, R> parent : results()) {
 			if (parent.isSkipped()) {
 				parentSkipped = true;
 				break;
@@ -87,11 +121,39 @@ public final class ExecutionResults<T, R> implements Serializable {
 	 * @return all result in the collection
 	 */
 	public List<ExecutionResult<T, R>> getAll() {
-		return new ArrayList<ExecutionResult<T, R>>(this.results);
+		if (this.results != null) {
+			return new ArrayList<ExecutionResult<T, R>>(this.results);
+		}
+		List<ExecutionResult<T, R>> all = new ArrayList<ExecutionResult<T, R>>();
+		for (ExecutionResult<T, R> result : this.view) {
+			all.add(result);
+		}
+		return all;
+	}
+
+	/**
+	 * 
+	 * @return read only iterator over all results, without copying them
+	 */
+	@Override
+	public Iterator<ExecutionResult<T, R>> iterator() {
+		if (this.results != null) {
+			return Collections.unmodifiableList(this.results).iterator();
+		}
+		return this.view.iterator();
+	}
+
+	private Object writeReplace() {
+		if (this.results != null) {
+			return this;
+		}
+		ExecutionResults<T, R> copy = new ExecutionResults<T, R>();
+		copy.results.addAll(getAll());
+		return copy;
 	}
 
 	@Override
 	public String toString() {
-		return this.results.toString();
+		return this.results != null ? this.results.toString() : getAll().toString();
 	}
 }
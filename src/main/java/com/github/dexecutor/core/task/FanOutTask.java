@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.task;
+
+import static com.github.dexecutor.core.support.Preconditions.checkNotNull;
+
+import java.util.Collection;
+
+/**
+ * A task whose output decides, at run time, how many shard nodes should be executed in parallel. Each shard is added as a child of
+ * this task's node and as a parent of the gather node, which should be declared as a child of this task's node up front, typically
+ * backed by a {@code GatherTask}. Shard tasks are obtained from the {@code TaskProvider} like any other task.
+ * 
+ * @param <T> Type of Node/Task ID
+ * @param <R> Type of Node/Task result
+ */
+public abstract class FanOutTask<T extends Comparable<T>, R> extends Task<T, R> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final T gatherNode;
+
+	/**
+	 * 
+	 * @param gatherNode id of the node which gathers results of all the shards
+	 */
+	protected FanOutTask(final T gatherNode) {
+		checkNotNull(gatherNode, "Gather node should not be null");
+		this.gatherNode = gatherNode;
+	}
+
+	/**
+	 * 
+	 * @return id of the node which gathers results of all the shards
+	 */
+	public T getGatherNode() {
+		return this.gatherNode;
+	}
+
+	@Override
+	public final R execute() {
+		R output = split();
+		for (T shard : shardsOf(output)) {
+			getGraphExpander().addChild(shard);
+			getGraphExpander().addDependency(shard, this.gatherNode);
+		}
+		return output;
+	}
+
+	/**
+	 * Computes the output of this task, for example the listing of input files
+	 * 
+	 * @return the output of this task
+	 */
+	protected abstract R split();
+
+	/**
+	 * 
+	 * @param output the output of this task
+	 * @return ids of the shard nodes that should be executed for the output, may be empty
+	 */
+	protected abstract Collection<T> shardsOf(final R output);
+}
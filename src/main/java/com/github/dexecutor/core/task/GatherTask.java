@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.task;
+
+import static com.github.dexecutor.core.support.Preconditions.checkNotNull;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A task which gathers the results of all the shards of a {@code FanOutTask}. Shard results are handed out one by one through an
+ * iterator, which reads each result only when it is reached rather than collecting all of them up front.
+ * 
+ * @param <T> Type of Node/Task ID
+ * @param <R> Type of Node/Task result
+ */
+public abstract class GatherTask<T extends Comparable<T>, R> extends DataFlowTask<T, R> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final T fanOutNode;
+
+	/**
+	 * 
+	 * @param fanOutNode id of the node whose shards are gathered
+	 */
+	protected GatherTask(final T fanOutNode) {
+		checkNotNull(fanOutNode, "Fan out node should not be null");
+		this.fanOutNode = fanOutNode;
+	}
+
+	/**
+	 * 
+	 * @return id of the node whose shards are gathered
+	 */
+	public T getFanOutNode() {
+		return this.fanOutNode;
+	}
+
+	@Override
+	protected final R execute(final ExecutionResults<T, R> parentResults) {
+		return gather(new ShardResultsIterator(parentResults.iterator()));
+	}
+
+	/**
+	 * 
+	 * @param shardResults results of all the shards, in no particular order
+	 * @return the result of this task
+	 */
+	protected abstract R gather(final Iterator<ExecutionResult<T, R>> shardResults);
+
+	private final class ShardResultsIterator implements Iterator<ExecutionResult<T, R>> {
+
+		private final Iterator<ExecutionResult<T, R>> delegate;
+		private ExecutionResult<T, R> next;
+
+		ShardResultsIterator(final Iterator<ExecutionResult<T, R>> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (this.next == null && this.delegate.hasNext()) {
+				ExecutionResult<T, R> candidate = this.delegate.next();
+				if (!fanOutNode.equals(candidate.getId())) {
+					this.next = candidate;
+				}
+			}
+			return this.next != null;
+		}
+
+		@Override
+		public ExecutionResult<T, R> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			ExecutionResult<T, R> result = this.next;
+			this.next = null;
+			return result;
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
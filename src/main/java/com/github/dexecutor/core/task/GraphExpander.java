@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.task;
+
+/**
+ * Lets a running task add nodes and edges under its own subtree. Changes are applied once the task is done with success, before its
+ * children are scheduled; if any of the changes is invalid none is applied and the task is considered errored.
+ * 
+ * @param <T> Type of Node/Task ID
+ */
+public interface GraphExpander<T> {
+	/**
+	 * Adds the given node as a child of the running task's node
+	 * 
+	 * @param child a new node, or an existing descendant of the running task's node which is not yet processed
+	 */
+	void addChild(final T child);
+	/**
+	 * Adds an edge between the given nodes
+	 * 
+	 * @param evalFirstNode the running task's node or a node added by the running task
+	 * @param evalLaterNode a new node, or an existing descendant of the running task's node which is not yet processed
+	 */
+	void addDependency(final T evalFirstNode, final T evalLaterNode);
+}
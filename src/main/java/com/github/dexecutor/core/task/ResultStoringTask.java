@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.task;
+
+import com.github.dexecutor.core.store.ResultStore;
+
+/**
+ * An {@code AbstractDelegatingTask} which hands the result of the underlying task to a {@code ResultStore}, on the thread which executed
+ * the task
+ * 
+ * @param <T> Type of Node/Task ID
+ * @param <R> Type of Node/Task result
+ */
+final class ResultStoringTask<T extends Comparable<T>, R> extends AbstractDelegatingTask<T, R> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient ResultStore<T, R> resultStore;
+
+	ResultStoringTask(final Task<T, R> task, final ResultStore<T, R> resultStore) {
+		super(task);
+		this.resultStore = resultStore;
+	}
+
+	@Override
+	public R execute() {
+		return this.resultStore.store(getId(), getTargetTask().execute());
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.task;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A task which exchanges items with its neighbours over streaming edges, rather than handing over a complete result. A consumer
+ * connected through a streaming edge starts along with its producer and reads the items while they are being emitted.
+ * 
+ * @param <T> Type of Node/Task ID
+ * @param <R> Type of Node/Task result
+ */
+public abstract class StreamingTask<T extends Comparable<T>, R> extends Task<T, R> {
+
+	private static final long serialVersionUID = 1L;
+
+	private transient Map<T, Channel<Object>> inputs;
+	private transient Map<T, Channel<Object>> outputs;
+
+	/**
+	 * Connects the given channel as input from the producer, called by the framework before the task is executed
+	 * 
+	 * @param producer id of the producing node
+	 * @param channel the channel
+	 */
+	public void addInput(final T producer, final Channel<Object> channel) {
+		if (this.inputs == null) {
+			this.inputs = new LinkedHashMap<T, Channel<Object>>();
+		}
+		this.inputs.put(producer, channel);
+	}
+
+	/**
+	 * Connects the given channel as output to the consumer, called by the framework before the task is executed
+	 * 
+	 * @param consumer id of the consuming node
+	 * @param channel the channel
+	 */
+	public void addOutput(final T consumer, final Channel<Object> channel) {
+		if (this.outputs == null) {
+			this.outputs = new LinkedHashMap<T, Channel<Object>>();
+		}
+		this.outputs.put(consumer, channel);
+	}
+
+	@Override
+	public final R execute() {
+		try {
+			R result = stream();
+			for (Channel<Object> output : channels(this.outputs)) {
+				output.close();
+			}
+			return result;
+		} catch (RuntimeException | Error e) {
+			for (Channel<Object> output : channels(this.outputs)) {
+				output.fail(e);
+			}
+			throw e;
+		} finally {
+			for (Channel<Object> input : channels(this.inputs)) {
+				input.cancel();
+			}
+		}
+	}
+
+	private Collection<Channel<Object>> channels(final Map<T, Channel<Object>> channels) {
+		if (channels == null) {
+			return Collections.emptyList();
+		}
+		return channels.values();
+	}
+
+	/**
+	 * Does the work of this task, emitting and reading items as it goes
+	 * 
+	 * @return the result of this task
+	 */
+	protected abstract R stream();
+
+	/**
+	 * Hands the item to all the consumers, waits while any of them is behind by the capacity of its channel
+	 * 
+	 * @param item the item to emit
+	 */
+	protected void emit(final Object item) {
+		for (Channel<Object> output : channels(this.outputs)) {
+			output.put(item);
+		}
+	}
+
+	/**
+	 * 
+	 * @param producer id of the producing node
+	 * @param <E> Type of items
+	 * @return the items emitted by the producer, empty if the producer was not running along with this task
+	 */
+	@SuppressWarnings("unchecked")
+	protected <E> Iterable<E> input(final T producer) {
+		Channel<Object> channel = this.inputs == null ? null : this.inputs.get(producer);
+		if (channel == null) {
+			return Collections.emptyList();
+		}
+		return (Iterable<E>) (Iterable<?>) channel;
+	}
+}
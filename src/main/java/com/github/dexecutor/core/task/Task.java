@@ -34,6 +34,10 @@ public abstract class Task<T extends Comparable<T>, R> implements Serializable {
 	 * id of the task, this would be same as that of {@code Node} id
 	 */
 	private T id;
+	/**
+	 * Expander through which this task adds nodes while it runs, set by the framework
+	 */
+	private transient GraphExpander<T> graphExpander;
 	/**
 	 * Sets the new id
 	 * @param id the task id
@@ -74,7 +78,8 @@ public abstract class Task<T extends Comparable<T>, R> implements Serializable {
 		this.considerExecutionError = considerExecutionError;
 	}
 	/**
-	 * Defines whether or not this task should be executed
+	 * Defines whether or not this task should be executed. Parent results may be a read only view over the state of the parents, valid
+	 * only for the duration of the call. Parent results are not gathered at all for tasks which do not override this method.
 	 * 
 	 * @param parentResults parent execution results
 	 * 
@@ -84,4 +89,42 @@ public abstract class Task<T extends Comparable<T>, R> implements Serializable {
 	public boolean shouldExecute(final ExecutionResults<T, R> parentResults) {
 		return true;
 	}
+	/**
+	 * Fingerprint of the inputs of this task, such as its parameters. Dexecutor combines it with the fingerprints of parent nodes,
+	 * and when a {@code ResultCache} is configured, uses the combination to reuse the result of an earlier execution.
+	 *
+	 * @return the fingerprint of this task's inputs or {@code null} if results of this task should never be cached
+	 */
+	public String getFingerprint() {
+		return null;
+	}
+	/**
+	 * Group under which latencies of this task are aggregated, when {@code ExecutionMetrics} are configured.
+	 *
+	 * @return the group of this task, defaults to the name of the task class
+	 */
+	public String getGroup() {
+		return getClass().getName();
+	}
+	/**
+	 * sets the graph expander, called by the framework before the task is executed
+	 * 
+	 * @param graphExpander the new graph expander
+	 */
+	public void setGraphExpander(final GraphExpander<T> graphExpander) {
+		this.graphExpander = graphExpander;
+	}
+	/**
+	 * While executing, the task may use the expander to add nodes and edges under its own subtree, for example one child for each piece
+	 * of work found at run time.
+	 * 
+	 * @return the graph expander for this task
+	 * @throws IllegalStateException if the execution engine does not support graph expansion
+	 */
+	protected GraphExpander<T> getGraphExpander() {
+		if (this.graphExpander == null) {
+			throw new IllegalStateException("Graph expansion is not supported for task # " + this.id);
+		}
+		return this.graphExpander;
+	}
 }
\ No newline at end of file
@@ -17,6 +17,8 @@
 
 package com.github.dexecutor.core.task;
 
+import com.github.dexecutor.core.store.ResultStore;
+
 /**
  * A factory to create Worker task for dexecutor based on @ExecutionBehavior
  * 
@@ -24,6 +26,13 @@ package com.github.dexecutor.core.task;
  *
  */
 public class TaskFactory {
+
+	private static final ClassValue<Boolean> PARENT_RESULTS_NEEDED = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(final Class<?> taskClass) {
+			return overridesShouldExecute(taskClass);
+		}
+	};
 	
 	/**
 	 * 
@@ -35,4 +44,36 @@ public class TaskFactory {
 	public static <T extends Comparable<T>, R> Task<T, R> newWorker(final Task<T, R> task) {
 		return new LoggerTask<T, R>(task);
 	}
+
+	/**
+	 * 
+	 * @param task the task that should be wrapped
+	 * @param resultStore store to which the result of the task is handed
+	 * @return the new worker task wrapped with {@code LoggerTask}, whose result is kept by the result store
+	 * @param <T> Type of Node/Task ID
+	 * @param <R> Type of Node/Task result
+	 */
+	public static <T extends Comparable<T>, R> Task<T, R> newWorker(final Task<T, R> task, final ResultStore<T, R> resultStore) {
+		return new ResultStoringTask<T, R>(newWorker(task), resultStore);
+	}
+
+	/**
+	 * Tells whether the task looks at parent results before execution, that is whether its class overrides {@code shouldExecute}.
+	 * The answer is remembered per class, without keeping the class or its class loader from being unloaded.
+	 * 
+	 * @param task the task to check
+	 * @return {@code true} if parent results should be handed to {@code shouldExecute}
+	 * 			{@code false} if the default {@code shouldExecute} is used, which ignores them
+	 */
+	public static boolean needsParentResults(final Task<?, ?> task) {
+		return PARENT_RESULTS_NEEDED.get(task.getClass());
+	}
+
+	private static boolean overridesShouldExecute(final Class<?> taskClass) {
+		try {
+			return !Task.class.equals(taskClass.getMethod("shouldExecute", ExecutionResults.class).getDeclaringClass());
+		} catch (NoSuchMethodException e) {
+			return true;
+		}
+	}
 }
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.trace;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.github.dexecutor.core.task.ExecutionStatus;
+
+/**
+ * Records when each node executed, on which thread and after which parents, along with the time the coordinator spent processing each
+ * result. The recorded timeline is written in the Chrome trace event format, which can be opened in {@code chrome://tracing} or
+ * Perfetto: every worker thread and the coordinator get a track, dependencies are drawn as arrows from parents to children and nodes
+ * on the critical path, the chain of last finishing parents leading to the last finishing node, are highlighted.
+ * 
+ * @param <T> Type of Node/Task ID
+ */
+public final class ExecutionTrace<T> {
+
+	private static final String COORDINATOR = "coordinator";
+	private static final String UNKNOWN_THREAD = "unknown";
+
+	private final List<Span<T>> executions = new ArrayList<Span<T>>();
+	private final List<Span<T>> coordinations = new ArrayList<Span<T>>();
+
+	/**
+	 * Records an execution of a node, times are as given by {@code System.nanoTime()}
+	 * 
+	 * @param id id of the node
+	 * @param parents ids of the parents of the node
+	 * @param thread name of the thread which executed the node, {@code null} if not known
+	 * @param status status of the execution
+	 * @param startTime when the execution started
+	 * @param endTime when the execution finished
+	 */
+	public synchronized void recordExecution(final T id, final Collection<T> parents, final String thread, final ExecutionStatus status,
+			final long startTime, final long endTime) {
+		this.executions.add(new Span<T>(id, new ArrayList<T>(parents), thread, status, startTime, endTime));
+	}
+
+	/**
+	 * Records the time the coordinator spent processing the result of a node, including submitting its children
+	 * 
+	 * @param id id of the node
+	 * @param startTime when the processing started
+	 * @param endTime when the processing finished
+	 */
+	public synchronized void recordCoordination(final T id, final long startTime, final long endTime) {
+		this.coordinations.add(new Span<T>(id, null, COORDINATOR, null, startTime, endTime));
+	}
+
+	/**
+	 * 
+	 * @return number of executions recorded so far
+	 */
+	public synchronized int getExecutionCount() {
+		return this.executions.size();
+	}
+
+	/**
+	 * Writes the recorded timeline as Chrome trace event JSON
+	 * 
+	 * @param writer the writer to write to, not closed
+	 * @throws IOException if writing fails
+	 */
+	public synchronized void writeTo(final Writer writer) throws IOException {
+		long origin = origin();
+		Map<String, Integer> threads = new LinkedHashMap<String, Integer>();
+		threads.put(COORDINATOR, 0);
+		Map<T, Span<T>> lastExecutions = new HashMap<T, Span<T>>();
+		for (Span<T> execution : this.executions) {
+			threadOf(threads, execution);
+			lastExecutions.put(execution.id, execution);
+		}
+		Set<Span<T>> criticalPath = criticalPath(lastExecutions);
+
+		TraceWriter out = new TraceWriter(writer, origin);
+		out.begin();
+		out.metadata("process_name", null, "dexecutor");
+		for (Map.Entry<String, Integer> thread : threads.entrySet()) {
+			out.metadata("thread_name", thread.getValue(), thread.getKey());
+		}
+		for (Span<T> execution : this.executions) {
+			out.slice(String.valueOf(execution.id), "execution", threadOf(threads, execution), execution.startTime, execution.endTime,
+					execution.status.name(), criticalPath.contains(execution));
+		}
+		for (Span<T> coordination : this.coordinations) {
+			out.slice(String.valueOf(coordination.id), "coordination", 0, coordination.startTime, coordination.endTime, null, false);
+		}
+		long flow = 0;
+		for (Span<T> execution : this.executions) {
+			for (T parentId : execution.parents) {
+				Span<T> parent = lastExecutions.get(parentId);
+				if (parent != null) {
+					out.flow(flow++, threadOf(threads, parent), parent.endTime, threadOf(threads, execution), execution.startTime);
+				}
+			}
+		}
+		out.end();
+		writer.flush();
+	}
+
+	private long origin() {
+		long origin = Long.MAX_VALUE;
+		for (Span<T> execution : this.executions) {
+			origin = Math.min(origin, execution.startTime);
+		}
+		for (Span<T> coordination : this.coordinations) {
+			origin = Math.min(origin, coordination.startTime);
+		}
+		return origin == Long.MAX_VALUE ? 0 : origin;
+	}
+
+	private static <T> int threadOf(final Map<String, Integer> threads, final Span<T> span) {
+		String thread = span.thread == null ? UNKNOWN_THREAD : span.thread;
+		Integer tid = threads.get(thread);
+		if (tid == null) {
+			tid = threads.size();
+			threads.put(thread, tid);
+		}
+		return tid;
+	}
+
+	private Set<Span<T>> criticalPath(final Map<T, Span<T>> lastExecutions) {
+		Set<Span<T>> criticalPath = new HashSet<Span<T>>();
+		Span<T> current = null;
+		for (Span<T> execution : lastExecutions.values()) {
+			if (current == null || execution.endTime > current.endTime) {
+				current = execution;
+			}
+		}
+		while (current != null && criticalPath.add(current)) {
+			Span<T> gating = null;
+			for (T parentId : current.parents) {
+				Span<T> parent = lastExecutions.get(parentId);
+				if (parent != null && (gating == null || parent.endTime > gating.endTime)) {
+					gating = parent;
+				}
+			}
+			current = gating;
+		}
+		return criticalPath;
+	}
+
+	private static final class Span<T> {
+		private final T id;
+		private final List<T> parents;
+		private final String thread;
+		private final ExecutionStatus status;
+		private final long startTime;
+		private final long endTime;
+
+		Span(final T id, final List<T> parents, final String thread, final ExecutionStatus status, final long startTime, final long endTime) {
+			this.id = id;
+			this.parents = parents;
+			this.thread = thread;
+			this.status = status;
+			this.startTime = startTime;
+			this.endTime = endTime;
+		}
+	}
+}
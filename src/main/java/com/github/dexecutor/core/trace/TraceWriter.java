@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.trace;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes Chrome trace events, timestamps are given in nanoseconds and written in microseconds relative to an origin
+ */
+final class TraceWriter {
+
+	private static final int PID = 1;
+
+	private final Writer writer;
+	private final long origin;
+	private boolean first = true;
+
+	TraceWriter(final Writer writer, final long origin) {
+		this.writer = writer;
+		this.origin = origin;
+	}
+
+	void begin() throws IOException {
+		this.writer.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+	}
+
+	void end() throws IOException {
+		this.writer.write("\n]}\n");
+	}
+
+	void metadata(final String name, final Integer tid, final String value) throws IOException {
+		startEvent();
+		this.writer.write("{\"name\":\"");
+		this.writer.write(name);
+		this.writer.write("\",\"ph\":\"M\",\"pid\":");
+		this.writer.write(Integer.toString(PID));
+		if (tid != null) {
+			this.writer.write(",\"tid\":");
+			this.writer.write(Integer.toString(tid));
+		}
+		this.writer.write(",\"args\":{\"name\":");
+		string(value);
+		this.writer.write("}}");
+	}
+
+	void slice(final String name, final String category, final int tid, final long startTime, final long endTime, final String status,
+			final boolean critical) throws IOException {
+		startEvent();
+		this.writer.write("{\"name\":");
+		string(name);
+		this.writer.write(",\"cat\":\"");
+		this.writer.write(category);
+		this.writer.write("\",\"ph\":\"X\",\"pid\":");
+		this.writer.write(Integer.toString(PID));
+		this.writer.write(",\"tid\":");
+		this.writer.write(Integer.toString(tid));
+		this.writer.write(",\"ts\":");
+		micros(startTime - this.origin);
+		this.writer.write(",\"dur\":");
+		micros(Math.max(0, endTime - startTime));
+		if (critical) {
+			this.writer.write(",\"cname\":\"terrible\"");
+		}
+		if (status != null) {
+			this.writer.write(",\"args\":{\"status\":\"");
+			this.writer.write(status);
+			this.writer.write("\",\"critical\":");
+			this.writer.write(Boolean.toString(critical));
+			this.writer.write("}");
+		}
+		this.writer.write("}");
+	}
+
+	void flow(final long id, final int fromTid, final long fromTime, final int toTid, final long toTime) throws IOException {
+		flowEvent("s", id, fromTid, fromTime);
+		flowEvent("f", id, toTid, toTime);
+	}
+
+	private void flowEvent(final String phase, final long id, final int tid, final long time) throws IOException {
+		startEvent();
+		this.writer.write("{\"name\":\"dependency\",\"cat\":\"dependency\",\"ph\":\"");
+		this.writer.write(phase);
+		this.writer.write("\",\"id\":");
+		this.writer.write(Long.toString(id));
+		this.writer.write(",\"pid\":");
+		this.writer.write(Integer.toString(PID));
+		this.writer.write(",\"tid\":");
+		this.writer.write(Integer.toString(tid));
+		this.writer.write(",\"ts\":");
+		micros(time - this.origin);
+		if ("f".equals(phase)) {
+			this.writer.write(",\"bp\":\"e\"");
+		}
+		this.writer.write("}");
+	}
+
+	private void startEvent() throws IOException {
+		this.writer.write(this.first ? "\n" : ",\n");
+		this.first = false;
+	}
+
+	private void micros(final long nanos) throws IOException {
+		long fraction = Math.abs(nanos % 1000);
+		this.writer.write(Long.toString(nanos / 1000));
+		this.writer.write('.');
+		if (fraction < 100) {
+			this.writer.write('0');
+		}
+		if (fraction < 10) {
+			this.writer.write('0');
+		}
+		this.writer.write(Long.toString(fraction));
+	}
+
+	private void string(final String value) throws IOException {
+		this.writer.write('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				this.writer.write('\\');
+				this.writer.write(c);
+			} else if (c < 0x20) {
+				this.writer.write(String.format("\\u%04x", (int) c));
+			} else {
+				this.writer.write(c);
+			}
+		}
+		this.writer.write('"');
+	}
+}
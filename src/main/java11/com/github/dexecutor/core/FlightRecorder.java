@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import com.github.dexecutor.core.task.ExecutionStatus;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java 11 version of the hooks, emits JFR events for task lifecycle. Duration and thread of each event are recorded by JFR itself, queue
+ * waits start on the submitting thread and are committed on the executing thread, which is the thread they are reported on.
+ */
+final class FlightRecorder {
+
+	private FlightRecorder() {
+
+	}
+
+	static Object beginQueueWait() {
+		QueueWaitEvent event = new QueueWaitEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	static void endQueueWait(final Object queueWait, final Object nodeId) {
+		if (queueWait != null) {
+			QueueWaitEvent event = (QueueWaitEvent) queueWait;
+			event.end();
+			if (event.shouldCommit()) {
+				event.nodeId = String.valueOf(nodeId);
+				event.commit();
+			}
+		}
+	}
+
+	static Object beginExecution() {
+		TaskExecutionEvent event = new TaskExecutionEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	static void endExecution(final Object execution, final Object nodeId, final ExecutionStatus status) {
+		if (execution != null) {
+			TaskExecutionEvent event = (TaskExecutionEvent) execution;
+			event.end();
+			if (event.shouldCommit()) {
+				event.nodeId = String.valueOf(nodeId);
+				event.status = status.name();
+				event.commit();
+			}
+		}
+	}
+
+	static Object beginCoordination() {
+		CoordinationEvent event = new CoordinationEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	static void endCoordination(final Object coordination, final Object nodeId) {
+		if (coordination != null) {
+			CoordinationEvent event = (CoordinationEvent) coordination;
+			event.end();
+			if (event.shouldCommit()) {
+				event.nodeId = String.valueOf(nodeId);
+				event.commit();
+			}
+		}
+	}
+
+	static void retried(final Object nodeId) {
+		RetryEvent event = new RetryEvent();
+		if (event.shouldCommit()) {
+			event.nodeId = String.valueOf(nodeId);
+			event.commit();
+		}
+	}
+
+	static void skipped(final Object nodeId) {
+		SkipEvent event = new SkipEvent();
+		if (event.shouldCommit()) {
+			event.nodeId = String.valueOf(nodeId);
+			event.commit();
+		}
+	}
+
+	@Name("com.github.dexecutor.TaskExecution")
+	@Label("Task Execution")
+	@Category("Dexecutor")
+	@Description("Execution of the task of a node")
+	static final class TaskExecutionEvent extends Event {
+		@Label("Node Id")
+		String nodeId;
+		@Label("Status")
+		String status;
+	}
+
+	@Name("com.github.dexecutor.QueueWait")
+	@Label("Queue Wait")
+	@Category("Dexecutor")
+	@Description("Wait of a task from being submitted till it started executing")
+	static final class QueueWaitEvent extends Event {
+		@Label("Node Id")
+		String nodeId;
+	}
+
+	@Name("com.github.dexecutor.Coordination")
+	@Label("Coordination")
+	@Category("Dexecutor")
+	@Description("Processing of the result of a node by the coordinator, including submitting its children")
+	static final class CoordinationEvent extends Event {
+		@Label("Node Id")
+		String nodeId;
+	}
+
+	@Name("com.github.dexecutor.Retry")
+	@Label("Retry")
+	@Category("Dexecutor")
+	@Description("Node submitted again after an error")
+	static final class RetryEvent extends Event {
+		@Label("Node Id")
+		String nodeId;
+	}
+
+	@Name("com.github.dexecutor.Skip")
+	@Label("Skip")
+	@Category("Dexecutor")
+	@Description("Node skipped as its task should not be executed")
+	static final class SkipEvent extends Event {
+		@Label("Node Id")
+		String nodeId;
+	}
+}
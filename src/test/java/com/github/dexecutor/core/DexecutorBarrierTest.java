@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.dexecutor.core.graph.Node;
+import com.github.dexecutor.core.support.ThreadPoolUtil;
+import com.github.dexecutor.core.task.ExecutionResult;
+import com.github.dexecutor.core.task.ExecutionResults;
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskProvider;
+
+public class DexecutorBarrierTest {
+
+	private static final Integer FIRST_BARRIER = 100;
+	private static final Integer SECOND_BARRIER = 200;
+
+	private ExecutorService executorService;
+	private ParentRecordingTaskProvider taskProvider;
+	private DexecutorConfig<Integer, Integer> config;
+
+	@Before
+	public void doBeforeEachTestCase() {
+		this.executorService = Executors.newFixedThreadPool(ThreadPoolUtil.ioIntesivePoolSize());
+		this.taskProvider = new ParentRecordingTaskProvider();
+		this.config = new DexecutorConfig<>(this.executorService, this.taskProvider);
+	}
+
+	@After
+	public void doAfterEachTestCase() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	public void shouldWireStagesThroughBarrier() {
+		DefaultDexecutor<Integer, Integer> executor = newExecutor();
+
+		assertThat(node(1).getOutGoingNodes()).hasSize(1);
+		assertThat(node(4).getInComingNodes()).hasSize(1);
+
+		executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.taskProvider.parents.get(4)).containsExactly(1, 2, 3);
+		assertThat(this.taskProvider.parents.get(5)).containsExactly(1, 2, 3);
+		assertThat(this.taskProvider.parents.get(6)).containsExactly(4, 5);
+		assertThat(this.taskProvider.provided).doesNotContain(FIRST_BARRIER, SECOND_BARRIER);
+		assertThat(processedIds()).containsOnly(1, 2, 3, 4, 5, 6);
+	}
+
+	@Test
+	public void shouldNotPassBarrierOnError() {
+		this.taskProvider.failing = 2;
+		DefaultDexecutor<Integer, Integer> executor = newExecutor();
+
+		executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(processedIds()).containsOnly(1, 2, 3);
+		assertThat(node(FIRST_BARRIER).isProcessed()).isFalse();
+	}
+
+	@Test
+	public void shouldReportErroredParentsBehindBarrier() {
+		this.taskProvider.failing = 2;
+		DefaultDexecutor<Integer, Integer> executor = newExecutor();
+
+		executor.execute(ExecutionConfig.NON_TERMINATING);
+
+		assertThat(processedIds()).containsOnly(1, 2, 3, 4, 5, 6);
+		assertThat(this.taskProvider.erroredParents.get(4)).containsExactly(2);
+	}
+
+	@Test
+	public void shouldReleaseResultsOnceAllNodesAfterBarrierAreDone() {
+		this.config.setResultReleaseEnabled(true);
+		DefaultDexecutor<Integer, Integer> executor = newExecutor();
+
+		executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.taskProvider.parents.get(5)).containsExactly(1, 2, 3);
+		assertThat(node(1).getResult()).isNull();
+		assertThat(node(4).getResult()).isNull();
+		assertThat(node(6).getResult()).isEqualTo(6);
+	}
+
+	@Test
+	public void shouldNotFuseBarrierIntoChain() {
+		this.config.setChainFusionEnabled(true);
+		DefaultDexecutor<Integer, Integer> executor = new DefaultDexecutor<Integer, Integer>(this.config);
+		executor.addBarrier(FIRST_BARRIER, Arrays.asList(1), Arrays.asList(2));
+		executor.addDependency(2, 3);
+
+		executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(processedIds()).containsExactly(1, 2, 3);
+		assertThat(this.taskProvider.parents.get(2)).containsExactly(1);
+	}
+
+	private DefaultDexecutor<Integer, Integer> newExecutor() {
+		DefaultDexecutor<Integer, Integer> executor = new DefaultDexecutor<Integer, Integer>(this.config);
+		executor.addBarrier(FIRST_BARRIER, Arrays.asList(1, 2, 3), Arrays.asList(4, 5));
+		executor.addBarrier(SECOND_BARRIER, Arrays.asList(4, 5), Arrays.asList(6));
+		return executor;
+	}
+
+	private Node<Integer, Integer> node(final Integer id) {
+		return this.config.getDexecutorState().getGraphNode(id);
+	}
+
+	private Collection<Integer> processedIds() {
+		Set<Integer> ids = new CopyOnWriteArraySet<Integer>();
+		for (Node<Integer, Integer> node : this.config.getDexecutorState().getProcessedNodes()) {
+			ids.add(node.getValue());
+		}
+		return ids;
+	}
+
+	private static class ParentRecordingTaskProvider implements TaskProvider<Integer, Integer> {
+
+		private final Map<Integer, Collection<Integer>> parents = new ConcurrentHashMap<Integer, Collection<Integer>>();
+		private final Map<Integer, Collection<Integer>> erroredParents = new ConcurrentHashMap<Integer, Collection<Integer>>();
+		private final Set<Integer> provided = new CopyOnWriteArraySet<Integer>();
+		private volatile Integer failing;
+
+		public Task<Integer, Integer> provideTask(final Integer id) {
+			this.provided.add(id);
+			return new Task<Integer, Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				public Integer execute() {
+					if (id.equals(failing)) {
+						throw new IllegalStateException("Failing node " + id);
+					}
+					return id;
+				}
+
+				@Override
+				public boolean shouldExecute(final ExecutionResults<Integer, Integer> parentResults) {
+					Collection<Integer> ids = new CopyOnWriteArraySet<Integer>();
+					Collection<Integer> errored = new CopyOnWriteArraySet<Integer>();
+					for (ExecutionResult<Integer, Integer> result : parentResults.getAll()) {
+						ids.add(result.getId());
+						if (result.isErrored()) {
+							errored.add(result.getId());
+						}
+					}
+					parents.put(id, ids);
+					erroredParents.put(id, errored);
+					return true;
+				}
+			};
+		}
+	}
+}
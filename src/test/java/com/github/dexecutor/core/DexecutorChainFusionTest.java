@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.dexecutor.core.graph.Node;
+import com.github.dexecutor.core.support.TestUtil;
+import com.github.dexecutor.core.support.ThreadPoolUtil;
+import com.github.dexecutor.core.task.ExecutionResults;
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskProvider;
+
+public class DexecutorChainFusionTest {
+
+	private ExecutorService executorService;
+	private ThreadRecordingTaskProvider taskProvider;
+	private DefaultDexecutor<Integer, Integer> executor;
+	private DexecutorState<Integer, Integer> state;
+
+	@Before
+	public void doBeforeEachTestCase() {
+		this.executorService = Executors.newFixedThreadPool(ThreadPoolUtil.ioIntesivePoolSize());
+		this.taskProvider = new ThreadRecordingTaskProvider();
+		DexecutorConfig<Integer, Integer> config = new DexecutorConfig<>(this.executorService, this.taskProvider);
+		config.setChainFusionEnabled(true);
+		this.state = config.getDexecutorState();
+		this.executor = new DefaultDexecutor<Integer, Integer>(config);
+		this.executor.addDependency(1, 2);
+		this.executor.addDependency(2, 3);
+		this.executor.addDependency(3, 4);
+		this.executor.addDependency(4, 5);
+		this.executor.addDependency(4, 6);
+		this.executor.addDependency(5, 7);
+		this.executor.addDependency(6, 7);
+	}
+
+	@After
+	public void doAfterEachTestCase() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	public void shouldExecuteChainOnOneThread() {
+		this.executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.taskProvider.threads).containsOnlyKeys(1, 2, 3, 4, 5, 6, 7);
+		assertThat(this.taskProvider.threads.get(2)).isEqualTo(this.taskProvider.threads.get(1));
+		assertThat(this.taskProvider.threads.get(3)).isEqualTo(this.taskProvider.threads.get(1));
+		assertThat(this.taskProvider.threads.get(4)).isEqualTo(this.taskProvider.threads.get(1));
+
+		Collection<Node<Integer, Integer>> processedNodes = TestUtil.processedNodesOrder(this.executor);
+		assertThat(processedNodes).hasSize(7);
+		for (Node<Integer, Integer> node : processedNodes) {
+			assertThat(node.isSuccess()).isTrue();
+			assertThat(node.getResult()).isEqualTo(node.getValue());
+		}
+	}
+
+	@Test
+	public void shouldPreserveSkipSemantics() {
+		this.taskProvider.skipped = 3;
+
+		this.executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.taskProvider.threads).containsOnlyKeys(1, 2, 4, 5, 6, 7);
+		assertThat(node(3).isSkipped()).isTrue();
+		assertThat(node(4).isSuccess()).isTrue();
+	}
+
+	@Test
+	public void shouldRetryFailedLink() {
+		this.taskProvider.failures.put(3, new AtomicInteger(2));
+
+		this.executor.execute(new ExecutionConfig().immediateRetrying(3));
+
+		assertThat(this.taskProvider.threads).containsOnlyKeys(1, 2, 3, 4, 5, 6, 7);
+		assertThat(node(3).isSuccess()).isTrue();
+		assertThat(TestUtil.processedNodesOrder(this.executor)).hasSize(9);
+	}
+
+	@Test
+	public void shouldStopChainOnError() {
+		this.taskProvider.failures.put(2, new AtomicInteger(1));
+
+		this.executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.taskProvider.threads).containsOnlyKeys(1);
+		assertThat(node(2).isErrored()).isTrue();
+		assertThat(node(3).isNotProcessed()).isTrue();
+	}
+
+	private Node<Integer, Integer> node(final Integer id) {
+		return this.state.getGraphNode(id);
+	}
+
+	private static class ThreadRecordingTaskProvider implements TaskProvider<Integer, Integer> {
+
+		private final Map<Integer, Thread> threads = new ConcurrentHashMap<Integer, Thread>();
+		private final Map<Integer, AtomicInteger> failures = new ConcurrentHashMap<Integer, AtomicInteger>();
+		private volatile Integer skipped;
+
+		public Task<Integer, Integer> provideTask(final Integer id) {
+
+			return new Task<Integer, Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				public Integer execute() {
+					AtomicInteger failure = failures.get(id);
+					if (failure != null && failure.getAndDecrement() > 0) {
+						throw new IllegalStateException("Failing node " + id);
+					}
+					threads.put(id, Thread.currentThread());
+					return id;
+				}
+
+				@Override
+				public boolean shouldExecute(final ExecutionResults<Integer, Integer> parentResults) {
+					return !id.equals(skipped);
+				}
+			};
+		}
+	}
+}
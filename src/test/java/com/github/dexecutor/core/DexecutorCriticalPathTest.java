@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.dexecutor.core.graph.CriticalPath;
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskProvider;
+
+public class DexecutorCriticalPathTest {
+
+	private ExecutorService executorService;
+
+	@Before
+	public void doBeforeEachTestCase() {
+		this.executorService = Executors.newFixedThreadPool(4);
+	}
+
+	@After
+	public void doAfterEachTestCase() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	public void shouldComputeCriticalPathFromMeasuredTimes() {
+		DefaultDexecutor<Integer, Integer> executor = newExecutor();
+
+		executor.execute(ExecutionConfig.TERMINATING);
+		CriticalPath<Integer> criticalPath = executor.criticalPath();
+
+		assertThat(criticalPath.getPath()).containsExactly(1, 2, 4);
+		assertThat(criticalPath.getExecutionTime(2)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+		assertThat(criticalPath.getSlack(2)).isEqualTo(0);
+		assertThat(criticalPath.getSlack(3)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(30));
+		assertThat(criticalPath.getBestMakespan()).isLessThanOrEqualTo(criticalPath.getActualMakespan());
+		assertThat(criticalPath.getBestMakespan()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(70));
+	}
+
+	@Test
+	public void shouldMeasureActualMakespanOfLastRunOnly() throws InterruptedException {
+		DefaultDexecutor<Integer, Integer> executor = newExecutor();
+		executor.execute(ExecutionConfig.TERMINATING);
+		TimeUnit.MILLISECONDS.sleep(200);
+
+		executor.executeIncrementally(Arrays.asList(4), ExecutionConfig.TERMINATING);
+		CriticalPath<Integer> criticalPath = executor.criticalPath();
+
+		assertThat(criticalPath.getActualMakespan()).isLessThan(TimeUnit.MILLISECONDS.toNanos(100));
+		assertThat(criticalPath.getBestMakespan()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(70));
+	}
+
+	@Test
+	public void shouldReportNothingBeforeExecution() {
+		CriticalPath<Integer> criticalPath = newExecutor().criticalPath();
+
+		assertThat(criticalPath.getBestMakespan()).isEqualTo(0);
+		assertThat(criticalPath.getActualMakespan()).isEqualTo(0);
+		assertThat(criticalPath.getSlacks()).containsOnlyKeys(1, 2, 3, 4);
+	}
+
+	private DefaultDexecutor<Integer, Integer> newExecutor() {
+		DexecutorConfig<Integer, Integer> config = new DexecutorConfig<>(this.executorService, new SleepyTaskProvider());
+		DefaultDexecutor<Integer, Integer> executor = new DefaultDexecutor<Integer, Integer>(config);
+		executor.addDependency(1, 2);
+		executor.addDependency(1, 3);
+		executor.addDependency(2, 4);
+		executor.addDependency(3, 4);
+		return executor;
+	}
+
+	private static final class SleepyTaskProvider implements TaskProvider<Integer, Integer> {
+
+		@Override
+		public Task<Integer, Integer> provideTask(final Integer id) {
+			return new Task<Integer, Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				public Integer execute() {
+					try {
+						TimeUnit.MILLISECONDS.sleep(getId() == 2 ? 50 : 10);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return getId();
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.dexecutor.core.support.ThreadPoolUtil;
+import com.github.dexecutor.core.task.DataFlowTask;
+import com.github.dexecutor.core.task.ExecutionResult;
+import com.github.dexecutor.core.task.ExecutionResults;
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskProvider;
+
+public class DexecutorDataFlowTest {
+
+	private ExecutorService executorService;
+	private DexecutorConfig<Integer, Integer> config;
+
+	@Before
+	public void doBeforeEachTestCase() {
+		this.executorService = Executors.newFixedThreadPool(ThreadPoolUtil.ioIntesivePoolSize());
+		this.config = new DexecutorConfig<>(this.executorService, new SummingTaskProvider());
+	}
+
+	@After
+	public void doAfterEachTestCase() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	public void shouldHandParentResultsToExecute() {
+		newExecutor().execute(ExecutionConfig.TERMINATING);
+
+		assertThat(result(1)).isEqualTo(1);
+		assertThat(result(2)).isEqualTo(3);
+		assertThat(result(3)).isEqualTo(4);
+		assertThat(result(4)).isEqualTo(11);
+		assertThat(result(5)).isEqualTo(16);
+	}
+
+	@Test
+	public void shouldHandPreviousLinkResultToFusedTasks() {
+		this.config.setChainFusionEnabled(true);
+
+		newExecutor().execute(ExecutionConfig.TERMINATING);
+
+		assertThat(result(4)).isEqualTo(11);
+		assertThat(result(5)).isEqualTo(16);
+	}
+
+	@Test
+	public void shouldReleaseConsumedResults() {
+		this.config.setResultReleaseEnabled(true);
+
+		newExecutor().execute(ExecutionConfig.TERMINATING);
+
+		assertThat(result(1)).isNull();
+		assertThat(result(2)).isNull();
+		assertThat(result(4)).isNull();
+		assertThat(result(5)).isEqualTo(16);
+	}
+
+	private DefaultDexecutor<Integer, Integer> newExecutor() {
+		DefaultDexecutor<Integer, Integer> executor = new DefaultDexecutor<Integer, Integer>(this.config);
+		executor.addDependency(1, 2);
+		executor.addDependency(1, 3);
+		executor.addDependency(2, 4);
+		executor.addDependency(3, 4);
+		executor.addDependency(4, 5);
+		return executor;
+	}
+
+	private Integer result(final Integer id) {
+		return this.config.getDexecutorState().getGraphNode(id).getResult();
+	}
+
+	private static class SummingTaskProvider implements TaskProvider<Integer, Integer> {
+
+		public Task<Integer, Integer> provideTask(final Integer id) {
+			return new DataFlowTask<Integer, Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected Integer execute(final ExecutionResults<Integer, Integer> parentResults) {
+					int sum = id;
+					for (ExecutionResult<Integer, Integer> parentResult : parentResults) {
+						sum += parentResult.getResult();
+					}
+					return sum;
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.dexecutor.core.event.ExecutionEvent;
+import com.github.dexecutor.core.event.ExecutionEventType;
+import com.github.dexecutor.core.event.ExecutionListener;
+import com.github.dexecutor.core.task.ExecutionResults;
+import com.github.dexecutor.core.task.ExecutionStatus;
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskProvider;
+
+public class DexecutorExecutionListenerTest {
+
+	private ExecutorService executorService;
+	private RecordingListener listener;
+	private DexecutorConfig<Integer, Integer> config;
+
+	@Before
+	public void doBeforeEachTestCase() {
+		this.executorService = Executors.newFixedThreadPool(4);
+		this.listener = new RecordingListener();
+		this.config = new DexecutorConfig<>(this.executorService, new EventTaskProvider());
+		this.config.addExecutionListener(this.listener);
+	}
+
+	@After
+	public void doAfterEachTestCase() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	public void shouldPublishLifecycleOfEachNode() {
+		DefaultDexecutor<Integer, Integer> executor = newExecutor();
+
+		executor.execute(ExecutionConfig.TERMINATING);
+
+		for (int id = 1; id <= 4; id++) {
+			assertThat(this.listener.typesOf(id)).containsExactly(ExecutionEventType.READY, ExecutionEventType.SUBMITTED,
+					ExecutionEventType.STARTED, ExecutionEventType.FINISHED);
+			assertThat(this.listener.statusOf(id)).isEqualTo(ExecutionStatus.SUCCESS);
+		}
+		assertThat(this.listener.sequences).isSorted();
+	}
+
+	@Test
+	public void shouldTimeStampFromWorker() {
+		DefaultDexecutor<Integer, Integer> executor = newExecutor();
+
+		executor.execute(ExecutionConfig.TERMINATING);
+
+		for (Record record : this.listener.records) {
+			assertThat(record.timestamp).isGreaterThan(0);
+		}
+		assertThat(this.listener.timeOf(1, ExecutionEventType.STARTED)).isLessThanOrEqualTo(this.listener.timeOf(1, ExecutionEventType.FINISHED));
+		assertThat(this.listener.timeOf(1, ExecutionEventType.FINISHED)).isLessThanOrEqualTo(this.listener.timeOf(2, ExecutionEventType.STARTED));
+	}
+
+	@Test
+	public void shouldPublishSkippedNodes() {
+		DefaultDexecutor<Integer, Integer> executor = newExecutor();
+		executor.addDependency(4, 5);
+
+		executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.listener.typesOf(5)).containsExactly(ExecutionEventType.READY, ExecutionEventType.SKIPPED);
+	}
+
+	@Test
+	public void shouldPublishRetries() {
+		DefaultDexecutor<Integer, Integer> executor = newExecutor();
+		executor.addDependency(4, 6);
+
+		executor.execute(new ExecutionConfig().immediateRetrying(1));
+
+		assertThat(this.listener.typesOf(6)).containsExactly(ExecutionEventType.READY, ExecutionEventType.SUBMITTED,
+				ExecutionEventType.STARTED, ExecutionEventType.FINISHED, ExecutionEventType.RETRIED,
+				ExecutionEventType.STARTED, ExecutionEventType.FINISHED);
+		assertThat(this.listener.statusOf(6)).isEqualTo(ExecutionStatus.ERRORED);
+	}
+
+	@Test
+	public void shouldDeliverAllEventsThroughSmallBuffer() {
+		this.config.setEventBufferSize(2);
+		DefaultDexecutor<Integer, Integer> executor = new DefaultDexecutor<Integer, Integer>(this.config);
+		for (int id = 100; id < 299; id++) {
+			executor.addDependency(id, id + 1);
+		}
+
+		executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.listener.records).hasSize(200 * 4);
+		assertThat(this.listener.typesOf(299)).contains(ExecutionEventType.FINISHED);
+	}
+
+	private DefaultDexecutor<Integer, Integer> newExecutor() {
+		DefaultDexecutor<Integer, Integer> executor = new DefaultDexecutor<Integer, Integer>(this.config);
+		executor.addDependency(1, 2);
+		executor.addDependency(1, 3);
+		executor.addDependency(2, 4);
+		executor.addDependency(3, 4);
+		return executor;
+	}
+
+	private static final class Record {
+		private final ExecutionEventType type;
+		private final Integer id;
+		private final ExecutionStatus status;
+		private final long timestamp;
+
+		Record(final ExecutionEvent<Integer> event) {
+			this.type = event.getType();
+			this.id = event.getId();
+			this.status = event.getStatus();
+			this.timestamp = event.getTimestamp();
+		}
+	}
+
+	private static final class RecordingListener implements ExecutionListener<Integer> {
+
+		private final List<Record> records = new ArrayList<Record>();
+		private final List<Long> sequences = new ArrayList<Long>();
+
+		@Override
+		public void onEvent(final ExecutionEvent<Integer> event) {
+			this.records.add(new Record(event));
+			this.sequences.add(event.getSequence());
+		}
+
+		List<ExecutionEventType> typesOf(final Integer id) {
+			List<ExecutionEventType> types = new ArrayList<ExecutionEventType>();
+			for (Record record : this.records) {
+				if (record.id.equals(id)) {
+					types.add(record.type);
+				}
+			}
+			return types;
+		}
+
+		ExecutionStatus statusOf(final Integer id) {
+			ExecutionStatus status = null;
+			for (Record record : this.records) {
+				if (record.id.equals(id) && record.type == ExecutionEventType.FINISHED) {
+					status = record.status;
+				}
+			}
+			return status;
+		}
+
+		long timeOf(final Integer id, final ExecutionEventType type) {
+			for (Record record : this.records) {
+				if (record.id.equals(id) && record.type == type) {
+					return record.timestamp;
+				}
+			}
+			throw new AssertionError("No " + type + " for " + id);
+		}
+	}
+
+	private static final class EventTaskProvider implements TaskProvider<Integer, Integer> {
+
+		@Override
+		public Task<Integer, Integer> provideTask(final Integer id) {
+			return new Task<Integer, Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				public Integer execute() {
+					if (getId() == 6) {
+						throw new IllegalStateException("Failing " + getId());
+					}
+					return getId();
+				}
+
+				@Override
+				public boolean shouldExecute(final ExecutionResults<Integer, Integer> parentResults) {
+					return getId() != 5;
+				}
+			};
+		}
+	}
+}
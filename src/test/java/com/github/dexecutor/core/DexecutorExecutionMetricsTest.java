@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.dexecutor.core.metrics.ExecutionMetrics;
+import com.github.dexecutor.core.metrics.LatencyMetrics;
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskProvider;
+
+public class DexecutorExecutionMetricsTest {
+
+	private ExecutorService executorService;
+	private ExecutionMetrics<Integer> metrics;
+
+	@Before
+	public void doBeforeEachTestCase() {
+		this.executorService = Executors.newFixedThreadPool(4);
+		this.metrics = new ExecutionMetrics<Integer>();
+	}
+
+	@After
+	public void doAfterEachTestCase() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	public void shouldRecordLatenciesOfEachNodeAcrossRuns() {
+		for (int run = 0; run < 3; run++) {
+			newExecutor().execute(ExecutionConfig.TERMINATING);
+		}
+
+		assertThat(this.metrics.getNodeMetrics()).containsOnlyKeys(1, 2, 3, 4);
+		for (LatencyMetrics nodeMetrics : this.metrics.getNodeMetrics().values()) {
+			assertThat(nodeMetrics.getQueueWait().getCount()).isEqualTo(3);
+			assertThat(nodeMetrics.getRunTime().getCount()).isEqualTo(3);
+			assertThat(nodeMetrics.getCoordinationTime().getCount()).isEqualTo(3);
+		}
+		assertThat(this.metrics.getNodeMetrics().get(2).getRunTime().snapshot().getValueAtPercentile(50))
+				.isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+	}
+
+	@Test
+	public void shouldRecordLatenciesOfEachGroup() {
+		newExecutor().execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.metrics.getGroupMetrics()).containsOnlyKeys("fast", "slow");
+		assertThat(this.metrics.getGroupMetrics().get("slow").getRunTime().getCount()).isEqualTo(1);
+		assertThat(this.metrics.getGroupMetrics().get("fast").getRunTime().getCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void shouldRecordEachAttemptOfRetriedNode() {
+		DefaultDexecutor<Integer, Integer> executor = newExecutor();
+		executor.addDependency(4, 5);
+
+		executor.execute(new ExecutionConfig().immediateRetrying(2));
+
+		assertThat(this.metrics.getNodeMetrics().get(5).getRunTime().getCount()).isEqualTo(3);
+		assertThat(this.metrics.getNodeMetrics().get(5).getQueueWait().getCount()).isEqualTo(3);
+		assertThat(this.metrics.getGroupMetrics().get("fast").getRunTime().getCount()).isEqualTo(6);
+	}
+
+	private DefaultDexecutor<Integer, Integer> newExecutor() {
+		DexecutorConfig<Integer, Integer> config = new DexecutorConfig<>(this.executorService, new GroupedTaskProvider());
+		config.setExecutionMetrics(this.metrics);
+		DefaultDexecutor<Integer, Integer> executor = new DefaultDexecutor<Integer, Integer>(config);
+		executor.addDependency(1, 2);
+		executor.addDependency(1, 3);
+		executor.addDependency(2, 4);
+		executor.addDependency(3, 4);
+		return executor;
+	}
+
+	private static final class GroupedTaskProvider implements TaskProvider<Integer, Integer> {
+
+		@Override
+		public Task<Integer, Integer> provideTask(final Integer id) {
+			return new Task<Integer, Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				public Integer execute() {
+					if (getId() == 2) {
+						sleep(5);
+					}
+					if (getId() == 5) {
+						throw new IllegalStateException("Failing " + getId());
+					}
+					return getId();
+				}
+
+				@Override
+				public String getGroup() {
+					return getId() == 2 ? "slow" : "fast";
+				}
+			};
+		}
+
+		private static void sleep(final long millis) {
+			try {
+				Thread.sleep(millis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
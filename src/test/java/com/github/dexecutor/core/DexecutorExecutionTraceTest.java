@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskProvider;
+import com.github.dexecutor.core.trace.ExecutionTrace;
+
+public class DexecutorExecutionTraceTest {
+
+	private ExecutorService executorService;
+	private ExecutionTrace<Integer> trace;
+	private DexecutorConfig<Integer, Integer> config;
+
+	@Before
+	public void doBeforeEachTestCase() {
+		this.executorService = Executors.newFixedThreadPool(2);
+		this.trace = new ExecutionTrace<Integer>();
+		this.config = new DexecutorConfig<>(this.executorService, new IdTaskProvider());
+		this.config.setExecutionTrace(this.trace);
+	}
+
+	@After
+	public void doAfterEachTestCase() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	public void shouldRecordTimelineOfExecution() throws IOException {
+		DefaultDexecutor<Integer, Integer> executor = new DefaultDexecutor<Integer, Integer>(this.config);
+		executor.addDependency(1, 2);
+		executor.addDependency(1, 3);
+		executor.addDependency(2, 4);
+		executor.addDependency(3, 4);
+
+		executor.execute(ExecutionConfig.TERMINATING);
+
+		StringWriter writer = new StringWriter();
+		this.trace.writeTo(writer);
+		String json = writer.toString();
+
+		assertThat(this.trace.getExecutionCount()).isEqualTo(4);
+		assertThat(json).contains("\"cat\":\"execution\"", "\"cat\":\"coordination\"", "pool-");
+		assertThat(json).contains("\"name\":\"4\",\"cat\":\"execution\"");
+		assertThat(json.split("\"ph\":\"s\"", -1)).hasSize(5);
+	}
+
+	@Test
+	public void shouldRecordLinksOfFusedChains() {
+		this.config.setChainFusionEnabled(true);
+		DefaultDexecutor<Integer, Integer> executor = new DefaultDexecutor<Integer, Integer>(this.config);
+		executor.addDependency(1, 2);
+		executor.addDependency(2, 3);
+
+		executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.trace.getExecutionCount()).isEqualTo(3);
+	}
+
+	private static final class IdTaskProvider implements TaskProvider<Integer, Integer> {
+
+		@Override
+		public Task<Integer, Integer> provideTask(final Integer id) {
+			return new Task<Integer, Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				public Integer execute() {
+					return getId();
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.dexecutor.core.support.ThreadPoolUtil;
+import com.github.dexecutor.core.task.ExecutionResult;
+import com.github.dexecutor.core.task.FanOutTask;
+import com.github.dexecutor.core.task.GatherTask;
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskProvider;
+
+public class DexecutorFanOutTest {
+
+	private ExecutorService executorService;
+	private ShardingTaskProvider taskProvider;
+	private DexecutorConfig<Integer, Integer> config;
+
+	@Before
+	public void doBeforeEachTestCase() {
+		this.executorService = Executors.newFixedThreadPool(ThreadPoolUtil.ioIntesivePoolSize());
+		this.taskProvider = new ShardingTaskProvider();
+		this.config = new DexecutorConfig<>(this.executorService, this.taskProvider);
+	}
+
+	@After
+	public void doAfterEachTestCase() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	public void shouldGatherResultsOfAllShards() {
+		this.taskProvider.shards = 4;
+
+		newExecutor().execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.taskProvider.executed).containsOnly(1, 2, 3, 100, 101, 102, 103);
+		assertThat(this.taskProvider.gathered).containsOnly(100, 101, 102, 103);
+		assertThat(result(2)).isEqualTo(100 + 101 + 102 + 103);
+		assertThat(this.taskProvider.executed.indexOf(3)).isGreaterThan(this.taskProvider.executed.indexOf(2));
+	}
+
+	@Test
+	public void shouldGatherNoShards() {
+		this.taskProvider.shards = 0;
+
+		newExecutor().execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.taskProvider.executed).containsOnly(1, 2, 3);
+		assertThat(result(2)).isEqualTo(0);
+	}
+
+	@Test
+	public void shouldGatherShardsOfFusedChain() {
+		this.taskProvider.shards = 2;
+		this.config.setChainFusionEnabled(true);
+
+		newExecutor().execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.taskProvider.gathered).containsOnly(100, 101);
+		assertThat(result(2)).isEqualTo(100 + 101);
+	}
+
+	private DefaultDexecutor<Integer, Integer> newExecutor() {
+		DefaultDexecutor<Integer, Integer> executor = new DefaultDexecutor<Integer, Integer>(this.config);
+		executor.addDependency(1, 2);
+		executor.addDependency(2, 3);
+		return executor;
+	}
+
+	private Integer result(final Integer id) {
+		return this.config.getDexecutorState().getGraphNode(id).getResult();
+	}
+
+	private static class ShardingTaskProvider implements TaskProvider<Integer, Integer> {
+
+		private final List<Integer> executed = new CopyOnWriteArrayList<Integer>();
+		private final List<Integer> gathered = new CopyOnWriteArrayList<Integer>();
+		private volatile int shards;
+
+		public Task<Integer, Integer> provideTask(final Integer id) {
+			if (id == 1) {
+				return new FanOutTask<Integer, Integer>(2) {
+
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					protected Integer split() {
+						executed.add(id);
+						return shards;
+					}
+
+					@Override
+					protected Collection<Integer> shardsOf(final Integer output) {
+						List<Integer> result = new ArrayList<Integer>();
+						for (int i = 0; i < output; i++) {
+							result.add(100 + i);
+						}
+						return result;
+					}
+				};
+			} else if (id == 2) {
+				return new GatherTask<Integer, Integer>(1) {
+
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					protected Integer gather(final Iterator<ExecutionResult<Integer, Integer>> shardResults) {
+						executed.add(id);
+						int sum = 0;
+						while (shardResults.hasNext()) {
+							ExecutionResult<Integer, Integer> result = shardResults.next();
+							gathered.add(result.getId());
+							sum += result.getResult();
+						}
+						return sum;
+					}
+				};
+			}
+			return new Task<Integer, Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				public Integer execute() {
+					executed.add(id);
+					return id;
+				}
+			};
+		}
+	}
+}
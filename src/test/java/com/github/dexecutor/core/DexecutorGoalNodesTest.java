@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.dexecutor.core.support.TestUtil;
+import com.github.dexecutor.core.support.ThreadPoolUtil;
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskProvider;
+
+public class DexecutorGoalNodesTest {
+
+	private ExecutorService executorService;
+	private RecordingTaskProvider taskProvider;
+	private DefaultDexecutor<Integer, Integer> executor;
+
+	@Before
+	public void doBeforeEachTestCase() {
+		this.executorService = Executors.newFixedThreadPool(ThreadPoolUtil.ioIntesivePoolSize());
+		this.taskProvider = new RecordingTaskProvider();
+		this.executor = new DefaultDexecutor<Integer, Integer>(new DexecutorConfig<>(this.executorService, this.taskProvider));
+		this.executor.addDependency(1, 2);
+		this.executor.addDependency(2, 3);
+		this.executor.addDependency(1, 4);
+		this.executor.addDependency(4, 5);
+		this.executor.addDependency(6, 5);
+		this.executor.addDependency(7, 3);
+		this.executor.addIndependent(8);
+	}
+
+	@After
+	public void doAfterEachTestCase() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	public void shouldExecuteOnlyGoalNodesAndTheirDependencies() {
+		this.executor.execute(Arrays.asList(3), ExecutionConfig.TERMINATING);
+
+		assertThat(this.taskProvider.executed).containsOnly(1, 2, 3, 7);
+		assertThat(this.taskProvider.executed.indexOf(3)).isEqualTo(3);
+		assertThat(TestUtil.processedNodesOrder(this.executor)).hasSize(4);
+	}
+
+	@Test
+	public void shouldExecuteSharedDependenciesOnce() {
+		this.executor.execute(Arrays.asList(2, 5), ExecutionConfig.NON_TERMINATING);
+
+		assertThat(this.taskProvider.executed).containsOnly(1, 2, 4, 5, 6);
+		assertThat(this.taskProvider.executed).hasSize(5);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowIllegalArgumentExceptionForUnknownGoal() {
+		this.executor.execute(Arrays.asList(9), ExecutionConfig.TERMINATING);
+	}
+
+	private static class RecordingTaskProvider implements TaskProvider<Integer, Integer> {
+
+		private final List<Integer> executed = new CopyOnWriteArrayList<Integer>();
+
+		public Task<Integer, Integer> provideTask(final Integer id) {
+
+			return new Task<Integer, Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				public Integer execute() {
+					executed.add(id);
+					return id;
+				}
+			};
+		}
+	}
+}
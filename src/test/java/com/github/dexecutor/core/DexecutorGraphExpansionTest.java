@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.dexecutor.core.support.ThreadPoolUtil;
+import com.github.dexecutor.core.task.GraphExpander;
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskProvider;
+
+public class DexecutorGraphExpansionTest {
+
+	private ExecutorService executorService;
+	private ExpandingTaskProvider taskProvider;
+	private DexecutorState<Integer, Integer> state;
+	private DefaultDexecutor<Integer, Integer> executor;
+
+	@Before
+	public void doBeforeEachTestCase() {
+		this.executorService = Executors.newFixedThreadPool(ThreadPoolUtil.ioIntesivePoolSize());
+		this.taskProvider = new ExpandingTaskProvider();
+		DexecutorConfig<Integer, Integer> config = new DexecutorConfig<>(this.executorService, this.taskProvider);
+		this.state = config.getDexecutorState();
+		this.executor = new DefaultDexecutor<Integer, Integer>(config);
+		this.executor.addDependency(1, 2);
+		this.executor.addDependency(2, 3);
+		this.executor.addDependency(4, 3);
+	}
+
+	@After
+	public void doAfterEachTestCase() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	public void shouldScheduleAddedNodes() {
+		this.taskProvider.expansion = new Expansion() {
+			@Override
+			public void expand(final GraphExpander<Integer> expander) {
+				for (int shard = 10; shard < 13; shard++) {
+					expander.addChild(shard);
+					expander.addDependency(shard, 20);
+				}
+				expander.addDependency(20, 2);
+			}
+		};
+
+		this.executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.taskProvider.executed).containsOnly(1, 2, 3, 4, 10, 11, 12, 20);
+		assertThat(this.state.graphSize()).isEqualTo(8);
+		assertThat(this.taskProvider.executed.indexOf(20)).isGreaterThan(this.taskProvider.executed.indexOf(10))
+			.isGreaterThan(this.taskProvider.executed.indexOf(11)).isGreaterThan(this.taskProvider.executed.indexOf(12));
+		assertThat(this.taskProvider.executed.indexOf(2)).isGreaterThan(this.taskProvider.executed.indexOf(20));
+	}
+
+	@Test
+	public void shouldScheduleAddedNodesRequiredByGoalNodes() {
+		this.taskProvider.expansion = new Expansion() {
+			@Override
+			public void expand(final GraphExpander<Integer> expander) {
+				expander.addChild(10);
+				expander.addDependency(10, 2);
+			}
+		};
+
+		this.executor.execute(Arrays.asList(2), ExecutionConfig.TERMINATING);
+
+		assertThat(this.taskProvider.executed).containsOnly(1, 2, 10);
+	}
+
+	@Test
+	public void shouldRejectEdgesOutsideOfSubtree() {
+		this.taskProvider.expansion = new Expansion() {
+			@Override
+			public void expand(final GraphExpander<Integer> expander) {
+				expander.addChild(10);
+				expander.addDependency(10, 4);
+			}
+		};
+
+		this.executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.state.getGraphNode(1).isErrored()).isTrue();
+		assertThat(this.state.getGraphNode(10)).isNull();
+		assertThat(this.taskProvider.executed).doesNotContain(2, 3, 10);
+	}
+
+	@Test
+	public void shouldRejectCycles() {
+		this.taskProvider.expansion = new Expansion() {
+			@Override
+			public void expand(final GraphExpander<Integer> expander) {
+				expander.addChild(10);
+				expander.addDependency(10, 11);
+				expander.addDependency(11, 10);
+			}
+		};
+
+		this.executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.state.getGraphNode(1).isErrored()).isTrue();
+		assertThat(this.state.graphSize()).isEqualTo(4);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void shouldNotAllowExpansionOutsideOfExecution() {
+		this.taskProvider.expansion = new Expansion() {
+			@Override
+			public void expand(final GraphExpander<Integer> expander) {
+				expander.addChild(10);
+			}
+		};
+		this.taskProvider.provideTask(1).execute();
+	}
+
+	private interface Expansion {
+		void expand(GraphExpander<Integer> expander);
+	}
+
+	private static class ExpandingTaskProvider implements TaskProvider<Integer, Integer> {
+
+		private final List<Integer> executed = new CopyOnWriteArrayList<Integer>();
+		private volatile Expansion expansion;
+
+		public Task<Integer, Integer> provideTask(final Integer id) {
+
+			return new Task<Integer, Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				public Integer execute() {
+					if (id == 1) {
+						expansion.expand(getGraphExpander());
+					}
+					executed.add(id);
+					return id;
+				}
+			};
+		}
+	}
+}
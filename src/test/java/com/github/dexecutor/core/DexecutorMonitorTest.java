@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskProvider;
+
+public class DexecutorMonitorTest {
+
+	private static final String NAME = "monitor-test";
+
+	private ExecutorService executorService;
+	private ExecutorService callerService;
+	private BlockingTaskProvider taskProvider;
+	private DexecutorConfig<Integer, Integer> config;
+	private MBeanServer server;
+	private ObjectName objectName;
+
+	@Before
+	public void doBeforeEachTestCase() {
+		this.executorService = Executors.newFixedThreadPool(2);
+		this.callerService = Executors.newSingleThreadExecutor();
+		this.taskProvider = new BlockingTaskProvider();
+		this.config = new DexecutorConfig<>(this.executorService, this.taskProvider);
+		this.config.setJmxName(NAME);
+		this.server = ManagementFactory.getPlatformMBeanServer();
+		this.objectName = DexecutorMonitor.objectName(NAME);
+	}
+
+	@After
+	public void doAfterEachTestCase() {
+		this.taskProvider.release.countDown();
+		this.executorService.shutdownNow();
+		this.callerService.shutdownNow();
+	}
+
+	@Test
+	public void shouldExposeStateWhileExecuting() throws Exception {
+		final DefaultDexecutor<Integer, Integer> executor = new DefaultDexecutor<Integer, Integer>(this.config);
+		executor.addDependency(1, 2);
+		executor.addIndependent(3);
+		executor.addIndependent(4);
+		executor.addIndependent(5);
+
+		Future<?> execution = this.callerService.submit(new Runnable() {
+
+			@Override
+			public void run() {
+				executor.execute(ExecutionConfig.TERMINATING);
+			}
+		});
+		assertThat(this.taskProvider.started.await(10, TimeUnit.SECONDS)).isTrue();
+
+		DexecutorMXBean bean = JMX.newMXBeanProxy(this.server, this.objectName, DexecutorMXBean.class);
+		assertThat(bean.getTotalNodeCount()).isEqualTo(5);
+		assertThat(bean.getActiveWorkerCount()).isEqualTo(2);
+		assertThat(bean.getReadyQueueDepth()).isEqualTo(2);
+		assertThat(bean.getInFlightTaskCount()).isEqualTo(4);
+		assertThat(bean.getCompletedNodeCount()).isEqualTo(0);
+		assertThat(bean.getPendingResultCount()).isEqualTo(0);
+		assertThat(bean.getErrorCount()).isEqualTo(0);
+		assertThat(bean.getPendingScheduledRetryCount()).isEqualTo(0);
+		assertThat(bean.getCoordinatorUtilization()).isBetween(0.0, 1.0);
+		assertThat(bean.getElapsedTime()).isGreaterThanOrEqualTo(0);
+
+		this.taskProvider.release.countDown();
+		execution.get(10, TimeUnit.SECONDS);
+
+		assertThat(this.server.isRegistered(this.objectName)).isFalse();
+		assertThat(executor.getProgress().getDoneCount()).isEqualTo(5);
+	}
+
+	@Test
+	public void shouldNotRegisterWithoutName() {
+		this.config.setJmxName(null);
+		DefaultDexecutor<Integer, Integer> executor = new DefaultDexecutor<Integer, Integer>(this.config);
+		executor.addIndependent(1);
+		this.taskProvider.release.countDown();
+
+		executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.server.isRegistered(this.objectName)).isFalse();
+	}
+
+	@Test
+	public void shouldComputeRatesFromProgress() {
+		DefaultDexecutor<Integer, Integer> executor = new DefaultDexecutor<Integer, Integer>(this.config);
+		executor.addDependency(1, 2);
+		this.taskProvider.release.countDown();
+		DexecutorMonitor<Integer, Integer> monitor = new DexecutorMonitor<Integer, Integer>(executor, this.config.getDexecutorState(),
+				this.config.getExecutorEngine(), NAME);
+
+		assertThat(monitor.getCompletionRate()).isEqualTo(0);
+		executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(monitor.getCompletedNodeCount()).isEqualTo(2);
+		assertThat(monitor.getCompletionRate()).isGreaterThan(0);
+		assertThat(monitor.getCoordinatorBusyTime()).isLessThanOrEqualTo(monitor.getElapsedTime());
+	}
+
+	private static final class BlockingTaskProvider implements TaskProvider<Integer, Integer> {
+
+		private final CountDownLatch started = new CountDownLatch(2);
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		@Override
+		public Task<Integer, Integer> provideTask(final Integer id) {
+			return new Task<Integer, Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				public Integer execute() {
+					started.countDown();
+					try {
+						release.await(10, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return getId();
+				}
+			};
+		}
+	}
+}
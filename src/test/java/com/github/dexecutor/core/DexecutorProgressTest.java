@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.dexecutor.core.task.ExecutionResults;
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskProvider;
+
+public class DexecutorProgressTest {
+
+	private ExecutorService executorService;
+	private ExecutorService pollingService;
+	private ProgressTaskProvider taskProvider;
+
+	@Before
+	public void doBeforeEachTestCase() {
+		this.executorService = Executors.newFixedThreadPool(4);
+		this.pollingService = Executors.newSingleThreadExecutor();
+		this.taskProvider = new ProgressTaskProvider();
+	}
+
+	@After
+	public void doAfterEachTestCase() {
+		this.executorService.shutdownNow();
+		this.pollingService.shutdownNow();
+	}
+
+	@Test
+	public void shouldReportNothingBeforeExecution() {
+		ExecutionProgress progress = newExecutor().getProgress();
+
+		assertThat(progress.getTotalCount()).isEqualTo(0);
+		assertThat(progress.getElapsedTime()).isEqualTo(0);
+		assertThat(progress.getEstimatedTimeRemaining()).isEqualTo(0);
+	}
+
+	@Test
+	public void shouldReportCompletedExecution() {
+		DefaultDexecutor<Integer, Integer> executor = newExecutor();
+
+		executor.execute(ExecutionConfig.TERMINATING);
+		ExecutionProgress progress = executor.getProgress();
+
+		assertThat(progress.getTotalCount()).isEqualTo(4);
+		assertThat(progress.getSucceededCount()).isEqualTo(4);
+		assertThat(progress.getRunningCount()).isEqualTo(0);
+		assertThat(progress.getRemainingCount()).isEqualTo(0);
+		assertThat(progress.getEstimatedTimeRemaining()).isEqualTo(0);
+		assertThat(progress.getElapsedTime()).isGreaterThan(0);
+		assertThat(executor.getProgress().getElapsedTime()).isEqualTo(progress.getElapsedTime());
+	}
+
+	@Test
+	public void shouldReportProgressWhileRunning() throws Exception {
+		this.taskProvider.blocking = 4;
+		final DefaultDexecutor<Integer, Integer> executor = newExecutor();
+
+		Future<?> execution = this.pollingService.submit(new Runnable() {
+
+			@Override
+			public void run() {
+				executor.execute(ExecutionConfig.TERMINATING);
+			}
+		});
+		assertThat(this.taskProvider.blocked.await(10, TimeUnit.SECONDS)).isTrue();
+		ExecutionProgress progress = executor.getProgress();
+		this.taskProvider.release.countDown();
+		execution.get(10, TimeUnit.SECONDS);
+
+		assertThat(progress.getTotalCount()).isEqualTo(4);
+		assertThat(progress.getSucceededCount()).isEqualTo(3);
+		assertThat(progress.getRunningCount()).isEqualTo(1);
+		assertThat(progress.getRemainingCount()).isEqualTo(1);
+		assertThat(progress.getEstimatedTimeRemaining()).isGreaterThanOrEqualTo(0);
+	}
+
+	@Test
+	public void shouldCountSkippedErroredAndRetriedNodes() {
+		this.taskProvider.failing = 2;
+		this.taskProvider.skipping = 3;
+		DefaultDexecutor<Integer, Integer> executor = newExecutor();
+
+		executor.execute(new ExecutionConfig().immediateRetrying(2));
+		ExecutionProgress progress = executor.getProgress();
+
+		assertThat(progress.getSucceededCount()).isEqualTo(1);
+		assertThat(progress.getErroredCount()).isEqualTo(1);
+		assertThat(progress.getSkippedCount()).isEqualTo(1);
+		assertThat(progress.getRetriedCount()).isEqualTo(2);
+		assertThat(progress.getRunningCount()).isEqualTo(0);
+		assertThat(progress.getRemainingCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldGiveConsistentSnapshotsWhilePolled() throws Exception {
+		final DefaultDexecutor<Integer, Integer> executor = new DefaultDexecutor<Integer, Integer>(
+				new DexecutorConfig<>(this.executorService, this.taskProvider));
+		for (int id = 10; id < 500; id++) {
+			executor.addDependency(id, id + 1);
+			executor.addDependency(id, id + 1000);
+		}
+		final AtomicBoolean consistent = new AtomicBoolean(true);
+		final AtomicBoolean polling = new AtomicBoolean(true);
+		Future<?> poller = this.pollingService.submit(new Runnable() {
+
+			@Override
+			public void run() {
+				while (polling.get()) {
+					ExecutionProgress progress = executor.getProgress();
+					if (progress.getRunningCount() < 0 || progress.getDoneCount() + progress.getRunningCount() > progress.getTotalCount()) {
+						consistent.set(false);
+					}
+				}
+			}
+		});
+
+		executor.execute(ExecutionConfig.TERMINATING);
+		polling.set(false);
+		poller.get(10, TimeUnit.SECONDS);
+
+		assertThat(consistent.get()).isTrue();
+		assertThat(executor.getProgress().getSucceededCount()).isEqualTo(executor.getProgress().getTotalCount());
+	}
+
+	private DefaultDexecutor<Integer, Integer> newExecutor() {
+		DefaultDexecutor<Integer, Integer> executor = new DefaultDexecutor<Integer, Integer>(
+				new DexecutorConfig<>(this.executorService, this.taskProvider));
+		executor.addDependency(1, 2);
+		executor.addDependency(1, 3);
+		executor.addDependency(2, 4);
+		executor.addDependency(3, 4);
+		return executor;
+	}
+
+	private static final class ProgressTaskProvider implements TaskProvider<Integer, Integer> {
+
+		private final CountDownLatch blocked = new CountDownLatch(1);
+		private final CountDownLatch release = new CountDownLatch(1);
+		private volatile int blocking;
+		private volatile int failing;
+		private volatile int skipping;
+
+		@Override
+		public Task<Integer, Integer> provideTask(final Integer id) {
+			return new Task<Integer, Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				public Integer execute() {
+					if (getId() == blocking) {
+						blocked.countDown();
+						try {
+							release.await(10, TimeUnit.SECONDS);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+					}
+					if (getId() == failing) {
+						throw new IllegalStateException("Failing " + getId());
+					}
+					return getId();
+				}
+
+				@Override
+				public boolean shouldExecute(final ExecutionResults<Integer, Integer> parentResults) {
+					return getId() != skipping;
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.github.dexecutor.core.cache.InMemoryResultCache;
+import com.github.dexecutor.core.cache.ResultCache;
+import com.github.dexecutor.core.graph.Dag;
+import com.github.dexecutor.core.graph.Validator;
+import com.github.dexecutor.core.support.TestUtil;
+import com.github.dexecutor.core.support.ThreadPoolUtil;
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskProvider;
+
+public class DexecutorResultCacheTest {
+
+	@Test
+	public void shouldNotExecuteUnchangedTasksAgain() {
+		ResultCache<Integer, Integer> cache = new InMemoryResultCache<Integer, Integer>(100);
+		FingerprintedTaskProvider provider = new FingerprintedTaskProvider("v1");
+
+		execute(cache, provider);
+		assertThat(provider.executions.get(), equalTo(5));
+
+		DefaultDexecutor<Integer, Integer> executor = execute(cache, provider);
+		assertThat(provider.executions.get(), equalTo(5 + 2));
+		assertThat(TestUtil.processedNodesOrder(executor).size(), equalTo(5));
+		assertThat(TestUtil.getGraph(executor).get(5).getResult(), equalTo(5));
+		assertThat(cache.getStats().getHitCount(), equalTo(3L));
+	}
+
+	@Test
+	public void shouldExecuteChangedTaskAndItsDescendants() {
+		ResultCache<Integer, Integer> cache = new InMemoryResultCache<Integer, Integer>(100);
+		FingerprintedTaskProvider provider = new FingerprintedTaskProvider("v1");
+		execute(cache, provider);
+
+		provider.version = "v2";
+		provider.changedId = 2;
+		execute(cache, provider);
+
+		assertThat(provider.executions.get(), equalTo(5 + 4));
+	}
+
+	@Test
+	public void shouldNotRecurseThroughLongCachedChain() throws Throwable {
+		final ResultCache<Integer, Integer> cache = new InMemoryResultCache<Integer, Integer>(2000);
+		final FingerprintedTaskProvider provider = new FingerprintedTaskProvider("v1");
+		executeChain(cache, provider, 2000);
+
+		final AtomicReference<DefaultDexecutor<Integer, Integer>> executor = new AtomicReference<DefaultDexecutor<Integer, Integer>>();
+		final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+		Thread coordinator = new Thread(null, new Runnable() {
+
+			@Override
+			public void run() {
+				try {
+					executor.set(executeChain(cache, provider, 2000));
+				} catch (Throwable e) {
+					error.set(e);
+				}
+			}
+		}, "small-stack-coordinator", 256 * 1024);
+		coordinator.start();
+		coordinator.join();
+		if (error.get() != null) {
+			throw error.get();
+		}
+
+		assertThat(provider.executions.get(), equalTo(2000));
+		assertThat(cache.getStats().getHitCount(), equalTo(2000L));
+		assertThat(TestUtil.getGraph(executor.get()).get(2009).getResult(), equalTo(2009));
+	}
+
+	private DefaultDexecutor<Integer, Integer> executeChain(final ResultCache<Integer, Integer> cache, final TaskProvider<Integer, Integer> provider,
+			final int length) {
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			DexecutorConfig<Integer, Integer> config = new DexecutorConfig<>(executorService, provider);
+			config.setResultCache(cache);
+			config.setValidator(new Validator<Integer, Integer>() {
+				@Override
+				public void validate(final Dag<Integer, Integer> graph) {
+					// the default validator recurses once per node of the chain
+				}
+			});
+			DefaultDexecutor<Integer, Integer> executor = new DefaultDexecutor<Integer, Integer>(config);
+			for (int id = 10; id < 10 + length - 1; id++) {
+				executor.addDependency(id, id + 1);
+			}
+			executor.execute(ExecutionConfig.TERMINATING);
+			return executor;
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private DefaultDexecutor<Integer, Integer> execute(final ResultCache<Integer, Integer> cache, final TaskProvider<Integer, Integer> provider) {
+		ExecutorService executorService = Executors.newFixedThreadPool(ThreadPoolUtil.ioIntesivePoolSize());
+		try {
+			DexecutorConfig<Integer, Integer> config = new DexecutorConfig<>(executorService, provider);
+			config.setResultCache(cache);
+			DefaultDexecutor<Integer, Integer> executor = new DefaultDexecutor<Integer, Integer>(config);
+			executor.addDependency(1, 2);
+			executor.addDependency(2, 3);
+			executor.addDependency(3, 5);
+			executor.addDependency(4, 5);
+			executor.execute(ExecutionConfig.TERMINATING);
+			return executor;
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private static class FingerprintedTaskProvider implements TaskProvider<Integer, Integer> {
+
+		private final AtomicInteger executions = new AtomicInteger();
+		private volatile String version;
+		private volatile Integer changedId = -1;
+
+		public FingerprintedTaskProvider(final String version) {
+			this.version = version;
+		}
+
+		public Task<Integer, Integer> provideTask(final Integer id) {
+			final String fingerprint = id.equals(changedId) ? version : "v1";
+			return new Task<Integer, Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				public Integer execute() {
+					executions.incrementAndGet();
+					return id;
+				}
+
+				@Override
+				public String getFingerprint() {
+					return id == 4 ? null : fingerprint;
+				}
+			};
+		}
+	}
+}
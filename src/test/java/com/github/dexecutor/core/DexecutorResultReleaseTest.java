@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.dexecutor.core.support.ThreadPoolUtil;
+import com.github.dexecutor.core.task.ExecutionResult;
+import com.github.dexecutor.core.task.ExecutionResults;
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskProvider;
+
+public class DexecutorResultReleaseTest {
+
+	private ExecutorService executorService;
+	private ParentResultRecordingTaskProvider taskProvider;
+	private DexecutorState<Integer, Integer> state;
+	private DefaultDexecutor<Integer, Integer> executor;
+
+	@Before
+	public void doBeforeEachTestCase() {
+		this.executorService = Executors.newFixedThreadPool(ThreadPoolUtil.ioIntesivePoolSize());
+		this.taskProvider = new ParentResultRecordingTaskProvider();
+		DexecutorConfig<Integer, Integer> config = new DexecutorConfig<>(this.executorService, this.taskProvider);
+		config.setResultReleaseEnabled(true);
+		this.state = config.getDexecutorState();
+		this.executor = new DefaultDexecutor<Integer, Integer>(config);
+		this.executor.addDependency(1, 2);
+		this.executor.addDependency(1, 3);
+		this.executor.addDependency(2, 4);
+		this.executor.addDependency(3, 4);
+		this.executor.addDependency(4, 5);
+		this.executor.addDependency(4, 6);
+	}
+
+	@After
+	public void doAfterEachTestCase() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	public void shouldKeepOnlyLeafAndPinnedResults() {
+		this.executor.pinResult(2);
+
+		this.executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(result(1)).isNull();
+		assertThat(result(2)).isEqualTo(2);
+		assertThat(result(3)).isNull();
+		assertThat(result(4)).isNull();
+		assertThat(result(5)).isEqualTo(5);
+		assertThat(result(6)).isEqualTo(6);
+	}
+
+	@Test
+	public void shouldProvideParentResultsBeforeRelease() {
+		this.executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.taskProvider.parentResultsSum).containsEntry(2, 1).containsEntry(3, 1)
+			.containsEntry(4, 5).containsEntry(5, 4).containsEntry(6, 4);
+	}
+
+	@Test
+	public void shouldReleaseResultsOnceRetriedChildIsDone() {
+		this.taskProvider.failures.put(4, new AtomicInteger(1));
+
+		this.executor.execute(new ExecutionConfig().immediateRetrying(2));
+
+		assertThat(this.state.getGraphNode(4).isSuccess()).isTrue();
+		assertThat(result(2)).isNull();
+		assertThat(result(3)).isNull();
+		assertThat(this.taskProvider.parentResultsSum).containsEntry(5, 4);
+	}
+
+	@Test
+	public void shouldRejectIncrementalExecution() {
+		this.executor.execute(ExecutionConfig.TERMINATING);
+
+		try {
+			this.executor.executeIncrementally(Arrays.asList(4), ExecutionConfig.TERMINATING);
+			throw new AssertionError("Incremental execution should be rejected");
+		} catch (IllegalStateException e) {
+			assertThat(e.getMessage()).contains("result release");
+		}
+		assertThat(this.taskProvider.parentResultsSum).containsEntry(5, 4);
+	}
+
+	private Integer result(final Integer id) {
+		return this.state.getGraphNode(id).getResult();
+	}
+
+	private static class ParentResultRecordingTaskProvider implements TaskProvider<Integer, Integer> {
+
+		private final Map<Integer, Integer> parentResultsSum = new ConcurrentHashMap<Integer, Integer>();
+		private final Map<Integer, AtomicInteger> failures = new ConcurrentHashMap<Integer, AtomicInteger>();
+
+		public Task<Integer, Integer> provideTask(final Integer id) {
+
+			return new Task<Integer, Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				public Integer execute() {
+					AtomicInteger failure = failures.get(id);
+					if (failure != null && failure.getAndDecrement() > 0) {
+						throw new IllegalStateException("Failing node " + id);
+					}
+					return id;
+				}
+
+				@Override
+				public boolean shouldExecute(final ExecutionResults<Integer, Integer> parentResults) {
+					int sum = 0;
+					for (ExecutionResult<Integer, Integer> result : parentResults.getAll()) {
+						sum += result.getResult();
+					}
+					parentResultsSum.put(id, sum);
+					return true;
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.github.dexecutor.core.store.MappedFileResultStore;
+import com.github.dexecutor.core.support.ThreadPoolUtil;
+import com.github.dexecutor.core.task.ExecutionResult;
+import com.github.dexecutor.core.task.ExecutionResults;
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskProvider;
+
+public class DexecutorResultStoreTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private ExecutorService executorService;
+	private PayloadTaskProvider taskProvider;
+	private MappedFileResultStore<Integer> resultStore;
+	private DexecutorConfig<Integer, ByteBuffer> config;
+
+	@Before
+	public void doBeforeEachTestCase() throws IOException {
+		this.executorService = Executors.newFixedThreadPool(ThreadPoolUtil.ioIntesivePoolSize());
+		this.taskProvider = new PayloadTaskProvider();
+		this.resultStore = new MappedFileResultStore<Integer>(this.folder.newFolder(), 16);
+		this.config = new DexecutorConfig<>(this.executorService, this.taskProvider);
+		this.config.setResultStore(this.resultStore);
+	}
+
+	@After
+	public void doAfterEachTestCase() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	public void shouldHandStoredResultsToChildren() {
+		DefaultDexecutor<Integer, ByteBuffer> executor = newExecutor();
+
+		executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.taskProvider.parentResultsDirect).containsEntry(2, true).containsEntry(3, true);
+		assertThat(this.config.getDexecutorState().getGraphNode(1).getResult().isDirect()).isTrue();
+		assertThat(this.config.getDexecutorState().getGraphNode(1).getResult().remaining()).isEqualTo(16);
+		assertThat(this.resultStore.size()).isEqualTo(3);
+	}
+
+	@Test
+	public void shouldReleaseStoredResults() {
+		this.config.setResultReleaseEnabled(true);
+		DefaultDexecutor<Integer, ByteBuffer> executor = newExecutor();
+
+		executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.config.getDexecutorState().getGraphNode(1).getResult()).isNull();
+		assertThat(this.resultStore.size()).isEqualTo(2);
+	}
+
+	private DefaultDexecutor<Integer, ByteBuffer> newExecutor() {
+		DefaultDexecutor<Integer, ByteBuffer> executor = new DefaultDexecutor<Integer, ByteBuffer>(this.config);
+		executor.addDependency(1, 2);
+		executor.addDependency(1, 3);
+		return executor;
+	}
+
+	private static class PayloadTaskProvider implements TaskProvider<Integer, ByteBuffer> {
+
+		private final Map<Integer, Boolean> parentResultsDirect = new ConcurrentHashMap<Integer, Boolean>();
+
+		public Task<Integer, ByteBuffer> provideTask(final Integer id) {
+
+			return new Task<Integer, ByteBuffer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				public ByteBuffer execute() {
+					return ByteBuffer.wrap(new byte[16]);
+				}
+
+				@Override
+				public boolean shouldExecute(final ExecutionResults<Integer, ByteBuffer> parentResults) {
+					for (ExecutionResult<Integer, ByteBuffer> result : parentResults.getAll()) {
+						parentResultsDirect.put(id, result.getResult().isDirect());
+					}
+					return true;
+				}
+			};
+		}
+	}
+}
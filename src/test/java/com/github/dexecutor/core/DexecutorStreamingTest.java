@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.dexecutor.core.graph.Node;
+import com.github.dexecutor.core.support.ThreadPoolUtil;
+import com.github.dexecutor.core.task.StreamingTask;
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskProvider;
+
+public class DexecutorStreamingTest {
+
+	private static final int ITEMS = 100;
+
+	private ExecutorService executorService;
+	private StreamingTaskProvider taskProvider;
+	private DexecutorConfig<Integer, Integer> config;
+	private DefaultDexecutor<Integer, Integer> executor;
+
+	@Before
+	public void doBeforeEachTestCase() {
+		this.executorService = Executors.newFixedThreadPool(ThreadPoolUtil.ioIntesivePoolSize());
+		this.taskProvider = new StreamingTaskProvider();
+		this.config = new DexecutorConfig<>(this.executorService, this.taskProvider);
+		this.executor = new DefaultDexecutor<Integer, Integer>(this.config);
+		this.executor.addStreamingDependency(1, 2, 4);
+		this.executor.addStreamingDependency(2, 3, 4);
+		this.executor.addDependency(3, 4);
+	}
+
+	@After
+	public void doAfterEachTestCase() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	public void shouldOverlapStreamingStages() {
+		this.executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.taskProvider.overlapped).isTrue();
+		assertThat(result(1)).isEqualTo(ITEMS);
+		assertThat(result(2)).isEqualTo(ITEMS);
+		assertThat(result(3)).isEqualTo(2 * (ITEMS - 1) * ITEMS / 2);
+		assertThat(this.taskProvider.executed).containsExactly(4);
+	}
+
+	@Test
+	public void shouldFailConsumerWithProducer() {
+		this.taskProvider.failAt = ITEMS / 2;
+
+		this.executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(node(1).isErrored()).isTrue();
+		assertThat(node(2).isErrored()).isTrue();
+		assertThat(node(3).isErrored()).isTrue();
+		assertThat(this.taskProvider.executed).isEmpty();
+	}
+
+	@Test
+	public void shouldNotBlockProducerOfFinishedConsumer() {
+		this.taskProvider.takeOnly = 3;
+
+		this.executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(result(1)).isEqualTo(ITEMS);
+		assertThat(result(3)).isEqualTo(0 + 2 + 4);
+		assertThat(this.taskProvider.executed).containsExactly(4);
+	}
+
+	@Test
+	public void shouldNotStreamOverReducedEdge() {
+		this.executor.addStreamingDependency(1, 3, 4);
+		assertThat(this.executor.reduceTransitiveEdges(false)).isEqualTo(1);
+
+		this.executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(result(2)).isEqualTo(ITEMS);
+		assertThat(result(3)).isEqualTo(2 * (ITEMS - 1) * ITEMS / 2);
+		assertThat(this.taskProvider.streamed).hasSize(3).containsOnly(1, 2, 3);
+		assertThat(this.taskProvider.executed).containsExactly(4);
+	}
+
+	@Test
+	public void shouldNotRetryStreamingConsumer() {
+		this.taskProvider.failConsumer = true;
+
+		this.executor.execute(new ExecutionConfig().immediateRetrying(2));
+
+		assertThat(result(1)).isEqualTo(ITEMS);
+		assertThat(node(3).isErrored()).isTrue();
+		assertThat(this.taskProvider.streamed).containsOnlyOnce(3);
+		assertThat(this.taskProvider.executed).isEmpty();
+	}
+
+	private Node<Integer, Integer> node(final Integer id) {
+		return this.config.getDexecutorState().getGraphNode(id);
+	}
+
+	private Integer result(final Integer id) {
+		return node(id).getResult();
+	}
+
+	private static class StreamingTaskProvider implements TaskProvider<Integer, Integer> {
+
+		private final CountDownLatch firstItemConsumed = new CountDownLatch(1);
+		private final List<Integer> executed = new CopyOnWriteArrayList<Integer>();
+		private final List<Integer> streamed = new CopyOnWriteArrayList<Integer>();
+		private volatile boolean overlapped;
+		private volatile int failAt = -1;
+		private volatile int takeOnly = Integer.MAX_VALUE;
+		private volatile boolean failConsumer;
+
+		public Task<Integer, Integer> provideTask(final Integer id) {
+			if (id == 1) {
+				return new StreamingTask<Integer, Integer>() {
+
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					protected Integer stream() {
+						streamed.add(id);
+						for (int i = 0; i < ITEMS; i++) {
+							if (i == failAt) {
+								throw new IllegalStateException("Failing at " + i);
+							}
+							emit(i);
+							if (i == 0) {
+								overlapped = await(firstItemConsumed);
+							}
+						}
+						return ITEMS;
+					}
+				};
+			} else if (id == 2) {
+				return new StreamingTask<Integer, Integer>() {
+
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					protected Integer stream() {
+						streamed.add(id);
+						int count = 0;
+						for (Integer item : this.<Integer>input(1)) {
+							emit(item * 2);
+							firstItemConsumed.countDown();
+							count++;
+						}
+						return count;
+					}
+				};
+			} else if (id == 3) {
+				return new StreamingTask<Integer, Integer>() {
+
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					protected Integer stream() {
+						streamed.add(id);
+						int sum = 0;
+						int taken = 0;
+						for (Integer item : this.<Integer>input(2)) {
+							if (taken++ == takeOnly) {
+								break;
+							}
+							sum += item;
+						}
+						if (failConsumer) {
+							failConsumer = false;
+							throw new IllegalStateException("Failing consumer");
+						}
+						return sum;
+					}
+				};
+			}
+			return new Task<Integer, Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				public Integer execute() {
+					executed.add(id);
+					return id;
+				}
+			};
+		}
+
+		private boolean await(final CountDownLatch latch) {
+			try {
+				return latch.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+	}
+}
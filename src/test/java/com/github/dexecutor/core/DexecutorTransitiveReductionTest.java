@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.dexecutor.core.support.ThreadPoolUtil;
+import com.github.dexecutor.core.task.ExecutionResult;
+import com.github.dexecutor.core.task.ExecutionResults;
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskProvider;
+
+public class DexecutorTransitiveReductionTest {
+
+	private ExecutorService executorService;
+	private ParentRecordingTaskProvider taskProvider;
+	private DexecutorConfig<Integer, Integer> config;
+
+	@Before
+	public void doBeforeEachTestCase() {
+		this.executorService = Executors.newFixedThreadPool(ThreadPoolUtil.ioIntesivePoolSize());
+		this.taskProvider = new ParentRecordingTaskProvider();
+		this.config = new DexecutorConfig<>(this.executorService, this.taskProvider);
+	}
+
+	@After
+	public void doAfterEachTestCase() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	public void shouldReportOnlyRemainingParents() {
+		DefaultDexecutor<Integer, Integer> executor = newExecutor();
+
+		assertThat(executor.reduceTransitiveEdges(false)).isEqualTo(3);
+		executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.taskProvider.parents.get(3)).containsExactly(2);
+		assertThat(this.taskProvider.parents.get(4)).containsExactly(3);
+		assertThat(this.taskProvider.executed).containsExactly(1, 2, 3, 4);
+	}
+
+	@Test
+	public void shouldKeepRemovedParentResults() {
+		DefaultDexecutor<Integer, Integer> executor = newExecutor();
+
+		assertThat(executor.reduceTransitiveEdges(true)).isEqualTo(3);
+		executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.taskProvider.parents.get(3)).containsOnly(1, 2);
+		assertThat(this.taskProvider.parents.get(4)).containsOnly(1, 2, 3);
+		assertThat(this.taskProvider.parentResultsSum).containsEntry(3, 3).containsEntry(4, 6);
+	}
+
+	@Test
+	public void shouldKeepRemovedParentResultsTillChildIsDone() {
+		this.config.setResultReleaseEnabled(true);
+		this.config.setChainFusionEnabled(true);
+		DefaultDexecutor<Integer, Integer> executor = newExecutor();
+
+		executor.reduceTransitiveEdges(true);
+		executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.taskProvider.parentResultsSum).containsEntry(3, 3).containsEntry(4, 6);
+		assertThat(this.config.getDexecutorState().getGraphNode(1).getResult()).isNull();
+		assertThat(this.config.getDexecutorState().getGraphNode(4).getResult()).isEqualTo(4);
+	}
+
+	private DefaultDexecutor<Integer, Integer> newExecutor() {
+		DefaultDexecutor<Integer, Integer> executor = new DefaultDexecutor<Integer, Integer>(this.config);
+		executor.addDependency(1, 2);
+		executor.addDependency(2, 3);
+		executor.addDependency(1, 3);
+		executor.addDependency(3, 4);
+		executor.addDependency(1, 4);
+		executor.addDependency(2, 4);
+		return executor;
+	}
+
+	private static class ParentRecordingTaskProvider implements TaskProvider<Integer, Integer> {
+
+		private final Map<Integer, Collection<Integer>> parents = new ConcurrentHashMap<Integer, Collection<Integer>>();
+		private final Map<Integer, Integer> parentResultsSum = new ConcurrentHashMap<Integer, Integer>();
+		private final List<Integer> executed = new CopyOnWriteArrayList<Integer>();
+
+		public Task<Integer, Integer> provideTask(final Integer id) {
+			return new Task<Integer, Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				public Integer execute() {
+					executed.add(id);
+					return id;
+				}
+
+				@Override
+				public boolean shouldExecute(final ExecutionResults<Integer, Integer> parentResults) {
+					Collection<Integer> ids = new CopyOnWriteArrayList<Integer>();
+					int sum = 0;
+					for (ExecutionResult<Integer, Integer> result : parentResults.getAll()) {
+						ids.add(result.getId());
+						sum += result.getResult();
+					}
+					parents.put(id, ids);
+					parentResultsSum.put(id, sum);
+					return true;
+				}
+			};
+		}
+	}
+}
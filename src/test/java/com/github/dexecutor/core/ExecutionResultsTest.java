@@ -20,10 +20,18 @@ package com.github.dexecutor.core;
 import static org.junit.Assert.*;
 import static org.hamcrest.CoreMatchers.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Test;
 
 import com.github.dexecutor.core.task.ExecutionResult;
 import com.github.dexecutor.core.task.ExecutionResults;
+import com.github.dexecutor.core.task.ExecutionStatus;
 
 public class ExecutionResultsTest {
 
@@ -67,4 +75,43 @@ public class ExecutionResultsTest {
 		assertNotNull(results.toString());
 	}
 
+	@Test
+	public void testViewReflectsBackingResults() {
+		List<ExecutionResult<Integer, Integer>> backing = new ArrayList<ExecutionResult<Integer, Integer>>();
+		ExecutionResults<Integer, Integer> results = ExecutionResults.view(backing);
+		assertThat(results.hasAnyParentResult(), equalTo(false));
+		assertNull(results.getFirst());
+
+		backing.add(new ExecutionResult<Integer, Integer>(1, 1));
+		backing.add(new ExecutionResult<Integer, Integer>(2, 2, ExecutionStatus.SKIPPED));
+
+		assertThat(results.hasAnyParentResult(), equalTo(true));
+		assertThat(results.getFirst().getId(), equalTo(1));
+		assertThat(results.anyParentSkipped(), equalTo(true));
+		assertThat(results.getAll().size(), equalTo(2));
+		assertNotNull(results.toString());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testViewIsReadOnly() {
+		ExecutionResults<Integer, Integer> results = ExecutionResults.view(new ArrayList<ExecutionResult<Integer, Integer>>());
+		results.add(new ExecutionResult<Integer, Integer>(1, 1));
+	}
+
+	@Test
+	public void testViewIsSerializedAsCopy() throws Exception {
+		List<ExecutionResult<Integer, Integer>> backing = new ArrayList<ExecutionResult<Integer, Integer>>();
+		backing.add(new ExecutionResult<Integer, Integer>(1, 1));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(ExecutionResults.view(backing));
+		out.close();
+		@SuppressWarnings("unchecked")
+		ExecutionResults<Integer, Integer> copy = (ExecutionResults<Integer, Integer>) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+
+		assertThat(copy.getAll().size(), equalTo(1));
+		copy.add(new ExecutionResult<Integer, Integer>(2, 2));
+		assertThat(copy.getAll().size(), equalTo(2));
+	}
 }
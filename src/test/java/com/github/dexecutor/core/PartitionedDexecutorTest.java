@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.dexecutor.core.support.ThreadPoolUtil;
+import com.github.dexecutor.core.task.ExecutionResult;
+import com.github.dexecutor.core.task.ExecutionResults;
+import com.github.dexecutor.core.task.Task;
+import com.github.dexecutor.core.task.TaskProvider;
+
+public class PartitionedDexecutorTest {
+
+	private ExecutorService executorService;
+	private RecordingTaskProvider taskProvider;
+
+	@Before
+	public void doBeforeEachTestCase() {
+		this.executorService = Executors.newFixedThreadPool(ThreadPoolUtil.ioIntesivePoolSize());
+		this.taskProvider = new RecordingTaskProvider();
+	}
+
+	@After
+	public void doAfterEachTestCase() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	public void shouldExecuteAllPartitionsAndMergeResults() {
+		PartitionedDexecutor<Integer, Integer> executor = newExecutor();
+
+		ExecutionResults<Integer, Integer> results = executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(this.taskProvider.executed).containsOnly(1, 2, 3, 4, 5, 6, 7);
+		assertThat(results.getAll()).hasSize(7);
+		for (ExecutionResult<Integer, Integer> result : results.getAll()) {
+			assertThat(result.isSuccess()).isTrue();
+			assertThat(result.getResult()).isEqualTo(result.getId());
+		}
+		assertThat(this.taskProvider.executed.indexOf(3)).isGreaterThan(this.taskProvider.executed.indexOf(2));
+		assertThat(this.taskProvider.executed.indexOf(2)).isGreaterThan(this.taskProvider.executed.indexOf(1));
+		assertThat(this.taskProvider.executed.indexOf(5)).isGreaterThan(this.taskProvider.executed.indexOf(4));
+	}
+
+	@Test
+	public void shouldUseConfigOfEachPartition() {
+		final Map<Integer, Boolean> partitions = new ConcurrentHashMap<Integer, Boolean>();
+		PartitionedDexecutor<Integer, Integer> executor = new PartitionedDexecutor<Integer, Integer>(new PartitionConfigProvider<Integer, Integer>() {
+
+			@Override
+			public DexecutorConfig<Integer, Integer> provideConfig(final int partition) {
+				partitions.put(partition, Boolean.TRUE);
+				return new DexecutorConfig<Integer, Integer>(executorService, taskProvider);
+			}
+		});
+		executor.setCoordinatorThreadsCount(1);
+		executor.setMinPartitionSize(1);
+		addNodes(executor);
+
+		executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(partitions.keySet()).containsOnly(0, 1, 2);
+		assertThat(this.taskProvider.executed).hasSize(7);
+	}
+
+	@Test
+	public void shouldBatchSmallComponents() {
+		final Map<Integer, Boolean> partitions = new ConcurrentHashMap<Integer, Boolean>();
+		PartitionedDexecutor<Integer, Integer> executor = new PartitionedDexecutor<Integer, Integer>(new PartitionConfigProvider<Integer, Integer>() {
+
+			@Override
+			public DexecutorConfig<Integer, Integer> provideConfig(final int partition) {
+				partitions.put(partition, Boolean.TRUE);
+				return new DexecutorConfig<Integer, Integer>(executorService, taskProvider);
+			}
+		});
+		executor.setMinPartitionSize(3);
+		for (int id = 100; id < 107; id++) {
+			executor.addIndependent(id);
+		}
+		addNodes(executor);
+
+		ExecutionResults<Integer, Integer> results = executor.execute(ExecutionConfig.TERMINATING);
+
+		assertThat(partitions.keySet()).containsOnly(0, 1, 2, 3, 4);
+		assertThat(results.getAll()).hasSize(14);
+	}
+
+	@Test
+	public void shouldTerminateWhenPartitionFails() {
+		PartitionedDexecutor<Integer, Integer> executor = newExecutor();
+		executor.addDependency(7, 8);
+		executor.addDependency(8, 7);
+		try {
+			executor.execute(ExecutionConfig.TERMINATING);
+			throw new AssertionError("Cycle should fail the partition");
+		} catch (IllegalArgumentException e) {
+			assertThat(e.getMessage()).isNotEmpty();
+		}
+
+		try {
+			executor.execute(ExecutionConfig.TERMINATING);
+			throw new AssertionError("Dexecutor should be terminated");
+		} catch (IllegalStateException e) {
+			assertThat(e.getMessage()).contains("TERMINATED");
+		}
+	}
+
+	@Test
+	public void shouldExecuteEmptyGraph() {
+		PartitionedDexecutor<Integer, Integer> executor = new PartitionedDexecutor<Integer, Integer>(this.executorService, this.taskProvider);
+
+		assertThat(executor.execute(ExecutionConfig.TERMINATING).getAll()).isEmpty();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void shouldNotAllowToModifyGraphAfterExecution() {
+		PartitionedDexecutor<Integer, Integer> executor = newExecutor();
+		executor.execute(ExecutionConfig.TERMINATING);
+		executor.addIndependent(8);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldPropagateCycleInPartition() {
+		PartitionedDexecutor<Integer, Integer> executor = newExecutor();
+		executor.addDependency(7, 1);
+		executor.addDependency(3, 7);
+
+		executor.execute(ExecutionConfig.TERMINATING);
+	}
+
+	private PartitionedDexecutor<Integer, Integer> newExecutor() {
+		PartitionedDexecutor<Integer, Integer> executor = new PartitionedDexecutor<Integer, Integer>(this.executorService, this.taskProvider);
+		addNodes(executor);
+		return executor;
+	}
+
+	private void addNodes(final PartitionedDexecutor<Integer, Integer> executor) {
+		executor.addDependency(1, 2);
+		executor.addDependency(2, 3);
+		executor.addDependency(6, 3);
+		executor.addDependency(4, 5);
+		executor.addIndependent(7);
+	}
+
+	private static class RecordingTaskProvider implements TaskProvider<Integer, Integer> {
+
+		private final List<Integer> executed = new CopyOnWriteArrayList<Integer>();
+
+		public Task<Integer, Integer> provideTask(final Integer id) {
+
+			return new Task<Integer, Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				public Integer execute() {
+					executed.add(id);
+					return id;
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.cache;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import com.github.dexecutor.core.task.ExecutionResult;
+
+public class InMemoryResultCacheTest {
+
+	@Test
+	public void shouldEvictLeastRecentlyUsed() {
+		InMemoryResultCache<Integer, Integer> cache = new InMemoryResultCache<Integer, Integer>(2);
+		cache.put("a", new ExecutionResult<Integer, Integer>(1, 1));
+		cache.put("b", new ExecutionResult<Integer, Integer>(2, 2));
+		cache.get("a");
+		cache.put("c", new ExecutionResult<Integer, Integer>(3, 3));
+
+		assertThat(cache.size(), equalTo(2));
+		assertThat(cache.get("b"), nullValue());
+		assertThat(cache.get("a").getResult(), equalTo(1));
+		assertThat(cache.get("c").getResult(), equalTo(3));
+	}
+
+	@Test
+	public void shouldRecordHitsAndMisses() {
+		InMemoryResultCache<Integer, Integer> cache = new InMemoryResultCache<Integer, Integer>(2);
+		cache.put("a", new ExecutionResult<Integer, Integer>(1, 1));
+		cache.get("a");
+		cache.get("b");
+		cache.get("c");
+
+		assertThat(cache.getStats().getHitCount(), equalTo(1L));
+		assertThat(cache.getStats().getMissCount(), equalTo(2L));
+		assertThat(cache.getStats().getHitRate(), equalTo(1.0 / 3));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowIllegalArgumentExceptionWhenCapacityIsZero() {
+		new InMemoryResultCache<Integer, Integer>(0);
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.cache;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.github.dexecutor.core.task.ExecutionResult;
+
+public class TieredResultCacheTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void shouldSurviveAcrossInstances() throws IOException {
+		FileSystemResultCache<Integer, String> disk = new FileSystemResultCache<Integer, String>(folder.getRoot());
+		disk.put("a", new ExecutionResult<Integer, String>(1, "one"));
+
+		FileSystemResultCache<Integer, String> reopened = new FileSystemResultCache<Integer, String>(folder.getRoot());
+		assertThat(reopened.get("a").getResult(), equalTo("one"));
+		assertThat(reopened.get("b"), nullValue());
+	}
+
+	@Test
+	public void shouldPromoteSecondLevelHits() {
+		InMemoryResultCache<Integer, String> memory = new InMemoryResultCache<Integer, String>(10);
+		FileSystemResultCache<Integer, String> disk = new FileSystemResultCache<Integer, String>(folder.getRoot());
+		disk.put("a", new ExecutionResult<Integer, String>(1, "one"));
+
+		TieredResultCache<Integer, String> cache = new TieredResultCache<Integer, String>(memory, disk);
+
+		assertThat(cache.get("a").getResult(), equalTo("one"));
+		assertThat(memory.size(), equalTo(1));
+		assertThat(cache.get("a").getResult(), equalTo("one"));
+		assertThat(cache.get("b"), nullValue());
+
+		assertThat(cache.getStats().getHitCount(), equalTo(2L));
+		assertThat(cache.getStats().getMissCount(), equalTo(1L));
+		assertThat(disk.getStats().getHitCount(), equalTo(1L));
+	}
+
+	@Test
+	public void shouldPutIntoBothLevels() {
+		InMemoryResultCache<Integer, String> memory = new InMemoryResultCache<Integer, String>(10);
+		FileSystemResultCache<Integer, String> disk = new FileSystemResultCache<Integer, String>(folder.getRoot());
+		TieredResultCache<Integer, String> cache = new TieredResultCache<Integer, String>(memory, disk);
+
+		cache.put("a", new ExecutionResult<Integer, String>(1, "one"));
+
+		assertThat(memory.get("a").getResult(), equalTo("one"));
+		assertThat(disk.get("a").getResult(), equalTo("one"));
+	}
+}
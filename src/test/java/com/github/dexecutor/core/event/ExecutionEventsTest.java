@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.dexecutor.core.task.ExecutionStatus;
+
+public class ExecutionEventsTest {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNonPositiveCapacity() {
+		new ExecutionEvents<Integer>(0);
+	}
+
+	@Test
+	public void shouldDeliverInOrderAcrossWrapAround() {
+		ExecutionEvents<Integer> events = new ExecutionEvents<Integer>(4);
+		final List<Integer> ids = new ArrayList<Integer>();
+		events.addListener(new ExecutionListener<Integer>() {
+
+			@Override
+			public void onEvent(final ExecutionEvent<Integer> event) {
+				ids.add(event.getId());
+			}
+		});
+
+		events.start();
+		for (int id = 0; id < 1000; id++) {
+			events.publish(ExecutionEventType.FINISHED, id, ExecutionStatus.SUCCESS, id);
+		}
+		events.stop();
+
+		assertThat(ids).hasSize(1000);
+		for (int i = 0; i < ids.size(); i++) {
+			assertThat(ids.get(i)).isEqualTo(i);
+		}
+	}
+
+	@Test
+	public void shouldIsolateFailingListener() {
+		ExecutionEvents<Integer> events = new ExecutionEvents<Integer>(8);
+		final List<ExecutionEventType> types = new ArrayList<ExecutionEventType>();
+		events.addListener(new ExecutionListener<Integer>() {
+
+			@Override
+			public void onEvent(final ExecutionEvent<Integer> event) {
+				throw new IllegalStateException("Failing listener");
+			}
+		});
+		events.addListener(new ExecutionListener<Integer>() {
+
+			@Override
+			public void onEvent(final ExecutionEvent<Integer> event) {
+				types.add(event.getType());
+			}
+		});
+
+		events.start();
+		events.publish(ExecutionEventType.READY, 1, null, 1);
+		events.publish(ExecutionEventType.SUBMITTED, 1, null, 2);
+		events.stop();
+
+		assertThat(types).containsExactly(ExecutionEventType.READY, ExecutionEventType.SUBMITTED);
+		assertThat(events.hasListeners()).isTrue();
+	}
+}
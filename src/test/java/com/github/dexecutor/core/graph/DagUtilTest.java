@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class DagUtilTest {
+
+	@Test
+	public void testDescendantsOf() {
+		Dag<Integer, Integer> graph = new DefaultDag<Integer, Integer>();
+		graph.addDependency(1, 2);
+		graph.addDependency(2, 3);
+		graph.addDependency(1, 4);
+		graph.addDependency(4, 3);
+		graph.addDependency(5, 6);
+
+		assertThat(DagUtil.descendantsOf(Arrays.asList(graph.get(4), graph.get(5))))
+			.containsOnly(graph.get(4), graph.get(3), graph.get(5), graph.get(6));
+	}
+
+	@Test
+	public void testAncestorsOf() {
+		Dag<Integer, Integer> graph = new DefaultDag<Integer, Integer>();
+		graph.addDependency(1, 2);
+		graph.addDependency(2, 3);
+		graph.addDependency(1, 4);
+		graph.addDependency(4, 3);
+		graph.addDependency(5, 6);
+
+		assertThat(DagUtil.ancestorsOf(Arrays.asList(graph.get(2))))
+			.containsOnly(graph.get(2), graph.get(1));
+		assertThat(DagUtil.ancestorsOf(Arrays.asList(graph.get(3), graph.get(6))))
+			.containsOnly(graph.get(3), graph.get(2), graph.get(4), graph.get(1), graph.get(6), graph.get(5));
+	}
+
+	@Test
+	public void testConnectedComponents() {
+		Dag<Integer, Integer> graph = new DefaultDag<Integer, Integer>();
+		graph.addDependency(1, 2);
+		graph.addDependency(3, 2);
+		graph.addDependency(4, 5);
+		graph.addIndependent(6);
+
+		List<Set<Node<Integer, Integer>>> components = DagUtil.connectedComponents(graph.allNodes());
+
+		assertThat(components).hasSize(3);
+		assertThat(components).containsOnly(
+				new HashSet<Node<Integer, Integer>>(Arrays.asList(graph.get(1), graph.get(2), graph.get(3))),
+				new HashSet<Node<Integer, Integer>>(Arrays.asList(graph.get(4), graph.get(5))),
+				new HashSet<Node<Integer, Integer>>(Arrays.asList(graph.get(6))));
+	}
+
+	@Test
+	public void testTopologicalOrder() {
+		Dag<Integer, Integer> graph = new DefaultDag<Integer, Integer>();
+		graph.addDependency(3, 4);
+		graph.addDependency(1, 2);
+		graph.addDependency(2, 3);
+		graph.addDependency(1, 3);
+
+		assertThat(DagUtil.topologicalOrder(graph.allNodes()))
+			.containsExactly(graph.get(1), graph.get(2), graph.get(3), graph.get(4));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTopologicalOrderOfCycle() {
+		Dag<Integer, Integer> graph = new DefaultDag<Integer, Integer>();
+		graph.addDependency(1, 2);
+		graph.addDependency(2, 3);
+		graph.addDependency(3, 2);
+
+		DagUtil.topologicalOrder(graph.allNodes());
+	}
+
+	@Test
+	public void testTransitiveReduction() {
+		Dag<Integer, Integer> graph = new DefaultDag<Integer, Integer>();
+		graph.addDependency(1, 2);
+		graph.addDependency(2, 3);
+		graph.addDependency(3, 4);
+		graph.addDependency(1, 3);
+		graph.addDependency(1, 4);
+		graph.addDependency(2, 4);
+		graph.addDependency(1, 5);
+		graph.addDependency(5, 4);
+
+		Map<Node<Integer, Integer>, Set<Node<Integer, Integer>>> removed = DagUtil.transitiveReduction(graph.allNodes());
+
+		assertThat(removed).hasSize(2);
+		assertThat(removed.get(graph.get(3))).containsOnly(graph.get(1));
+		assertThat(removed.get(graph.get(4))).containsOnly(graph.get(1), graph.get(2));
+		assertThat(graph.get(1).getOutGoingNodes()).containsOnly(graph.get(2), graph.get(5));
+		assertThat(graph.get(4).getInComingNodes()).containsOnly(graph.get(3), graph.get(5));
+		assertThat(DagUtil.transitiveReduction(graph.allNodes())).isEmpty();
+	}
+
+	@Test
+	public void testCriticalPath() {
+		Dag<Integer, Integer> graph = new DefaultDag<Integer, Integer>();
+		graph.addDependency(1, 2);
+		graph.addDependency(1, 3);
+		graph.addDependency(2, 4);
+		graph.addDependency(3, 4);
+		graph.addIndependent(5);
+		executed(graph, 1, 0, 10);
+		executed(graph, 2, 12, 62);
+		executed(graph, 3, 12, 32);
+		executed(graph, 4, 65, 75);
+		executed(graph, 5, 0, 5);
+
+		CriticalPath<Integer> criticalPath = DagUtil.criticalPath(graph.allNodes());
+
+		assertThat(criticalPath.getPath()).containsExactly(1, 2, 4);
+		assertThat(criticalPath.getBestMakespan()).isEqualTo(70);
+		assertThat(criticalPath.getActualMakespan()).isEqualTo(75);
+		assertThat(criticalPath.getTotalWork()).isEqualTo(95);
+		assertThat(criticalPath.getSlack(1)).isEqualTo(0);
+		assertThat(criticalPath.getSlack(3)).isEqualTo(30);
+		assertThat(criticalPath.getSlack(5)).isEqualTo(65);
+		assertThat(criticalPath.getExecutionTime(2)).isEqualTo(50);
+		assertThat(criticalPath.getMakespanLowerBound(1)).isEqualTo(95);
+		assertThat(criticalPath.getMakespanLowerBound(4)).isEqualTo(70);
+	}
+
+	@Test
+	public void testCriticalPathSkipsBarriersAndNotExecutedNodes() {
+		Dag<Integer, Integer> graph = new DefaultDag<Integer, Integer>();
+		graph.addDependency(1, 100);
+		graph.addDependency(2, 100);
+		graph.addDependency(100, 3);
+		graph.addBarrier(100);
+		executed(graph, 1, 0, 10);
+		executed(graph, 2, 0, 20);
+		executed(graph, 3, 20, 25);
+
+		CriticalPath<Integer> criticalPath = DagUtil.criticalPath(graph.allNodes());
+
+		assertThat(criticalPath.getPath()).containsExactly(2, 3);
+		assertThat(criticalPath.getSlacks()).containsOnlyKeys(1, 2, 3);
+		assertThat(criticalPath.getSlack(1)).isEqualTo(10);
+	}
+
+	@Test
+	public void testCriticalPathMeasuresActualMakespanOfLastRun() {
+		Dag<Integer, Integer> graph = new DefaultDag<Integer, Integer>();
+		graph.addDependency(1, 2);
+		graph.addDependency(2, 3);
+		executed(graph, 1, 0, 10);
+		executed(graph, 2, 1000, 1020);
+		executed(graph, 3, 1020, 1025);
+
+		CriticalPath<Integer> criticalPath = DagUtil.criticalPath(graph.allNodes(), 1000);
+
+		assertThat(criticalPath.getActualMakespan()).isEqualTo(25);
+		assertThat(criticalPath.getBestMakespan()).isEqualTo(35);
+		assertThat(DagUtil.criticalPath(graph.allNodes()).getActualMakespan()).isEqualTo(1025);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCriticalPathOfUnknownNode() {
+		Dag<Integer, Integer> graph = new DefaultDag<Integer, Integer>();
+		graph.addIndependent(1);
+
+		DagUtil.criticalPath(graph.allNodes()).getSlack(2);
+	}
+
+	private static void executed(final Dag<Integer, Integer> graph, final Integer id, final long startTime, final long endTime) {
+		graph.get(id).setExecutionTimes(startTime, endTime);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class ExecutionMetricsTest {
+
+	@Test
+	public void shouldRecordForNodeAndGroup() {
+		ExecutionMetrics<Integer> metrics = new ExecutionMetrics<Integer>();
+
+		metrics.record(1, "io", 10, 100, 1);
+		metrics.record(2, "io", 20, 200, 2);
+		metrics.record(1, "io", 30, 300, 3);
+
+		assertThat(metrics.getNodeMetrics()).containsOnlyKeys(1, 2);
+		assertThat(metrics.getNodeMetrics().get(1).getRunTime().getCount()).isEqualTo(2);
+		assertThat(metrics.getGroupMetrics()).containsOnlyKeys("io");
+		assertThat(metrics.getGroupMetrics().get("io").getQueueWait().snapshot().getMax()).isEqualTo(30);
+		assertThat(metrics.getGroupMetrics().get("io").getCoordinationTime().getCount()).isEqualTo(3);
+	}
+
+	@Test
+	public void shouldSkipUnknownLatencies() {
+		ExecutionMetrics<Integer> metrics = new ExecutionMetrics<Integer>();
+
+		metrics.record(1, null, -1, 100, 1);
+
+		assertThat(metrics.getGroupMetrics()).isEmpty();
+		assertThat(metrics.getNodeMetrics().get(1).getQueueWait().getCount()).isEqualTo(0);
+		assertThat(metrics.getNodeMetrics().get(1).getRunTime().getCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldRecordOnlyGroupsWhenNodeMetricsDisabled() {
+		ExecutionMetrics<Integer> metrics = new ExecutionMetrics<Integer>(false);
+
+		metrics.record(1, "io", 10, 100, 1);
+
+		assertThat(metrics.getNodeMetrics()).isEmpty();
+		assertThat(metrics.getGroupMetrics().get("io").getRunTime().getCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldDropMetricsOnReset() {
+		ExecutionMetrics<Integer> metrics = new ExecutionMetrics<Integer>();
+		metrics.record(1, "io", 10, 100, 1);
+
+		metrics.reset();
+
+		assertThat(metrics.getNodeMetrics()).isEmpty();
+		assertThat(metrics.getGroupMetrics()).isEmpty();
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void shouldExposeReadOnlyView() {
+		new ExecutionMetrics<Integer>().getNodeMetrics().clear();
+	}
+}
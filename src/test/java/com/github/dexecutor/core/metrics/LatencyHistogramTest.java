@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void shouldReportZeroWhenEmpty() {
+		LatencySnapshot snapshot = new LatencyHistogram().snapshot();
+
+		assertThat(snapshot.getCount()).isEqualTo(0);
+		assertThat(snapshot.getValueAtPercentile(99)).isEqualTo(0);
+		assertThat(snapshot.getMean()).isEqualTo(0);
+	}
+
+	@Test
+	public void shouldCountSmallValuesExactly() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long value = 1; value <= 100; value++) {
+			histogram.record(value);
+		}
+
+		LatencySnapshot snapshot = histogram.snapshot();
+
+		assertThat(snapshot.getCount()).isEqualTo(100);
+		assertThat(snapshot.getMin()).isEqualTo(1);
+		assertThat(snapshot.getMax()).isEqualTo(100);
+		assertThat(snapshot.getValueAtPercentile(50)).isEqualTo(50);
+		assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(100);
+		assertThat(snapshot.getMean()).isEqualTo(50.5);
+	}
+
+	@Test
+	public void shouldStayWithinPrecisionForLargeValues() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long value = 1; value <= 10000; value++) {
+			histogram.record(value * 1000);
+		}
+
+		LatencySnapshot snapshot = histogram.snapshot();
+
+		assertThat((double) snapshot.getValueAtPercentile(50)).isCloseTo(5000000, within(5000000 / 64.0));
+		assertThat((double) snapshot.getValueAtPercentile(99)).isCloseTo(9900000, within(9900000 / 64.0));
+		assertThat((double) snapshot.getValueAtPercentile(99.9)).isCloseTo(9990000, within(9990000 / 64.0));
+		assertThat(snapshot.getValueAtPercentile(100)).isEqualTo(10000000);
+	}
+
+	@Test
+	public void shouldMapEveryValueIntoItsBucket() {
+		long[] values = { 0, 1, 63, 64, 65, 127, 128, 1000, 123456789, Long.MAX_VALUE };
+		for (long value : values) {
+			int bucket = LatencyHistogram.bucketOf(value);
+			int index = bucket * LatencyHistogram.SUB_BUCKET_COUNT + LatencyHistogram.subBucketOf(value, bucket);
+			assertThat(LatencyHistogram.highestValueOf(index)).isGreaterThanOrEqualTo(value);
+			assertThat(LatencyHistogram.highestValueOf(index) - value).isLessThanOrEqualTo(Math.max(0, value / 64));
+		}
+	}
+
+	@Test
+	public void shouldRecordNegativeAsZero() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-5);
+
+		assertThat(histogram.snapshot().getMax()).isEqualTo(0);
+		assertThat(histogram.getCount()).isEqualTo(1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectInvalidPercentile() {
+		new LatencyHistogram().snapshot().getValueAtPercentile(101);
+	}
+
+	@Test
+	public void shouldRecordConcurrently() throws InterruptedException {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		final CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			for (int thread = 0; thread < 4; thread++) {
+				executorService.submit(new Runnable() {
+
+					@Override
+					public void run() {
+						try {
+							start.await();
+						} catch (InterruptedException e) {
+							return;
+						}
+						for (long value = 0; value < 25000; value++) {
+							histogram.record(value);
+						}
+					}
+				});
+			}
+			start.countDown();
+			executorService.shutdown();
+			assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		} finally {
+			executorService.shutdownNow();
+		}
+
+		assertThat(histogram.snapshot().getCount()).isEqualTo(100000);
+		assertThat(histogram.snapshot().getMax()).isEqualTo(24999);
+	}
+}
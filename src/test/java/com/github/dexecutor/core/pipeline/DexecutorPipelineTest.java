@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.dexecutor.core.ExecutionConfig;
+import com.github.dexecutor.core.support.ThreadPoolUtil;
+import com.github.dexecutor.core.task.ExecutionResult;
+import com.github.dexecutor.core.task.ExecutionResults;
+import com.github.dexecutor.core.task.Task;
+
+public class DexecutorPipelineTest {
+
+	private static final int RECORDS = 200;
+
+	private ExecutorService executorService;
+	private AddingTaskProvider taskProvider;
+	private DexecutorPipeline<Integer, Integer, Integer> pipeline;
+	private final Map<Integer, ExecutionResults<Integer, Integer>> completed = new ConcurrentHashMap<Integer, ExecutionResults<Integer, Integer>>();
+	private final RecordCallback<Integer, Integer, Integer> callback = new RecordCallback<Integer, Integer, Integer>() {
+
+		@Override
+		public void onComplete(final Integer record, final ExecutionResults<Integer, Integer> results) {
+			completed.put(record, results);
+		}
+	};
+
+	@Before
+	public void doBeforeEachTestCase() {
+		this.executorService = Executors.newFixedThreadPool(ThreadPoolUtil.ioIntesivePoolSize());
+		this.taskProvider = new AddingTaskProvider();
+		this.pipeline = new DexecutorPipeline<Integer, Integer, Integer>(this.executorService, this.taskProvider, 8);
+		this.pipeline.addDependency(1, 2);
+		this.pipeline.addDependency(1, 3);
+		this.pipeline.addDependency(2, 4);
+		this.pipeline.addDependency(3, 4);
+	}
+
+	@After
+	public void doAfterEachTestCase() {
+		this.executorService.shutdownNow();
+	}
+
+	@Test
+	public void shouldProcessAllRecordsWithinWindow() {
+		this.pipeline.start(ExecutionConfig.TERMINATING);
+		for (int record = 0; record < RECORDS; record++) {
+			this.pipeline.submit(record, this.callback);
+			assertThat(this.pipeline.getInFlightCount()).isLessThanOrEqualTo(8);
+		}
+		this.pipeline.close();
+
+		assertThat(this.completed).hasSize(RECORDS);
+		assertThat(this.pipeline.getInFlightCount()).isEqualTo(0);
+		assertThat(this.taskProvider.maxInFlightRecords.get()).isLessThanOrEqualTo(8);
+		for (int record = 0; record < RECORDS; record++) {
+			assertThat(resultOf(record, 4).getResult()).isEqualTo(2 * record + 2 + 3 + 4 + 2);
+		}
+	}
+
+	@Test
+	public void shouldKeepRecordsInFlightAtTheSameTime() throws InterruptedException {
+		final CountDownLatch release = new CountDownLatch(1);
+		this.taskProvider.blockOn = release;
+		this.pipeline.start(ExecutionConfig.TERMINATING);
+		this.pipeline.submit(1, this.callback);
+		this.pipeline.submit(2, this.callback);
+
+		assertThat(this.pipeline.getInFlightCount()).isEqualTo(2);
+		release.countDown();
+		this.pipeline.close();
+
+		assertThat(this.completed).containsOnlyKeys(1, 2);
+		assertThat(this.taskProvider.maxInFlightRecords.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldStopRecordOnError() {
+		this.taskProvider.failingRecord = 7;
+		this.pipeline.start(ExecutionConfig.TERMINATING);
+		for (int record = 0; record < 10; record++) {
+			this.pipeline.submit(record, this.callback);
+		}
+		this.pipeline.close();
+
+		assertThat(this.completed).hasSize(10);
+		assertThat(this.completed.get(7).getAll()).hasSize(3);
+		assertThat(resultOf(7, 2).isErrored()).isTrue();
+		assertThat(this.completed.get(6).getAll()).hasSize(4);
+	}
+
+	@Test(timeout = 10000)
+	public void shouldCompleteRecordWhenTaskThrowsError() {
+		this.taskProvider.failingRecord = 7;
+		this.taskProvider.failWithError = true;
+		this.pipeline.start(ExecutionConfig.TERMINATING);
+		for (int record = 0; record < 10; record++) {
+			this.pipeline.submit(record, this.callback);
+		}
+		this.pipeline.close();
+
+		assertThat(this.completed).hasSize(10);
+		assertThat(resultOf(7, 2).isErrored()).isTrue();
+		assertThat(this.pipeline.getInFlightCount()).isEqualTo(0);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void shouldNotAcceptRecordsBeforeStart() {
+		this.pipeline.submit(1, this.callback);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void shouldNotAllowToModifyGraphAfterStart() {
+		this.pipeline.start(ExecutionConfig.TERMINATING);
+		this.pipeline.addIndependent(5);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldNotSupportRetries() {
+		this.pipeline.start(new ExecutionConfig().immediateRetrying(2));
+	}
+
+	private ExecutionResult<Integer, Integer> resultOf(final Integer record, final Integer id) {
+		for (ExecutionResult<Integer, Integer> result : this.completed.get(record).getAll()) {
+			if (result.getId().equals(id)) {
+				return result;
+			}
+		}
+		return null;
+	}
+
+	private static class AddingTaskProvider implements RecordTaskProvider<Integer, Integer, Integer> {
+
+		private final Map<Integer, Boolean> inFlightRecords = new ConcurrentHashMap<Integer, Boolean>();
+		private final AtomicInteger maxInFlightRecords = new AtomicInteger();
+		private volatile CountDownLatch blockOn;
+		private volatile int failingRecord = -1;
+		private volatile boolean failWithError = false;
+
+		@Override
+		public Task<Integer, Integer> provideTask(final Integer id, final Integer record) {
+			return new Task<Integer, Integer>() {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				public Integer execute() {
+					if (id == 1) {
+						inFlightRecords.put(record, Boolean.TRUE);
+						updateMax();
+						await();
+					}
+					if (id == 2 && record == failingRecord) {
+						if (failWithError) {
+							throw new AssertionError("Failing record " + record);
+						}
+						throw new IllegalStateException("Failing record " + record);
+					}
+					int sum = id;
+					for (ExecutionResult<Integer, Integer> parent : parentResults.getAll()) {
+						sum += parent.getResult();
+					}
+					if (id == 4) {
+						inFlightRecords.remove(record);
+					}
+					return id == 1 ? sum + record : sum;
+				}
+
+				private ExecutionResults<Integer, Integer> parentResults;
+
+				@Override
+				public boolean shouldExecute(final ExecutionResults<Integer, Integer> parentResults) {
+					this.parentResults = parentResults;
+					return true;
+				}
+			};
+		}
+
+		private void updateMax() {
+			int current = this.inFlightRecords.size();
+			int max;
+			while ((max = this.maxInFlightRecords.get()) < current && !this.maxInFlightRecords.compareAndSet(max, current)) {
+			}
+		}
+
+		private void await() {
+			CountDownLatch latch = this.blockOn;
+			if (latch != null) {
+				try {
+					latch.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.github.dexecutor.core.graph.Dag;
+import com.github.dexecutor.core.graph.DefaultDag;
+
+public class DexecutorSimulatorTest {
+
+	@Test
+	public void shouldNotShortenChainWithMoreWorkers() {
+		Dag<Integer, Integer> dag = new DefaultDag<Integer, Integer>();
+		dag.addDependency(1, 2);
+		dag.addDependency(2, 3);
+		DexecutorSimulator<Integer, Integer> simulator = new DexecutorSimulator<Integer, Integer>(dag, DurationModels.<Integer>constant(10));
+
+		SimulationResult<Integer> result = simulator.simulate(2);
+
+		assertThat(result.getMakespan()).isEqualTo(30);
+		assertThat(result.getTotalWork()).isEqualTo(30);
+		assertThat(result.getUtilisation()).isEqualTo(0.5);
+		assertThat(result.getStartTime(3)).isEqualTo(20);
+		assertThat(simulator.simulate(1).getMakespan()).isEqualTo(30);
+	}
+
+	@Test
+	public void shouldShareFanOutAmongWorkers() {
+		DexecutorSimulator<Integer, Integer> simulator = fanOut();
+
+		assertThat(simulator.simulate(1).getMakespan()).isEqualTo(100);
+		assertThat(simulator.simulate(4).getMakespan()).isEqualTo(40);
+		assertThat(simulator.simulate(8).getMakespan()).isEqualTo(40);
+
+		SimulationResult<Integer> result = simulator.simulate(2);
+		assertThat(result.getMakespan()).isEqualTo(60);
+		assertThat(result.getStartTime(2)).isEqualTo(10);
+		assertThat(result.getEndTime(3)).isEqualTo(30);
+		assertThat(result.getStartTime(4)).isEqualTo(30);
+		assertThat(result.getStartTime(6)).isEqualTo(50);
+	}
+
+	@Test
+	public void shouldRecommendSmallestPoolSizeMeetingTarget() {
+		DexecutorSimulator<Integer, Integer> simulator = fanOut();
+
+		assertThat(simulator.recommendPoolSize(100, 8)).isEqualTo(1);
+		assertThat(simulator.recommendPoolSize(60, 8)).isEqualTo(2);
+		assertThat(simulator.recommendPoolSize(45, 8)).isEqualTo(4);
+		assertThat(simulator.recommendPoolSize(45, 3)).isEqualTo(-1);
+		assertThat(simulator.recommendPoolSize(30, 8)).isEqualTo(-1);
+	}
+
+	@Test
+	public void shouldReportUtilisationOverTime() {
+		SimulationResult<Integer> result = fanOut().simulate(4);
+
+		assertThat(result.getUtilisation()).isEqualTo(100.0 / 160);
+		assertThat(result.getUtilisationCurve(10)).containsExactly(0.25, 1, 1, 0.25);
+		assertThat(result.getUtilisationCurve(15)).containsExactly(0.5, 1, 0.25);
+	}
+
+	@Test
+	public void shouldPassBarriersWithoutWorkers() {
+		Dag<Integer, Integer> dag = new DefaultDag<Integer, Integer>();
+		dag.addDependency(1, 100);
+		dag.addDependency(100, 2);
+		dag.addBarrier(100);
+		DexecutorSimulator<Integer, Integer> simulator = new DexecutorSimulator<Integer, Integer>(dag, DurationModels.<Integer>constant(10));
+
+		SimulationResult<Integer> result = simulator.simulate(1);
+
+		assertThat(result.getMakespan()).isEqualTo(20);
+		assertThat(result.getStartTime(2)).isEqualTo(10);
+		try {
+			result.getStartTime(100);
+			throw new AssertionError("Barrier should not be simulated");
+		} catch (IllegalArgumentException e) {
+			assertThat(e.getMessage()).contains("100");
+		}
+	}
+
+	@Test
+	public void shouldCompareSameDurationsAcrossPoolSizes() {
+		DexecutorSimulator<Integer, Integer> simulator = new DexecutorSimulator<Integer, Integer>(fanOutDag(), DurationModels.<Integer>exponential(20));
+		simulator.setSeed(42);
+
+		assertThat(simulator.simulate(1, 3).getTotalWork()).isEqualTo(simulator.simulate(4, 3).getTotalWork(), offset(1e-9));
+		assertThat(simulator.simulate(2, 3).getMakespan()).isEqualTo(simulator.simulate(2, 3).getMakespan());
+		assertThat(simulator.simulate(2, 0).getTotalWork()).isNotEqualTo(simulator.simulate(2, 1).getTotalWork());
+	}
+
+	@Test
+	public void shouldRequireEveryReplicationToMeetTarget() {
+		DexecutorSimulator<Integer, Integer> simulator = new DexecutorSimulator<Integer, Integer>(fanOutDag(), DurationModels.<Integer>uniform(5, 30));
+		simulator.setReplications(20);
+		double target = 0;
+		for (int replication = 0; replication < 20; replication++) {
+			target = Math.max(target, simulator.simulate(4, replication).getMakespan());
+		}
+
+		int poolSize = simulator.recommendPoolSize(target, 8);
+
+		assertThat(poolSize).isBetween(2, 4);
+		for (int replication = 0; replication < 20; replication++) {
+			assertThat(simulator.simulate(poolSize, replication).getMakespan()).isLessThanOrEqualTo(target);
+		}
+		boolean missed = false;
+		for (int replication = 0; replication < 20; replication++) {
+			missed |= simulator.simulate(poolSize - 1, replication).getMakespan() > target;
+		}
+		assertThat(missed).isTrue();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectCycles() {
+		Dag<Integer, Integer> dag = new DefaultDag<Integer, Integer>();
+		dag.addDependency(1, 2);
+		dag.addDependency(2, 1);
+		new DexecutorSimulator<Integer, Integer>(dag, DurationModels.<Integer>constant(10));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void shouldRejectNegativeDurations() {
+		DexecutorSimulator<Integer, Integer> simulator = new DexecutorSimulator<Integer, Integer>(fanOutDag(), new DurationModel<Integer>() {
+			@Override
+			public double durationOf(final Integer id, final Random random) {
+				return -1;
+			}
+		});
+		simulator.simulate(1);
+	}
+
+	private static DexecutorSimulator<Integer, Integer> fanOut() {
+		Map<Integer, Integer> durations = new HashMap<Integer, Integer>();
+		durations.put(1, 10);
+		durations.put(6, 10);
+		return new DexecutorSimulator<Integer, Integer>(fanOutDag(), DurationModels.perNode(durations, DurationModels.<Integer>constant(20)));
+	}
+
+	private static Dag<Integer, Integer> fanOutDag() {
+		Dag<Integer, Integer> dag = new DefaultDag<Integer, Integer>();
+		for (int i = 2; i <= 5; i++) {
+			dag.addDependency(1, i);
+			dag.addDependency(i, 6);
+		}
+		return dag;
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.util.Collections;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.github.dexecutor.core.metrics.ExecutionMetrics;
+
+public class DurationModelsTest {
+
+	private final Random random = new Random(7);
+
+	@Test
+	public void shouldReturnConstant() {
+		assertThat(DurationModels.<Integer>constant(12.5).durationOf(1, this.random)).isEqualTo(12.5);
+	}
+
+	@Test
+	public void shouldDrawFromDistributions() {
+		DurationModel<Integer> uniform = DurationModels.uniform(10, 20);
+		DurationModel<Integer> normal = DurationModels.normal(1, 5);
+		DurationModel<Integer> exponential = DurationModels.exponential(10);
+		double total = 0;
+		for (int i = 0; i < 10000; i++) {
+			assertThat(uniform.durationOf(i, this.random)).isBetween(10.0, 20.0);
+			assertThat(normal.durationOf(i, this.random)).isGreaterThanOrEqualTo(0);
+			total += exponential.durationOf(i, this.random);
+		}
+		assertThat(total / 10000).isEqualTo(10, offset(0.5));
+	}
+
+	@Test
+	public void shouldFallBackForUnlistedNodes() {
+		DurationModel<Integer> model = DurationModels.perNode(Collections.singletonMap(1, 5), DurationModels.<Integer>constant(9));
+
+		assertThat(model.durationOf(1, this.random)).isEqualTo(5);
+		assertThat(model.durationOf(2, this.random)).isEqualTo(9);
+	}
+
+	@Test
+	public void shouldReplayRecordedRunTimes() {
+		ExecutionMetrics<Integer> metrics = new ExecutionMetrics<Integer>();
+		for (int i = 0; i < 100; i++) {
+			metrics.record(1, "group", 0, i < 50 ? 2000000 : 8000000, 0);
+		}
+		DurationModel<Integer> model = DurationModels.historical(metrics, DurationModels.<Integer>constant(1));
+
+		int fast = 0;
+		for (int i = 0; i < 1000; i++) {
+			double duration = model.durationOf(1, this.random);
+			if (duration < 5) {
+				assertThat(duration).isEqualTo(2, offset(0.05));
+				fast++;
+			} else {
+				assertThat(duration).isEqualTo(8, offset(0.2));
+			}
+		}
+		assertThat(fast).isBetween(400, 600);
+		assertThat(model.durationOf(2, this.random)).isEqualTo(1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectInvalidRange() {
+		DurationModels.uniform(20, 10);
+	}
+}
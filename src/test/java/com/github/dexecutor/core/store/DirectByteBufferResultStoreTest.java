@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+public class DirectByteBufferResultStoreTest {
+
+	private final DirectByteBufferResultStore<Integer> store = new DirectByteBufferResultStore<Integer>(4);
+
+	@Test
+	public void shouldCopyLargeBuffersIntoDirectBuffers() {
+		ByteBuffer result = ByteBuffer.wrap(new byte[] {1, 2, 3, 4});
+
+		ByteBuffer stored = this.store.store(1, result);
+
+		assertThat(stored.isDirect()).isTrue();
+		assertThat(stored.isReadOnly()).isTrue();
+		assertThat(stored).isEqualTo(result);
+	}
+
+	@Test
+	public void shouldKeepSmallAndDirectBuffers() {
+		ByteBuffer small = ByteBuffer.wrap(new byte[] {1, 2, 3});
+		ByteBuffer direct = ByteBuffer.allocateDirect(8);
+
+		assertThat(this.store.store(1, small)).isSameAs(small);
+		assertThat(this.store.store(2, direct)).isSameAs(direct);
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedFileResultStoreTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File directory;
+	private MappedFileResultStore<Integer> store;
+
+	@Before
+	public void doBeforeEachTestCase() throws IOException {
+		this.directory = this.folder.newFolder();
+		this.store = new MappedFileResultStore<Integer>(this.directory, 4);
+	}
+
+	@Test
+	public void shouldMapLargeBuffers() {
+		ByteBuffer result = ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5});
+		result.get();
+
+		ByteBuffer stored = this.store.store(1, result);
+
+		assertThat(stored.isDirect()).isTrue();
+		assertThat(stored.isReadOnly()).isTrue();
+		assertThat(stored).isEqualTo(ByteBuffer.wrap(new byte[] {2, 3, 4, 5}));
+		assertThat(result.position()).isEqualTo(1);
+		assertThat(this.store.size()).isEqualTo(1);
+		assertThat(this.directory.list()).hasSize(1);
+	}
+
+	@Test
+	public void shouldKeepSmallBuffersOnHeap() {
+		ByteBuffer result = ByteBuffer.wrap(new byte[] {1, 2, 3});
+
+		assertThat(this.store.store(1, result)).isSameAs(result);
+		assertThat(this.store.store(2, null)).isNull();
+		assertThat(this.store.size()).isEqualTo(0);
+	}
+
+	@Test
+	public void shouldDeleteFileOnRelease() {
+		this.store.store(1, ByteBuffer.wrap(new byte[] {1, 2, 3, 4}));
+		this.store.store(1, ByteBuffer.wrap(new byte[] {1, 2, 3, 4}));
+		assertThat(this.directory.list()).hasSize(1);
+
+		this.store.release(1);
+
+		assertThat(this.store.size()).isEqualTo(0);
+		assertThat(this.directory.list()).isEmpty();
+	}
+}
@@ -63,6 +63,16 @@ public class AbstractDelegatingTaskTest {
 		assertThat(this.delegatingTask.shouldExecute(null), equalTo(this.delegatingTask.getTargetTask().shouldExecute(null)));
 	}
 
+	@Test
+	public void testFingerprint() {
+		assertThat(this.delegatingTask.getFingerprint(), equalTo(this.delegatingTask.getTargetTask().getFingerprint()));
+	}
+
+	@Test
+	public void testGroup() {
+		assertThat(this.delegatingTask.getGroup(), equalTo(DummyTask.class.getName()));
+	}
+
 	private static class DummyDelegatingTask extends AbstractDelegatingTask<Integer, Integer> {
 
 		private static final long serialVersionUID = 1L;
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+public class ChannelTest {
+
+	@Test
+	public void shouldHandOverItemsUntilClosed() {
+		Channel<Integer> channel = new Channel<Integer>(3);
+		channel.put(1);
+		channel.put(2);
+		channel.close();
+
+		List<Integer> items = new ArrayList<Integer>();
+		for (Integer item : channel) {
+			items.add(item);
+		}
+
+		assertThat(items).containsExactly(1, 2);
+		assertThat(channel.iterator().hasNext()).isFalse();
+	}
+
+	@Test
+	public void shouldBlockProducerWhileFull() throws InterruptedException {
+		final Channel<Integer> channel = new Channel<Integer>(1);
+		Thread producer = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				for (int i = 0; i < 100; i++) {
+					channel.put(i);
+				}
+				channel.close();
+			}
+		});
+		producer.start();
+
+		int sum = 0;
+		for (Integer item : channel) {
+			sum += item;
+		}
+		producer.join();
+
+		assertThat(sum).isEqualTo(4950);
+	}
+
+	@Test(expected = TaskExecutionException.class)
+	public void shouldReportProducerFailure() {
+		Channel<Integer> channel = new Channel<Integer>(2);
+		channel.put(1);
+		channel.fail(new IllegalStateException("Failed"));
+
+		Iterator<Integer> iterator = channel.iterator();
+		assertThat(iterator.next()).isEqualTo(1);
+		iterator.hasNext();
+	}
+
+	@Test
+	public void shouldDiscardItemsOnceCancelled() {
+		Channel<Integer> channel = new Channel<Integer>(1);
+		channel.put(1);
+		channel.cancel();
+
+		assertThat(channel.put(2)).isFalse();
+		channel.close();
+	}
+}
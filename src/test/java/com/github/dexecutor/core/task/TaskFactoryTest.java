@@ -1,7 +1,14 @@
 package com.github.dexecutor.core.task;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
 import org.junit.Test;
 
+import com.github.dexecutor.core.store.ResultStore;
+
 import mockit.Deencapsulation;
 
 public class TaskFactoryTest {
@@ -10,4 +17,84 @@ public class TaskFactoryTest {
 	public void createInstance() {
 		Deencapsulation.newInstance(TaskFactory.class);
 	}
+
+	@Test
+	public void testNeedsParentResults() {
+		assertThat(TaskFactory.needsParentResults(new DefaultTask())).isFalse();
+		assertThat(TaskFactory.needsParentResults(new DefaultTask())).isFalse();
+		assertThat(TaskFactory.needsParentResults(new SkippingTask())).isTrue();
+		assertThat(TaskFactory.needsParentResults(new SkippingSubTask())).isTrue();
+	}
+
+	@Test
+	public void testResultStoringWorkerDelegates() {
+		final Map<Integer, Integer> stored = new HashMap<Integer, Integer>();
+		Task<Integer, Integer> task = new GroupedTask();
+		task.setId(1);
+
+		Task<Integer, Integer> worker = TaskFactory.newWorker(task, new ResultStore<Integer, Integer>() {
+
+			@Override
+			public Integer store(final Integer id, final Integer result) {
+				stored.put(id, result);
+				return result;
+			}
+
+			@Override
+			public void release(final Integer id) {
+				stored.remove(id);
+			}
+		});
+
+		assertThat(worker.getId()).isEqualTo(1);
+		assertThat(worker.getGroup()).isEqualTo("etl");
+		assertThat(worker.getFingerprint()).isEqualTo("f1");
+		assertThat(worker.execute()).isEqualTo(42);
+		assertThat(stored).containsEntry(1, 42);
+	}
+
+	private static class GroupedTask extends Task<Integer, Integer> {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public Integer execute() {
+			return 42;
+		}
+
+		@Override
+		public String getGroup() {
+			return "etl";
+		}
+
+		@Override
+		public String getFingerprint() {
+			return "f1";
+		}
+	}
+
+	private static class DefaultTask extends Task<Integer, Integer> {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public Integer execute() {
+			return null;
+		}
+	}
+
+	private static class SkippingTask extends DefaultTask {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public boolean shouldExecute(final ExecutionResults<Integer, Integer> parentResults) {
+			return !parentResults.anyParentSkipped();
+		}
+	}
+
+	private static class SkippingSubTask extends SkippingTask {
+
+		private static final long serialVersionUID = 1L;
+	}
 }
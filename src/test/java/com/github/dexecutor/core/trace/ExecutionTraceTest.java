@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.dexecutor.core.trace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.github.dexecutor.core.task.ExecutionStatus;
+
+public class ExecutionTraceTest {
+
+	@Test
+	public void shouldWriteEmptyTrace() throws IOException {
+		String json = write(new ExecutionTrace<Integer>());
+
+		assertThat(json).startsWith("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+		assertThat(json).contains("\"args\":{\"name\":\"coordinator\"}");
+		assertThat(json).doesNotContain("\"ph\":\"X\"");
+	}
+
+	@Test
+	public void shouldWriteSlicesRelativeToFirstStart() throws IOException {
+		ExecutionTrace<Integer> trace = new ExecutionTrace<Integer>();
+		trace.recordExecution(1, Collections.<Integer>emptyList(), "worker-1", ExecutionStatus.SUCCESS, 1000000, 1002500);
+		trace.recordCoordination(1, 1003000, 1003010);
+
+		String json = write(trace);
+
+		assertThat(json).contains("{\"name\":\"1\",\"cat\":\"execution\",\"ph\":\"X\",\"pid\":1,\"tid\":1,\"ts\":0.000,\"dur\":2.500");
+		assertThat(json).contains("{\"name\":\"1\",\"cat\":\"coordination\",\"ph\":\"X\",\"pid\":1,\"tid\":0,\"ts\":3.000,\"dur\":0.010}");
+		assertThat(json).contains("\"tid\":1,\"args\":{\"name\":\"worker-1\"}");
+		assertThat(trace.getExecutionCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldDrawDependenciesAndHighlightCriticalPath() throws IOException {
+		ExecutionTrace<String> trace = new ExecutionTrace<String>();
+		trace.recordExecution("a", Collections.<String>emptyList(), "w1", ExecutionStatus.SUCCESS, 0, 10000);
+		trace.recordExecution("b", Arrays.asList("a"), "w1", ExecutionStatus.SUCCESS, 11000, 50000);
+		trace.recordExecution("c", Arrays.asList("a"), "w2", ExecutionStatus.SUCCESS, 11000, 20000);
+		trace.recordExecution("d", Arrays.asList("b", "c"), "w2", ExecutionStatus.ERRORED, 51000, 60000);
+
+		String json = write(trace);
+
+		assertThat(json).contains("\"name\":\"a\",\"cat\":\"execution\",\"ph\":\"X\",\"pid\":1,\"tid\":1,\"ts\":0.000,\"dur\":10.000,\"cname\":\"terrible\"");
+		assertThat(json).contains("\"name\":\"b\",\"cat\":\"execution\",\"ph\":\"X\",\"pid\":1,\"tid\":1,\"ts\":11.000,\"dur\":39.000,\"cname\":\"terrible\"");
+		assertThat(json).contains("\"name\":\"c\",\"cat\":\"execution\",\"ph\":\"X\",\"pid\":1,\"tid\":2,\"ts\":11.000,\"dur\":9.000,\"args\":{\"status\":\"SUCCESS\",\"critical\":false}");
+		assertThat(json).contains("\"args\":{\"status\":\"ERRORED\",\"critical\":true}");
+		assertThat(count(json, "\"ph\":\"s\"")).isEqualTo(4);
+		assertThat(count(json, "\"ph\":\"f\"")).isEqualTo(4);
+	}
+
+	@Test
+	public void shouldEscapeNames() throws IOException {
+		ExecutionTrace<String> trace = new ExecutionTrace<String>();
+		trace.recordExecution("say \"hi\"\\", Collections.<String>emptyList(), null, ExecutionStatus.SUCCESS, 0, 1);
+
+		String json = write(trace);
+
+		assertThat(json).contains("\"name\":\"say \\\"hi\\\"\\\\\"");
+		assertThat(json).contains("\"args\":{\"name\":\"unknown\"}");
+	}
+
+	private static String write(final ExecutionTrace<?> trace) throws IOException {
+		StringWriter writer = new StringWriter();
+		trace.writeTo(writer);
+		return writer.toString();
+	}
+
+	private static int count(final String text, final String part) {
+		int count = 0;
+		for (int index = text.indexOf(part); index >= 0; index = text.indexOf(part, index + 1)) {
+			count++;
+		}
+		return count;
+	}
+}